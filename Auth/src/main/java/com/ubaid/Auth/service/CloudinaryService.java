@@ -1,13 +1,26 @@
 package com.ubaid.Auth.service;
 
 import com.cloudinary.Cloudinary;
+import com.cloudinary.Util;
 import com.cloudinary.utils.ObjectUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.HttpMultipartMode;
+import org.apache.http.entity.mime.MultipartEntityBuilder;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.UUID;
 
@@ -16,7 +29,17 @@ import java.util.UUID;
 @Slf4j
 public class CloudinaryService {
 
+    private static final TypeReference<Map<String, Object>> UPLOAD_RESULT = new TypeReference<>() {};
+
+    // Enough connections for every upload worker to stream at once; the client default is 2 per host
+    private static final int MAX_UPLOAD_CONNECTIONS = 32;
+
     private final Cloudinary cloudinary;
+    private final ObjectMapper objectMapper;
+    private final CloseableHttpClient httpClient = HttpClients.custom()
+            .setMaxConnPerRoute(MAX_UPLOAD_CONNECTIONS)
+            .setMaxConnTotal(MAX_UPLOAD_CONNECTIONS)
+            .build();
 
     /**
      * Upload image to Cloudinary with optimizations for profile pictures
@@ -47,18 +70,47 @@ public class CloudinaryService {
                 "fetch_format", "auto" // Auto format selection based on browser
         );
 
-        try {
-            Map uploadResult = cloudinary.uploader().upload(file.getBytes(), uploadOptions);
-            String imageUrl = uploadResult.get("secure_url").toString();
-            log.info("Image uploaded successfully to Cloudinary. Folder: {}, Size: {} MB, URL: {}",
-                    folder, getFileSizeInMB(file), imageUrl);
-            return imageUrl;
+        // The SDK only streams File sources, so send the signed request ourselves and stream
+        // the part from its own input stream instead of reading it onto the heap
+        Map<String, Object> params = Util.buildUploadParams(uploadOptions);
+        cloudinary.signRequest(params, uploadOptions);
+
+        MultipartEntityBuilder multipart = MultipartEntityBuilder.create()
+                .setMode(HttpMultipartMode.BROWSER_COMPATIBLE);
+        ContentType text = ContentType.TEXT_PLAIN.withCharset(StandardCharsets.UTF_8);
+        params.forEach((name, value) -> {
+            if (value != null) {
+                multipart.addTextBody(name, value.toString(), text);
+            }
+        });
+
+        HttpPost post = new HttpPost(cloudinary.cloudinaryApiUrl("upload", uploadOptions));
+        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename() : "file";
+        try (InputStream content = file.getInputStream()) {
+            multipart.addBinaryBody("file", content, ContentType.APPLICATION_OCTET_STREAM, filename);
+            post.setEntity(multipart.build());
+            try (CloseableHttpResponse response = httpClient.execute(post)) {
+                Map<String, Object> uploadResult = objectMapper.readValue(response.getEntity().getContent(), UPLOAD_RESULT);
+                if (response.getStatusLine().getStatusCode() != 200 || uploadResult.get("secure_url") == null) {
+                    throw new IOException("Cloudinary responded " + response.getStatusLine().getStatusCode()
+                            + ": " + uploadResult.get("error"));
+                }
+                String imageUrl = uploadResult.get("secure_url").toString();
+                log.info("Image uploaded successfully to Cloudinary. Folder: {}, Size: {} MB, URL: {}",
+                        folder, getFileSizeInMB(file), imageUrl);
+                return imageUrl;
+            }
         } catch (Exception e) {
             log.error("Failed to upload image to Cloudinary. Folder: {}, Error: {}", folder, e.getMessage(), e);
             throw new IOException("Failed to upload image to Cloudinary: " + e.getMessage(), e);
         }
     }
 
+    @PreDestroy
+    void closeHttpClient() throws IOException {
+        httpClient.close();
+    }
+
     /**
      * Upload user profile image to specific folder structure
      */
@@ -0,0 +1,23 @@
+package com.ubaid.booking_service.client;
+
+import com.ubaid.booking_service.dto.BookingEventBatch;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.net.URI;
+
+/**
+ * Delivers outbox batches to subscriber endpoints. The target is passed per call
+ * as a {@link URI}, so one client serves every configured subscriber.
+ */
+@FeignClient(
+        name = "booking-event-subscriber",
+        url = "${booking-events.default-url:http://localhost}",
+        configuration = FeignConfig.class
+)
+public interface BookingEventSubscriberClient {
+
+    @PostMapping
+    void deliver(URI subscriberUrl, @RequestBody BookingEventBatch batch);
+}
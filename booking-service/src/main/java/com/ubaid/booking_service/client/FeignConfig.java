@@ -1,16 +1,46 @@
 package com.ubaid.booking_service.client;
 
+import feign.Client;
 import feign.Logger;
 import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class FeignConfig {
 
+    @Value("${feign-transport.log-level:BASIC}")
+    private Logger.Level logLevel;
+
+    @Value("${feign-transport.log-sample-rate:0.01}")
+    private double logSampleRate;
+
+    @Value("${feign-transport.log-slow-threshold-ms:1000}")
+    private long logSlowThresholdMs;
+
+    @Value("${feign-transport.revalidation-max-entries:2000}")
+    private int revalidationMaxEntries;
+
     @Bean
     Logger.Level feignLoggerLevel() {
-        return Logger.Level.FULL;
+        return logLevel;
+    }
+
+    @Bean
+    Logger feignLogger() {
+        return new SampledFeignLogger(logSampleRate, logSlowThresholdMs);
+    }
+
+    /**
+     * Default HttpURLConnection transport with revalidation, used when pooling is off.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "feign-transport.pooled", havingValue = "false")
+    public Client feignClient(MeterRegistry meterRegistry) {
+        return new RevalidatingFeignClient(new Client.Default(null, null), revalidationMaxEntries, meterRegistry);
     }
 
     @Bean
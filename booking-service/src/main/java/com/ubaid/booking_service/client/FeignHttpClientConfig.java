@@ -0,0 +1,155 @@
+package com.ubaid.booking_service.client;
+
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.ManagedHttpClientConnection;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.io.HttpConnectionFactory;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.net.ssl.SSLSocket;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.URI;
+
+/**
+ * Pooled keep-alive Apache HC5 transport shared by all Feign clients, with a
+ * connection limit per downstream service. Set feign-transport.pooled=false to fall
+ * back to Feign's default HttpURLConnection client.
+ */
+@Configuration
+@ConditionalOnProperty(name = "feign-transport.pooled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class FeignHttpClientConfig {
+
+    @Value("${feign-transport.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${feign-transport.default-max-per-route:20}")
+    private int defaultMaxPerRoute;
+
+    @Value("${feign-transport.idle-timeout-seconds:30}")
+    private long idleTimeoutSeconds;
+
+    @Value("${feign-transport.time-to-live-seconds:300}")
+    private long timeToLiveSeconds;
+
+    @Value("${spring.cloud.openfeign.client.config.default.connectTimeout:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${feign-transport.revalidation-max-entries:2000}")
+    private int revalidationMaxEntries;
+
+    @Value("${auth-service.url}")
+    private String authServiceUrl;
+
+    @Value("${feign-transport.auth-service.max-connections:20}")
+    private int authServiceMaxConnections;
+
+    @Value("${hotel-service.url}")
+    private String hotelServiceUrl;
+
+    @Value("${feign-transport.hotel-service.max-connections:50}")
+    private int hotelServiceMaxConnections;
+
+    @Value("${room-service.url}")
+    private String roomServiceUrl;
+
+    @Value("${feign-transport.room-service.max-connections:50}")
+    private int roomServiceMaxConnections;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager feignConnectionManager(MeterRegistry meterRegistry) {
+        Counter connectionsCreated = Counter.builder("booking.http.client.connections.created")
+                .description("New TCP connections opened by the Feign transport")
+                .register(meterRegistry);
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setConnectionFactory(new CountingConnectionFactory(connectionsCreated))
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(defaultMaxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        setMaxPerRoute(connectionManager, authServiceUrl, authServiceMaxConnections);
+        setMaxPerRoute(connectionManager, hotelServiceUrl, hotelServiceMaxConnections);
+        setMaxPerRoute(connectionManager, roomServiceUrl, roomServiceMaxConnections);
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "feign").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient feignHttpClient(PoolingHttpClientConnectionManager feignConnectionManager,
+                                               MeterRegistry meterRegistry) {
+        return HttpClients.custom()
+                .setConnectionManager(feignConnectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleTimeoutSeconds))
+                .addRequestInterceptorFirst((request, entity, context) ->
+                        Counter.builder("booking.http.client.requests")
+                                .description("Requests sent through the Feign transport")
+                                .tag("host", request.getAuthority() != null ? request.getAuthority().getHostName() : "unknown")
+                                .register(meterRegistry)
+                                .increment())
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    public Client feignClient(CloseableHttpClient feignHttpClient, MeterRegistry meterRegistry) {
+        return new RevalidatingFeignClient(new ApacheHttp5Client(feignHttpClient), revalidationMaxEntries, meterRegistry);
+    }
+
+    private void setMaxPerRoute(PoolingHttpClientConnectionManager connectionManager, String url, int max) {
+        try {
+            HttpHost host = HttpHost.create(URI.create(url));
+            connectionManager.setMaxPerRoute(new HttpRoute(host), max);
+            log.info("Feign connection pool for {} limited to {} connections", host, max);
+        } catch (Exception e) {
+            log.warn("Could not configure connection pool for {}: {}", url, e.getMessage());
+        }
+    }
+
+    /**
+     * Counts new connections so reuse can be derived from connections created vs requests sent.
+     */
+    private static final class CountingConnectionFactory implements HttpConnectionFactory<ManagedHttpClientConnection> {
+        private final Counter connectionsCreated;
+
+        CountingConnectionFactory(Counter connectionsCreated) {
+            this.connectionsCreated = connectionsCreated;
+        }
+
+        @Override
+        public ManagedHttpClientConnection createConnection(Socket socket) throws IOException {
+            connectionsCreated.increment();
+            return ManagedHttpClientConnectionFactory.INSTANCE.createConnection(socket);
+        }
+
+        public ManagedHttpClientConnection createConnection(SSLSocket sslSocket, Socket socket) throws IOException {
+            connectionsCreated.increment();
+            return ManagedHttpClientConnectionFactory.INSTANCE.createConnection(sslSocket, socket);
+        }
+    }
+}
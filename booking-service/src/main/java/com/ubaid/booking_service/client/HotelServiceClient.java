@@ -1,10 +1,14 @@
 package com.ubaid.booking_service.client;
 
 import com.ubaid.booking_service.dto.ApiResponse;
+import com.ubaid.booking_service.dto.external.HotelBatchRequest;
+import com.ubaid.booking_service.dto.external.HotelBatchResponse;
 import com.ubaid.booking_service.dto.external.HotelResponseDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 @FeignClient(
         name = "hotel-listing-service",
@@ -15,4 +19,11 @@ public interface HotelServiceClient {
 
     @GetMapping("/api/hotels/public/{hotelId}")
     ApiResponse<HotelResponseDTO> getHotelById(@PathVariable("hotelId") String hotelId);
+
+    // 200 only for hotels that were deleted and are being cleaned up
+    @GetMapping("/api/hotels/public/deletions/{hotelId}")
+    ApiResponse<Object> getHotelDeletion(@PathVariable("hotelId") String hotelId);
+
+    @PostMapping("/api/hotels/public/batch")
+    ApiResponse<HotelBatchResponse> getHotelsByIds(@RequestBody HotelBatchRequest request);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.ubaid.booking_service.client;
+
+import feign.RequestInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Adds the shared internal token to calls of another service's internal endpoints.
+ * Not a @Configuration, so it only applies to the *InternalClient interfaces that list it.
+ */
+public class InternalAuthFeignConfig {
+
+    static final String HEADER = "X-Internal-Token";
+
+    @Bean
+    RequestInterceptor internalAuthRequestInterceptor(@Value("${internal-auth.token:}") String token) {
+        return template -> template.header(HEADER, token);
+    }
+}
@@ -0,0 +1,100 @@
+package com.ubaid.booking_service.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Feign transport decorator that revalidates GET responses instead of refetching them.
+ *
+ * A 200 response carrying an ETag is kept in a small LRU map keyed by URL. The next
+ * request for that URL sends If-None-Match; on 304 the cached body is replayed as a 200,
+ * so callers never see the difference. Requests with an Authorization header bypass it.
+ */
+public class RevalidatingFeignClient implements Client {
+
+    private final Client delegate;
+    private final Map<String, CachedResponse> cache;
+    private final Counter notModified;
+    private final Counter modified;
+
+    public RevalidatingFeignClient(Client delegate, int maxEntries, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.notModified = Counter.builder("booking.feign.revalidations")
+                .description("Conditional GETs sent by Feign clients")
+                .tag("result", "not_modified")
+                .register(meterRegistry);
+        this.modified = Counter.builder("booking.feign.revalidations")
+                .description("Conditional GETs sent by Feign clients")
+                .tag("result", "modified")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (request.httpMethod() != Request.HttpMethod.GET || request.headers().containsKey("Authorization")) {
+            return delegate.execute(request, options);
+        }
+
+        String key = request.url();
+        CachedResponse cached = cache.get(key);
+        Request outgoing = request;
+        if (cached != null) {
+            Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+            headers.put("If-None-Match", List.of(cached.etag));
+            outgoing = Request.create(request.httpMethod(), request.url(), headers,
+                    request.body(), request.charset(), request.requestTemplate());
+        }
+
+        Response response = delegate.execute(outgoing, options);
+        if (cached != null && response.status() == 304) {
+            response.close();
+            notModified.increment();
+            return Response.builder()
+                    .status(200)
+                    .reason("OK")
+                    .request(request)
+                    .headers(cached.headers)
+                    .body(cached.body)
+                    .build();
+        }
+        if (cached != null) {
+            modified.increment();
+        }
+
+        String etag = firstHeader(response, "ETag");
+        if (response.status() != 200 || etag == null || response.body() == null) {
+            if (cached != null) {
+                cache.remove(key);
+            }
+            return response;
+        }
+
+        byte[] body;
+        try (response) {
+            body = Util.toByteArray(response.body().asInputStream());
+        }
+        cache.put(key, new CachedResponse(etag, response.headers(), body));
+        return response.toBuilder().request(request).body(body).build();
+    }
+
+    private static String firstHeader(Response response, String name) {
+        Collection<String> values = response.headers().get(name);
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+
+    private record CachedResponse(String etag, Map<String, Collection<String>> headers, byte[] body) {
+    }
+}
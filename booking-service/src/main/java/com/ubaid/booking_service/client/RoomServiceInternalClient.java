@@ -0,0 +1,27 @@
+package com.ubaid.booking_service.client;
+
+import com.ubaid.booking_service.dto.ApiResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+/**
+ * Internal-only room-service endpoints. Every call carries the internal token, so
+ * public endpoints belong on {@link RoomServiceClient}.
+ */
+@FeignClient(
+        name = "room-listing-service",
+        contextId = "roomServiceInternalClient",
+        url = "${room-service.url}",
+        configuration = {FeignConfig.class, InternalAuthFeignConfig.class}
+)
+public interface RoomServiceInternalClient {
+
+    // The given room ids that belong to the hotel
+    @PostMapping("/api/rooms/internal/hotels/{hotelId}/room-ids/filter")
+    ApiResponse<List<String>> filterRoomIdsOfHotel(@PathVariable("hotelId") String hotelId,
+                                                   @RequestBody List<String> roomIds);
+}
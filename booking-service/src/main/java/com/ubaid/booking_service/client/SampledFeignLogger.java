@@ -0,0 +1,58 @@
+package com.ubaid.booking_service.client;
+
+import feign.Request;
+import feign.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Feign logger that writes a sample of calls at INFO. Failed (4xx/5xx, I/O error)
+ * and slow responses are always logged; everything else only when sampled.
+ */
+@Slf4j
+public class SampledFeignLogger extends feign.Logger {
+
+    private final double sampleRate;
+    private final long slowThresholdMs;
+    private final ThreadLocal<Boolean> sampled = ThreadLocal.withInitial(() -> false);
+
+    public SampledFeignLogger(double sampleRate, long slowThresholdMs) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    @Override
+    protected void logRequest(String configKey, Level logLevel, Request request) {
+        boolean sample = ThreadLocalRandom.current().nextDouble() < sampleRate;
+        sampled.set(sample);
+        if (sample) {
+            super.logRequest(configKey, logLevel, request);
+        }
+    }
+
+    @Override
+    protected Response logAndRebufferResponse(String configKey, Level logLevel,
+                                              Response response, long elapsedTime) throws IOException {
+        boolean sample = sampled.get();
+        sampled.remove();
+        if (sample || response.status() >= 400 || elapsedTime >= slowThresholdMs) {
+            return super.logAndRebufferResponse(configKey, logLevel, response, elapsedTime);
+        }
+        return response;
+    }
+
+    @Override
+    protected IOException logIOException(String configKey, Level logLevel, IOException ioe, long elapsedTime) {
+        sampled.remove();
+        return super.logIOException(configKey, logLevel, ioe, elapsedTime);
+    }
+
+    @Override
+    protected void log(String configKey, String format, Object... args) {
+        if (log.isInfoEnabled()) {
+            log.info(String.format(methodTag(configKey) + format, args));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ubaid.booking_service.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Guards the internal endpoints other services call. Callers send the shared
+ * internal-auth.token in the X-Internal-Token header; without a configured token
+ * every internal request is refused.
+ */
+@Component
+@Slf4j
+public class InternalAuthInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "X-Internal-Token";
+
+    private final byte[] token;
+
+    public InternalAuthInterceptor(@Value("${internal-auth.token:}") String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        if (this.token.length == 0) {
+            log.warn("internal-auth.token is not set, internal endpoints will refuse every request");
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String presented = request.getHeader(HEADER);
+        if (token.length > 0 && presented != null
+                && MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8))) {
+            return true;
+        }
+
+        log.warn("Rejected internal request without a valid token: {} {}", request.getMethod(), request.getRequestURI());
+        try {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write(String.format(
+                    "{\"error\":\"Unauthorized\",\"message\":\"Internal token required\",\"timestamp\":%d}",
+                    System.currentTimeMillis()
+            ));
+            response.getWriter().flush();
+        } catch (Exception e) {
+            log.error("Error setting unauthorized response: {}", e.getMessage());
+        }
+        return false;
+    }
+}
@@ -0,0 +1,105 @@
+package com.ubaid.booking_service.config;
+
+import com.ubaid.booking_service.service.RateLimiterService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Component
+@Slf4j
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiterService rateLimiterService;
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public RateLimitInterceptor(RateLimiterService rateLimiterService,
+                                @Value("${rate-limit.trusted-proxies:127.0.0.0/8,::1}") String[] trustedProxies) {
+        this.rateLimiterService = rateLimiterService;
+        this.trustedProxies = Arrays.stream(trustedProxies)
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
+            return true;
+        }
+
+        String clientIp = resolveClientIp(request);
+        String userId = (String) request.getAttribute("userId");
+
+        long retryAfterSeconds = rateLimiterService.tryAcquire(clientIp, userId);
+        if (retryAfterSeconds == 0) {
+            return true;
+        }
+
+        log.warn("Rate limit exceeded for ip {} user {} on {}", clientIp, userId, request.getRequestURI());
+        setTooManyRequestsResponse(response, retryAfterSeconds);
+        return false;
+    }
+
+    /**
+     * The right-most address not added by a trusted proxy. Hops to the left of it are
+     * supplied by the client and cannot be trusted, so rotating X-Forwarded-For does
+     * not change the key.
+     */
+    private String resolveClientIp(HttpServletRequest request) {
+        String clientIp = request.getRemoteAddr();
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || forwardedFor.isBlank() || !isTrustedProxy(clientIp)) {
+            return clientIp;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            clientIp = hop;
+            if (!isTrustedProxy(hop)) {
+                break;
+            }
+        }
+        return clientIp;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        for (IpAddressMatcher proxy : trustedProxies) {
+            try {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                return false; // Not an IP address
+            }
+        }
+        return false;
+    }
+
+    private void setTooManyRequestsResponse(HttpServletResponse response, long retryAfterSeconds) {
+        try {
+            response.setStatus(429);
+            response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write(String.format(
+                    "{\"error\":\"Too Many Requests\",\"message\":\"Rate limit exceeded, retry after %d seconds\",\"retryAfter\":%d,\"timestamp\":%d}",
+                    retryAfterSeconds, retryAfterSeconds, System.currentTimeMillis()
+            ));
+            response.getWriter().flush();
+        } catch (Exception e) {
+            log.error("Error setting rate limit response: {}", e.getMessage());
+        }
+    }
+}
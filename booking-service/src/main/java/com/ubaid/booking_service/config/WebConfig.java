@@ -1,5 +1,6 @@
 package com.ubaid.booking_service.config;
 
+import com.ubaid.booking_service.metrics.FirestoreOpsInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -10,9 +11,26 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final AuthenticationInterceptor authenticationInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final FirestoreOpsInterceptor firestoreOpsInterceptor;
+    private final InternalAuthInterceptor internalAuthInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(firestoreOpsInterceptor)
+                .addPathPatterns("/api/**");
+
+        registry.addInterceptor(internalAuthInterceptor)
+                .addPathPatterns("/api/availability/internal/**");
+
+        registry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns(
+                        "/api/availability/**",
+                        "/api/bookings/**",
+                        "/api/pricing/quote"
+                )
+                .excludePathPatterns("/api/availability/internal/**");
+
         registry.addInterceptor(authenticationInterceptor)
                 .addPathPatterns("/api/booking/**")
                 .excludePathPatterns(
@@ -0,0 +1,106 @@
+package com.ubaid.booking_service.controller;
+
+import com.ubaid.booking_service.dto.ApiResponse;
+import com.ubaid.booking_service.dto.PricingRuleRequestDTO;
+import com.ubaid.booking_service.dto.QuoteRequestDTO;
+import com.ubaid.booking_service.dto.QuoteResponseDTO;
+import com.ubaid.booking_service.entity.PricingRule;
+import com.ubaid.booking_service.service.PricingService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/pricing")
+@RequiredArgsConstructor
+@Slf4j
+public class PricingController {
+
+    private final PricingService pricingService;
+
+    /**
+     * Price one or more stays for a room without creating a booking
+     */
+    @PostMapping("/quote")
+    public ResponseEntity<ApiResponse<List<QuoteResponseDTO>>> quote(
+            @Valid @RequestBody QuoteRequestDTO request) {
+
+        try {
+            List<QuoteResponseDTO> quotes = pricingService.quote(request);
+            return ResponseEntity.ok(ApiResponse.success("Quotes calculated successfully", quotes));
+        } catch (Exception e) {
+            log.error("Error calculating quotes: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Failed to calculate quotes: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Create a rate rule for a room owned by the authenticated user
+     */
+    @PostMapping("/rules")
+    public ResponseEntity<ApiResponse<PricingRule>> createRule(
+            @Valid @RequestBody PricingRuleRequestDTO request,
+            HttpServletRequest httpRequest) {
+
+        String userId = (String) httpRequest.getAttribute("userId");
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("User authentication required"));
+        }
+
+        try {
+            PricingRule rule = pricingService.createRule(userId, request);
+            return ResponseEntity.ok(ApiResponse.success("Pricing rule created successfully", rule));
+        } catch (Exception e) {
+            log.error("Error creating pricing rule: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to create pricing rule: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Get active rate rules for a room
+     */
+    @GetMapping("/rules/{roomId}")
+    public ResponseEntity<ApiResponse<List<PricingRule>>> getRules(@PathVariable String roomId) {
+        try {
+            List<PricingRule> rules = pricingService.getRules(roomId);
+            return ResponseEntity.ok(ApiResponse.success("Pricing rules retrieved successfully", rules));
+        } catch (Exception e) {
+            log.error("Error retrieving pricing rules: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to retrieve pricing rules: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Delete a rate rule
+     */
+    @DeleteMapping("/rules/{ruleId}")
+    public ResponseEntity<ApiResponse<String>> deleteRule(
+            @PathVariable String ruleId,
+            HttpServletRequest httpRequest) {
+
+        String userId = (String) httpRequest.getAttribute("userId");
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("User authentication required"));
+        }
+
+        try {
+            pricingService.deleteRule(userId, ruleId);
+            return ResponseEntity.ok(ApiResponse.success("Pricing rule deleted successfully", ruleId));
+        } catch (Exception e) {
+            log.error("Error deleting pricing rule: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to delete pricing rule: " + e.getMessage()));
+        }
+    }
+}
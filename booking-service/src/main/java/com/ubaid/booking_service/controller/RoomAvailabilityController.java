@@ -13,6 +13,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -155,4 +156,21 @@ public class RoomAvailabilityController {
         private Integer availableRooms;
         private Integer bookedRooms;
     }
+
+    /**
+     * Remove the availability ledgers of a deleted hotel; called by hotel-listing-service
+     */
+    @PostMapping("/internal/hotels/{hotelId}/purge")
+    public ResponseEntity<ApiResponse<Integer>> purgeDeletedHotel(
+            @PathVariable String hotelId,
+            @RequestBody List<String> roomIds) {
+        try {
+            int deleted = roomAvailabilityService.purgeDeletedHotel(hotelId, roomIds);
+            return ResponseEntity.ok(ApiResponse.success("Availability purged successfully", deleted));
+        } catch (Exception e) {
+            log.error("Error purging availability of deleted hotel {}: {}", hotelId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to purge availability: " + e.getMessage()));
+        }
+    }
 }
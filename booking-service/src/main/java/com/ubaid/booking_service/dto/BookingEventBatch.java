@@ -0,0 +1,17 @@
+package com.ubaid.booking_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingEventBatch {
+    private String source;
+    private List<BookingEventMessage> events;
+}
@@ -0,0 +1,26 @@
+package com.ubaid.booking_service.dto;
+
+import com.ubaid.booking_service.enums.BookingEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A booking event as sent to subscribers, without the outbox delivery state.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingEventMessage {
+    private String eventId;
+    private String bookingId;
+    private BookingEventType eventType;
+    private Long sequence;
+    private Map<String, Object> payload;
+    private LocalDateTime createdAt;
+}
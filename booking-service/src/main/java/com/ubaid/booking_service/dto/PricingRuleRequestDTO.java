@@ -0,0 +1,42 @@
+package com.ubaid.booking_service.dto;
+
+import com.ubaid.booking_service.enums.RateRuleType;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PricingRuleRequestDTO {
+
+    @NotBlank(message = "Room ID is required")
+    private String roomId;
+
+    @Size(max = 100, message = "Rule name cannot exceed 100 characters")
+    private String name;
+
+    @NotNull(message = "Rule type is required")
+    private RateRuleType ruleType; // WEEKEND, SEASONAL, LENGTH_OF_STAY
+
+    private List<Integer> daysOfWeek; // ISO days, 1 = Monday ... 7 = Sunday
+
+    @Pattern(regexp = "\\d{4}-\\d{2}-\\d{2}", message = "Start date must be in format yyyy-MM-dd")
+    private String startDate;
+
+    @Pattern(regexp = "\\d{4}-\\d{2}-\\d{2}", message = "End date must be in format yyyy-MM-dd")
+    private String endDate;
+
+    @Min(value = 1, message = "Minimum nights must be at least 1")
+    private Integer minNights;
+
+    @NotNull(message = "Adjustment percent is required")
+    @DecimalMin(value = "-90.0", message = "Adjustment cannot discount more than 90%")
+    @DecimalMax(value = "500.0", message = "Adjustment cannot exceed 500%")
+    private Double adjustmentPercent;
+}
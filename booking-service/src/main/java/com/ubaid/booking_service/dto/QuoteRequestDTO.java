@@ -0,0 +1,51 @@
+package com.ubaid.booking_service.dto;
+
+import com.ubaid.booking_service.enums.PricingType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteRequestDTO {
+
+    @NotBlank(message = "Room ID is required")
+    private String roomId;
+
+    @NotNull(message = "Pricing type is required")
+    private PricingType pricingType;
+
+    @Min(value = 1, message = "At least 1 room is required")
+    @Max(value = 10, message = "Maximum 10 rooms can be booked")
+    private Integer numberOfRooms;
+
+    @Min(value = 0, message = "Number of extra beds cannot be negative")
+    @Max(value = 5, message = "Maximum 5 extra beds allowed")
+    private Integer numberOfExtraBeds;
+
+    @NotEmpty(message = "At least one stay is required")
+    @Size(max = 100, message = "Maximum 100 stays can be quoted at once")
+    @Valid
+    private List<StayDates> stays;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StayDates {
+        @NotBlank(message = "Check-in date is required")
+        @Pattern(regexp = "\\d{4}-\\d{2}-\\d{2}", message = "Check-in date must be in format yyyy-MM-dd")
+        private String checkInDate;
+
+        @NotBlank(message = "Check-out date is required")
+        @Pattern(regexp = "\\d{4}-\\d{2}-\\d{2}", message = "Check-out date must be in format yyyy-MM-dd")
+        private String checkOutDate;
+    }
+}
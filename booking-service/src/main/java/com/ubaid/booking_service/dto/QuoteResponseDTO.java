@@ -0,0 +1,32 @@
+package com.ubaid.booking_service.dto;
+
+import com.ubaid.booking_service.enums.PricingType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteResponseDTO {
+    private String roomId;
+    private String checkInDate;
+    private String checkOutDate;
+    private PricingType pricingType;
+    private Integer totalNights;
+    private Integer numberOfRooms;
+
+    // Per-room amounts
+    private Double selectedRoomPrice;   // Undiscounted nightly price for the pricing type
+    private Double nightlySubtotal;     // Sum of the compiled nightly rates
+    private Double lengthOfStayAdjustment;
+    private Double roomTotal;           // Per room, after length-of-stay adjustment
+    private Double averageNightlyRate;
+
+    private Integer numberOfExtraBeds;
+    private Double extraBedPrice;
+    private Double totalExtraBedCost;
+    private Double totalAmount;
+}
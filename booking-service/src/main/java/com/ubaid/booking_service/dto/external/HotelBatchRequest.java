@@ -0,0 +1,16 @@
+package com.ubaid.booking_service.dto.external;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelBatchRequest {
+    private List<String> hotelIds;
+}
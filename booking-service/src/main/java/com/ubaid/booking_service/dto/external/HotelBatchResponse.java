@@ -0,0 +1,17 @@
+package com.ubaid.booking_service.dto.external;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelBatchResponse {
+    private List<HotelResponseDTO> hotels;
+    private List<String> missingIds;
+}
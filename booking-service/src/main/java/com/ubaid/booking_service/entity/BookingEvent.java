@@ -0,0 +1,36 @@
+package com.ubaid.booking_service.entity;
+
+import com.ubaid.booking_service.enums.BookingEventType;
+import com.ubaid.booking_service.enums.OutboxStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingEvent {
+    private String eventId;
+    private String bookingId;
+    private BookingEventType eventType;
+
+    // Per-booking ordering key (booking updatedAt in epoch millis)
+    private Long sequence;
+
+    private Map<String, Object> payload;
+
+    // Outbox delivery state
+    private OutboxStatus status;
+    private List<String> deliveredTo;
+    private Integer attempts;
+    private String lastError;
+    private LocalDateTime nextAttemptAt; // When the relay may send it next; pushed back while backing off
+    private LocalDateTime createdAt;
+    private LocalDateTime deliveredAt;
+}
@@ -0,0 +1,39 @@
+package com.ubaid.booking_service.entity;
+
+import com.ubaid.booking_service.enums.RateRuleType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PricingRule {
+    private String ruleId;
+    private String roomId;
+    private String userId;
+    private String name;
+    private RateRuleType ruleType;
+
+    // WEEKEND: ISO days of week (1 = Monday ... 7 = Sunday)
+    private List<Integer> daysOfWeek;
+
+    // SEASONAL: inclusive date range in yyyy-MM-dd
+    private String startDate;
+    private String endDate;
+
+    // LENGTH_OF_STAY: minimum nights for the adjustment to apply
+    private Integer minNights;
+
+    // Percentage applied to the nightly price (e.g. 20 = +20%, -10 = 10% off)
+    private Double adjustmentPercent;
+
+    private Boolean active;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,17 @@
+package com.ubaid.booking_service.enums;
+
+public enum BookingEventType {
+    BOOKING_CREATED("BookingCreated"),
+    BOOKING_CANCELLED("BookingCancelled"),
+    BOOKING_COMPLETED("BookingCompleted");
+
+    private final String displayName;
+
+    BookingEventType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,6 @@
+package com.ubaid.booking_service.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    DELIVERED
+}
@@ -0,0 +1,17 @@
+package com.ubaid.booking_service.enums;
+
+public enum RateRuleType {
+    WEEKEND("Weekend Rate"),
+    SEASONAL("Seasonal Rate"),
+    LENGTH_OF_STAY("Length of Stay Rate");
+
+    private final String displayName;
+
+    RateRuleType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,40 @@
+package com.ubaid.booking_service.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records Firestore operations and document reads per request, by route.
+ */
+@Component
+@RequiredArgsConstructor
+public class FirestoreOpsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        FirestoreOpsTracker.Stats stats = FirestoreOpsTracker.get(request);
+
+        DistributionSummary.builder("booking.request.firestore.ops")
+                .description("Firestore operations per request")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getOperations());
+
+        DistributionSummary.builder("booking.request.firestore.documents")
+                .description("Firestore documents read per request")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getDocumentReads());
+    }
+}
@@ -0,0 +1,21 @@
+package com.ubaid.booking_service.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds a bucketed "firestore.ops" tag to http.server.requests so slow routes can be
+ * split by how many Firestore calls they made.
+ */
+@Component
+public class FirestoreOpsObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        int operations = FirestoreOpsTracker.get(context.getCarrier()).getOperations();
+        return super.getLowCardinalityKeyValues(context)
+                .and("firestore.ops", FirestoreOpsTracker.bucket(operations));
+    }
+}
@@ -0,0 +1,73 @@
+package com.ubaid.booking_service.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Per-request Firestore operation counts, kept as a request attribute so they are
+ * still readable when the HTTP server observation is stopped. Calls made outside a
+ * request (scheduled jobs) are only reflected in the global meters.
+ */
+public final class FirestoreOpsTracker {
+
+    public static final String REQUEST_ATTRIBUTE = FirestoreOpsTracker.class.getName() + ".STATS";
+
+    private FirestoreOpsTracker() {
+    }
+
+    public static void record(long documentReads) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return;
+        }
+
+        HttpServletRequest request = servletAttributes.getRequest();
+        Stats stats = (Stats) request.getAttribute(REQUEST_ATTRIBUTE);
+        if (stats == null) {
+            stats = new Stats();
+            request.setAttribute(REQUEST_ATTRIBUTE, stats);
+        }
+        stats.add(documentReads);
+    }
+
+    public static Stats get(HttpServletRequest request) {
+        Stats stats = (Stats) request.getAttribute(REQUEST_ATTRIBUTE);
+        return stats != null ? stats : new Stats();
+    }
+
+    /**
+     * Low-cardinality bucket for tagging request metrics.
+     */
+    public static String bucket(int operations) {
+        if (operations == 0) {
+            return "0";
+        } else if (operations <= 5) {
+            return "1-5";
+        } else if (operations <= 20) {
+            return "6-20";
+        } else if (operations <= 50) {
+            return "21-50";
+        }
+        return "50+";
+    }
+
+    public static final class Stats {
+        private int operations;
+        private long documentReads;
+
+        synchronized void add(long reads) {
+            operations++;
+            documentReads += reads;
+        }
+
+        public synchronized int getOperations() {
+            return operations;
+        }
+
+        public synchronized long getDocumentReads() {
+            return documentReads;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.ubaid.booking_service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Times every public repository method and every Feign client interface call.
+ *
+ * Document reads are inferred from the returned value (collection size, or one for a
+ * found entity) of methods that read: finders ({@code find*}, {@code get*},
+ * {@code exists*}) and read-after-write methods ({@code *AndGet}). Writes such as
+ * {@code save} return the entity they were given and count no reads. Methods that
+ * filter query results in memory under-report; the per-request operation count is exact.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.ubaid.booking_service.repository.*Repository.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+
+        try {
+            Object result = joinPoint.proceed();
+            long reads = isRead(method) ? documentReads(result) : 0;
+            FirestoreOpsTracker.record(reads);
+            if (reads > 0) {
+                Counter.builder("booking.firestore.documents.read")
+                        .description("Documents returned by repository methods")
+                        .tag("repository", repository)
+                        .tag("method", method)
+                        .register(meterRegistry)
+                        .increment(reads);
+            }
+            return result;
+        } catch (Throwable e) {
+            outcome = "error";
+            FirestoreOpsTracker.record(0);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("booking.firestore.calls")
+                    .description("Latency of Firestore repository methods")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    // Feign interfaces only: the transport (RevalidatingFeignClient, a feign.Client bean)
+    // also matches *Client and would time every call a second time
+    @Around("execution(* com.ubaid.booking_service.client.*Client.*(..)) && !target(feign.Client)")
+    public Object timeFeignClient(ProceedingJoinPoint joinPoint) throws Throwable {
+        String client = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("booking.feign.calls")
+                    .description("Latency of downstream Feign client calls")
+                    .tag("client", client)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static boolean isRead(String method) {
+        return method.startsWith("find") || method.startsWith("get") || method.startsWith("exists")
+                || method.endsWith("AndGet");
+    }
+
+    private long documentReads(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        } else if (result instanceof Map<?, ?> map) {
+            return map.size();
+        } else if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        } else if (result == null || result instanceof Number || result instanceof Boolean) {
+            return 0;
+        }
+        return 1;
+    }
+}
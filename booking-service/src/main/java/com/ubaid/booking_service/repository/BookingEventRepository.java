@@ -0,0 +1,229 @@
+package com.ubaid.booking_service.repository;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.*;
+import com.ubaid.booking_service.entity.BookingEvent;
+import com.ubaid.booking_service.enums.BookingEventType;
+import com.ubaid.booking_service.enums.OutboxStatus;
+import com.ubaid.booking_service.exception.BookingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Outbox collection for booking domain events. Events are only ever written in the
+ * same batch as the booking they describe; the relay reads and updates them here.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class BookingEventRepository {
+
+    private final Firestore firestore;
+    private static final String COLLECTION_NAME = "booking_outbox";
+    private static final int BATCH_LIMIT = 400;
+
+    /**
+     * Stage an event write on a batch owned by the caller.
+     */
+    public void addToBatch(WriteBatch batch, BookingEvent event) {
+        if (event.getEventId() == null || event.getEventId().isEmpty()) {
+            event.setEventId(UUID.randomUUID().toString());
+        }
+        if (event.getCreatedAt() == null) {
+            event.setCreatedAt(LocalDateTime.now());
+        }
+        if (event.getStatus() == null) {
+            event.setStatus(OutboxStatus.PENDING);
+        }
+        if (event.getAttempts() == null) {
+            event.setAttempts(0);
+        }
+        if (event.getNextAttemptAt() == null) {
+            // Due at once; findDue only sees events with a nextAttemptAt
+            event.setNextAttemptAt(event.getCreatedAt());
+        }
+
+        DocumentReference docRef = firestore.collection(COLLECTION_NAME).document(event.getEventId());
+        batch.set(docRef, convertEntityToMap(event));
+    }
+
+    /**
+     * Pending events that are due by {@code now}, longest waiting first. Events that
+     * are backing off are left out by the query, so they cannot fill the page. Needs
+     * the status + nextAttemptAt + sequence index from firestore.indexes.json.
+     */
+    public List<BookingEvent> findDue(LocalDateTime now, int limit) {
+        try {
+            Query query = firestore.collection(COLLECTION_NAME)
+                    .whereEqualTo("status", OutboxStatus.PENDING.name())
+                    .whereLessThanOrEqualTo("nextAttemptAt", toTimestamp(now))
+                    .orderBy("nextAttemptAt")
+                    .orderBy("sequence")
+                    .limit(limit);
+            return toEntities(query.get().get());
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding due booking events: {}", e.getMessage());
+            throw new BookingException("Failed to find due booking events: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Pending events of the given bookings that are still backing off at {@code now}.
+     * Needs the status + bookingId + nextAttemptAt index from firestore.indexes.json.
+     */
+    public List<BookingEvent> findBackingOff(Collection<String> bookingIds, LocalDateTime now) {
+        List<String> ids = new ArrayList<>(bookingIds);
+        List<BookingEvent> events = new ArrayList<>();
+        try {
+            // whereIn takes at most 30 values
+            for (int from = 0; from < ids.size(); from += 30) {
+                Query query = firestore.collection(COLLECTION_NAME)
+                        .whereEqualTo("status", OutboxStatus.PENDING.name())
+                        .whereIn("bookingId", new ArrayList<>(ids.subList(from, Math.min(ids.size(), from + 30))))
+                        .whereGreaterThan("nextAttemptAt", toTimestamp(now));
+                events.addAll(toEntities(query.get().get()));
+            }
+            return events;
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding backing off booking events: {}", e.getMessage());
+            throw new BookingException("Failed to find backing off booking events: " + e.getMessage());
+        }
+    }
+
+    private List<BookingEvent> toEntities(QuerySnapshot querySnapshot) {
+        List<BookingEvent> events = new ArrayList<>();
+        for (DocumentSnapshot document : querySnapshot.getDocuments()) {
+            events.add(convertMapToEntity(document.getData(), document.getId()));
+        }
+        return events;
+    }
+
+    /**
+     * Persist delivery state for a set of events, in as few batches as possible.
+     */
+    public void updateDeliveryState(List<BookingEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        try {
+            WriteBatch batch = firestore.batch();
+            int pending = 0;
+            for (BookingEvent event : events) {
+                Map<String, Object> updates = new HashMap<>();
+                updates.put("status", event.getStatus().name());
+                updates.put("deliveredTo", event.getDeliveredTo());
+                updates.put("attempts", event.getAttempts());
+                updates.put("lastError", event.getLastError());
+                updates.put("nextAttemptAt", toTimestamp(event.getNextAttemptAt()));
+                updates.put("deliveredAt", toTimestamp(event.getDeliveredAt()));
+                batch.update(firestore.collection(COLLECTION_NAME).document(event.getEventId()), updates);
+                if (++pending == BATCH_LIMIT) {
+                    batch.commit().get();
+                    batch = firestore.batch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                batch.commit().get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error updating booking event delivery state: {}", e.getMessage());
+            throw new BookingException("Failed to update booking events: " + e.getMessage());
+        }
+    }
+
+    public int deleteDeliveredBefore(LocalDateTime cutoff) {
+        try {
+            Query query = firestore.collection(COLLECTION_NAME)
+                    .whereLessThan("deliveredAt", toTimestamp(cutoff));
+
+            QuerySnapshot querySnapshot = query.get().get();
+            WriteBatch batch = firestore.batch();
+            int deleted = 0;
+            int pending = 0;
+
+            for (DocumentSnapshot document : querySnapshot.getDocuments()) {
+                if (OutboxStatus.DELIVERED.name().equals(document.getString("status"))) {
+                    batch.delete(document.getReference());
+                    deleted++;
+                    if (++pending == BATCH_LIMIT) {
+                        batch.commit().get();
+                        batch = firestore.batch();
+                        pending = 0;
+                    }
+                }
+            }
+
+            if (pending > 0) {
+                batch.commit().get();
+            }
+            return deleted;
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error deleting delivered booking events: {}", e.getMessage());
+            throw new BookingException("Failed to delete delivered booking events: " + e.getMessage());
+        }
+    }
+
+    private Map<String, Object> convertEntityToMap(BookingEvent event) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("eventId", event.getEventId());
+        map.put("bookingId", event.getBookingId());
+        map.put("eventType", event.getEventType() != null ? event.getEventType().name() : null);
+        map.put("sequence", event.getSequence());
+        map.put("payload", event.getPayload());
+        map.put("status", event.getStatus().name());
+        map.put("deliveredTo", event.getDeliveredTo() != null ? event.getDeliveredTo() : new ArrayList<>());
+        map.put("attempts", event.getAttempts());
+        map.put("lastError", event.getLastError());
+        map.put("nextAttemptAt", toTimestamp(event.getNextAttemptAt()));
+        map.put("createdAt", toTimestamp(event.getCreatedAt()));
+        map.put("deliveredAt", toTimestamp(event.getDeliveredAt()));
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private BookingEvent convertMapToEntity(Map<String, Object> data, String id) {
+        return BookingEvent.builder()
+                .eventId(id)
+                .bookingId((String) data.get("bookingId"))
+                .eventType(data.get("eventType") != null ?
+                        BookingEventType.valueOf((String) data.get("eventType")) : null)
+                .sequence(data.get("sequence") != null ? ((Number) data.get("sequence")).longValue() : null)
+                .payload((Map<String, Object>) data.get("payload"))
+                .status(data.get("status") != null ?
+                        OutboxStatus.valueOf((String) data.get("status")) : OutboxStatus.PENDING)
+                .deliveredTo(data.get("deliveredTo") != null ?
+                        new ArrayList<>((List<String>) data.get("deliveredTo")) : new ArrayList<>())
+                .attempts(data.get("attempts") != null ? ((Number) data.get("attempts")).intValue() : 0)
+                .lastError((String) data.get("lastError"))
+                .nextAttemptAt(convertTimestampToLocalDateTime(data.get("nextAttemptAt")))
+                .createdAt(convertTimestampToLocalDateTime(data.get("createdAt")))
+                .deliveredAt(convertTimestampToLocalDateTime(data.get("deliveredAt")))
+                .build();
+    }
+
+    private Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.of(Date.from(dateTime.toInstant(ZoneOffset.UTC))) : null;
+    }
+
+    private LocalDateTime convertTimestampToLocalDateTime(Object timestampObj) {
+        if (timestampObj == null) {
+            return null;
+        }
+
+        if (timestampObj instanceof Timestamp) {
+            return LocalDateTime.ofInstant(((Timestamp) timestampObj).toDate().toInstant(),
+                    ZoneOffset.UTC);
+        } else if (timestampObj instanceof Date) {
+            return LocalDateTime.ofInstant(((Date) timestampObj).toInstant(), ZoneOffset.UTC);
+        }
+        return null;
+    }
+}
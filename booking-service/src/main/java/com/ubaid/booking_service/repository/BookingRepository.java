@@ -3,6 +3,7 @@ package com.ubaid.booking_service.repository;
 import com.google.cloud.Timestamp;
 import com.google.cloud.firestore.*;
 import com.ubaid.booking_service.entity.Booking;
+import com.ubaid.booking_service.entity.BookingEvent;
 import com.ubaid.booking_service.enums.BedType;
 import com.ubaid.booking_service.enums.BookingStatus;
 import com.ubaid.booking_service.exception.BookingException;
@@ -21,6 +22,7 @@ import java.util.concurrent.ExecutionException;
 public class BookingRepository {
 
     private final Firestore firestore;
+    private final BookingEventRepository bookingEventRepository;
     private static final String COLLECTION_NAME = "bookings";
 
     public Booking save(Booking booking) {
@@ -49,6 +51,42 @@ public class BookingRepository {
         }
     }
 
+    /**
+     * Save a booking and its domain event atomically. The event's sequence is the
+     * booking's updatedAt, which keeps events for one booking ordered.
+     */
+    public Booking saveWithEvent(Booking booking, BookingEvent event) {
+        try {
+            String id = booking.getBookingId();
+            if (id == null || id.isEmpty()) {
+                id = UUID.randomUUID().toString();
+                booking.setBookingId(id);
+            }
+
+            if (booking.getCreatedAt() == null) {
+                booking.setCreatedAt(LocalDateTime.now());
+            }
+            booking.setUpdatedAt(LocalDateTime.now());
+
+            event.setBookingId(id);
+            event.setSequence(booking.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+            if (event.getPayload() != null) {
+                event.getPayload().put("bookingId", id);
+            }
+
+            WriteBatch batch = firestore.batch();
+            batch.set(firestore.collection(COLLECTION_NAME).document(id), convertEntityToMap(booking));
+            bookingEventRepository.addToBatch(batch, event);
+            batch.commit().get();
+
+            log.info("Booking saved successfully with {} event: {}", event.getEventType(), id);
+            return booking;
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error saving booking with event: {}", e.getMessage());
+            throw new BookingException("Failed to save booking: " + e.getMessage());
+        }
+    }
+
     public Optional<Booking> findById(String bookingId) {
         try {
             DocumentReference docRef = firestore.collection(COLLECTION_NAME).document(bookingId);
@@ -111,6 +111,37 @@ public class ExtraBedAvailabilityRepository {
         }
     }
 
+    /**
+     * Delete every extra bed record of a hotel, e.g. after the hotel was deleted.
+     */
+    public int deleteByHotelId(String hotelId) {
+        try {
+            Query query = firestore.collection(COLLECTION_NAME).whereEqualTo("hotelId", hotelId);
+
+            WriteBatch batch = firestore.batch();
+            int count = 0;
+            int pending = 0;
+            for (DocumentSnapshot document : query.get().get().getDocuments()) {
+                batch.delete(document.getReference());
+                count++;
+                if (++pending == 400) {
+                    batch.commit().get();
+                    batch = firestore.batch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                batch.commit().get();
+            }
+
+            log.info("Deleted {} extra bed availability records for hotel {}", count, hotelId);
+            return count;
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error deleting extra bed availability for hotel {}: {}", hotelId, e.getMessage());
+            throw new BookingException("Failed to delete extra bed availability: " + e.getMessage());
+        }
+    }
+
     private Map<String, Object> convertEntityToMap(ExtraBedAvailability availability) {
         Map<String, Object> map = new HashMap<>();
         map.put("availabilityId", availability.getAvailabilityId());
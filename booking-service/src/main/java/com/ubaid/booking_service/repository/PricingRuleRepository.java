@@ -0,0 +1,155 @@
+package com.ubaid.booking_service.repository;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.*;
+import com.ubaid.booking_service.entity.PricingRule;
+import com.ubaid.booking_service.enums.RateRuleType;
+import com.ubaid.booking_service.exception.BookingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class PricingRuleRepository {
+
+    private final Firestore firestore;
+    private static final String COLLECTION_NAME = "pricing_rules";
+
+    public PricingRule save(PricingRule rule) {
+        try {
+            String id = rule.getRuleId();
+            if (id == null || id.isEmpty()) {
+                id = UUID.randomUUID().toString();
+                rule.setRuleId(id);
+            }
+
+            if (rule.getCreatedAt() == null) {
+                rule.setCreatedAt(LocalDateTime.now());
+            }
+            rule.setUpdatedAt(LocalDateTime.now());
+
+            DocumentReference docRef = firestore.collection(COLLECTION_NAME).document(id);
+            docRef.set(convertEntityToMap(rule)).get();
+
+            log.info("Pricing rule saved successfully: {}", id);
+            return rule;
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error saving pricing rule: {}", e.getMessage());
+            throw new BookingException("Failed to save pricing rule: " + e.getMessage());
+        }
+    }
+
+    public Optional<PricingRule> findById(String ruleId) {
+        try {
+            DocumentSnapshot document = firestore.collection(COLLECTION_NAME).document(ruleId).get().get();
+
+            if (document.exists()) {
+                return Optional.of(convertMapToEntity(document.getData(), document.getId()));
+            }
+            return Optional.empty();
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding pricing rule by ID {}: {}", ruleId, e.getMessage());
+            throw new BookingException("Failed to find pricing rule: " + e.getMessage());
+        }
+    }
+
+    public List<PricingRule> findActiveByRoomId(String roomId) {
+        try {
+            Query query = firestore.collection(COLLECTION_NAME)
+                    .whereEqualTo("roomId", roomId)
+                    .whereEqualTo("active", true);
+
+            QuerySnapshot querySnapshot = query.get().get();
+            List<PricingRule> rules = new ArrayList<>();
+
+            for (DocumentSnapshot document : querySnapshot.getDocuments()) {
+                rules.add(convertMapToEntity(document.getData(), document.getId()));
+            }
+
+            log.debug("Found {} active pricing rules for room {}", rules.size(), roomId);
+            return rules;
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding pricing rules for room {}: {}", roomId, e.getMessage());
+            throw new BookingException("Failed to find pricing rules: " + e.getMessage());
+        }
+    }
+
+    public void delete(PricingRule rule) {
+        try {
+            firestore.collection(COLLECTION_NAME).document(rule.getRuleId()).delete().get();
+            log.info("Pricing rule deleted successfully: {}", rule.getRuleId());
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error deleting pricing rule: {}", e.getMessage());
+            throw new BookingException("Failed to delete pricing rule: " + e.getMessage());
+        }
+    }
+
+    private Map<String, Object> convertEntityToMap(PricingRule rule) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("ruleId", rule.getRuleId());
+        map.put("roomId", rule.getRoomId());
+        map.put("userId", rule.getUserId());
+        map.put("name", rule.getName());
+        map.put("ruleType", rule.getRuleType() != null ? rule.getRuleType().name() : null);
+        map.put("daysOfWeek", rule.getDaysOfWeek());
+        map.put("startDate", rule.getStartDate());
+        map.put("endDate", rule.getEndDate());
+        map.put("minNights", rule.getMinNights());
+        map.put("adjustmentPercent", rule.getAdjustmentPercent());
+        map.put("active", rule.getActive() != null ? rule.getActive() : true);
+        map.put("createdAt", Timestamp.of(Date.from(rule.getCreatedAt().toInstant(ZoneOffset.UTC))));
+        map.put("updatedAt", Timestamp.of(Date.from(rule.getUpdatedAt().toInstant(ZoneOffset.UTC))));
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private PricingRule convertMapToEntity(Map<String, Object> data, String id) {
+        List<Integer> daysOfWeek = null;
+        if (data.get("daysOfWeek") != null) {
+            daysOfWeek = new ArrayList<>();
+            for (Object day : (List<Object>) data.get("daysOfWeek")) {
+                daysOfWeek.add(((Number) day).intValue());
+            }
+        }
+
+        return PricingRule.builder()
+                .ruleId(id)
+                .roomId((String) data.get("roomId"))
+                .userId((String) data.get("userId"))
+                .name((String) data.get("name"))
+                .ruleType(data.get("ruleType") != null ?
+                        RateRuleType.valueOf((String) data.get("ruleType")) : null)
+                .daysOfWeek(daysOfWeek)
+                .startDate((String) data.get("startDate"))
+                .endDate((String) data.get("endDate"))
+                .minNights(data.get("minNights") != null ?
+                        ((Number) data.get("minNights")).intValue() : null)
+                .adjustmentPercent(data.get("adjustmentPercent") != null ?
+                        ((Number) data.get("adjustmentPercent")).doubleValue() : null)
+                .active((Boolean) data.get("active"))
+                .createdAt(convertTimestampToLocalDateTime(data.get("createdAt")))
+                .updatedAt(convertTimestampToLocalDateTime(data.get("updatedAt")))
+                .build();
+    }
+
+    private LocalDateTime convertTimestampToLocalDateTime(Object timestampObj) {
+        if (timestampObj == null) {
+            return null;
+        }
+
+        if (timestampObj instanceof Timestamp) {
+            return LocalDateTime.ofInstant(((Timestamp) timestampObj).toDate().toInstant(),
+                    ZoneOffset.UTC);
+        } else if (timestampObj instanceof Date) {
+            return LocalDateTime.ofInstant(((Date) timestampObj).toInstant(), ZoneOffset.UTC);
+        }
+        return null;
+    }
+}
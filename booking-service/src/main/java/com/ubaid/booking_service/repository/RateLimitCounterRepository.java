@@ -0,0 +1,70 @@
+package com.ubaid.booking_service.repository;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.*;
+import com.ubaid.booking_service.exception.BookingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Cluster-wide request counters for the rate limiter, one document per key and window.
+ * Documents carry an expireAt field so a Firestore TTL policy can remove old windows.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitCounterRepository {
+
+    private final Firestore firestore;
+    private static final String COLLECTION_NAME = "rate_limit_counters";
+
+    /**
+     * Add local deltas to the shared counters for a window and return the cluster totals.
+     */
+    public Map<String, Long> incrementAndGet(Map<String, Long> deltas, long windowId, Date expireAt) {
+        if (deltas.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            WriteBatch batch = firestore.batch();
+            Map<String, String> keysByDocumentId = new HashMap<>();
+            List<DocumentReference> refs = new ArrayList<>();
+
+            for (Map.Entry<String, Long> entry : deltas.entrySet()) {
+                String documentId = documentId(entry.getKey(), windowId);
+                DocumentReference docRef = firestore.collection(COLLECTION_NAME).document(documentId);
+                keysByDocumentId.put(documentId, entry.getKey());
+                refs.add(docRef);
+
+                Map<String, Object> update = new HashMap<>();
+                update.put("key", entry.getKey());
+                update.put("windowId", windowId);
+                update.put("count", FieldValue.increment(entry.getValue()));
+                update.put("expireAt", Timestamp.of(expireAt));
+                batch.set(docRef, update, SetOptions.merge());
+            }
+            batch.commit().get();
+
+            List<DocumentSnapshot> snapshots = firestore.getAll(refs.toArray(new DocumentReference[0])).get();
+            Map<String, Long> totals = new HashMap<>();
+            for (DocumentSnapshot snapshot : snapshots) {
+                Long count = snapshot.getLong("count");
+                totals.put(keysByDocumentId.get(snapshot.getId()), count != null ? count : 0L);
+            }
+            return totals;
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error reconciling rate limit counters: {}", e.getMessage());
+            throw new BookingException("Failed to reconcile rate limit counters: " + e.getMessage());
+        }
+    }
+
+    private String documentId(String key, long windowId) {
+        // Firestore document IDs cannot contain '/'
+        return key.replace('/', '_') + "_" + windowId;
+    }
+}
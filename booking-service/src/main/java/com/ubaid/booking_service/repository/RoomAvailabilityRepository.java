@@ -21,6 +21,8 @@ public class RoomAvailabilityRepository {
 
     private final Firestore firestore;
     private static final String COLLECTION_NAME = "room_availability";
+    private static final int WHERE_IN_LIMIT = 30;
+    private static final int BATCH_LIMIT = 400;
 
     public RoomAvailability save(RoomAvailability availability) {
         try {
@@ -114,6 +116,41 @@ public class RoomAvailabilityRepository {
         }
     }
 
+    /**
+     * Delete every availability record of the given rooms, e.g. after their hotel was
+     * deleted. Returns the number of records removed.
+     */
+    public int deleteByRoomIds(List<String> roomIds) {
+        try {
+            int count = 0;
+            for (int from = 0; from < roomIds.size(); from += WHERE_IN_LIMIT) {
+                List<String> chunk = roomIds.subList(from, Math.min(from + WHERE_IN_LIMIT, roomIds.size()));
+                Query query = firestore.collection(COLLECTION_NAME).whereIn("roomId", new ArrayList<>(chunk));
+
+                WriteBatch batch = firestore.batch();
+                int pending = 0;
+                for (DocumentSnapshot document : query.get().get().getDocuments()) {
+                    batch.delete(document.getReference());
+                    count++;
+                    if (++pending == BATCH_LIMIT) {
+                        batch.commit().get();
+                        batch = firestore.batch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    batch.commit().get();
+                }
+            }
+
+            log.info("Deleted {} room availability records for {} rooms", count, roomIds.size());
+            return count;
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error deleting room availability records: {}", e.getMessage());
+            throw new BookingException("Failed to delete room availability: " + e.getMessage());
+        }
+    }
+
     private Map<String, Object> convertEntityToMap(RoomAvailability availability) {
         Map<String, Object> map = new HashMap<>();
         map.put("availabilityId", availability.getAvailabilityId());
@@ -0,0 +1,223 @@
+package com.ubaid.booking_service.scheduled;
+
+import com.ubaid.booking_service.client.BookingEventSubscriberClient;
+import com.ubaid.booking_service.dto.BookingEventBatch;
+import com.ubaid.booking_service.dto.BookingEventMessage;
+import com.ubaid.booking_service.entity.BookingEvent;
+import com.ubaid.booking_service.enums.OutboxStatus;
+import com.ubaid.booking_service.repository.BookingEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Relays pending outbox events to subscriber endpoints.
+ *
+ * Each run takes the events that are due, so events that are backing off never hold
+ * up unrelated ones, and sends them in sequence order, so each subscriber sees a
+ * booking's events in the order they were written. Events of a failed batch back off
+ * exponentially, up to retry-max-backoff-seconds, and are retried until delivered;
+ * only subscribers that have not acknowledged them are sent them again. A due event
+ * whose booking has an earlier event still backing off is held until that one is due.
+ * Subscribers get {@link BookingEventMessage}s, never the outbox delivery state.
+ * Delivery is at-least-once; consumers should dedupe on eventId.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingEventRelay {
+
+    private static final String SOURCE = "booking-service";
+
+    private final BookingEventRepository bookingEventRepository;
+    private final BookingEventSubscriberClient subscriberClient;
+
+    @Value("${booking-events.subscribers:}")
+    private String[] subscribers;
+
+    @Value("${booking-events.batch-size:100}")
+    private int batchSize;
+
+    @Value("${booking-events.retry-initial-backoff-seconds:5}")
+    private long retryInitialBackoffSeconds;
+
+    @Value("${booking-events.retry-max-backoff-seconds:600}")
+    private long retryMaxBackoffSeconds;
+
+    @Value("${booking-events.alert-after-attempts:20}")
+    private int alertAfterAttempts;
+
+    @Value("${booking-events.retention-days:7}")
+    private int retentionDays;
+
+    @Scheduled(fixedDelayString = "${booking-events.relay-interval-ms:5000}")
+    public void relayPendingEvents() {
+        List<String> targets = activeSubscribers();
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<BookingEvent> due = bookingEventRepository.findDue(now, batchSize);
+            if (due.isEmpty()) {
+                return;
+            }
+
+            List<BookingEvent> held = holdBehindBackingOff(due, now);
+            List<BookingEvent> window = new ArrayList<>(due);
+            window.removeAll(held);
+            window.sort(Comparator.comparing(BookingEvent::getSequence, Comparator.nullsFirst(Comparator.naturalOrder())));
+            if (window.isEmpty()) {
+                bookingEventRepository.updateDeliveryState(held);
+                return;
+            }
+
+            Set<String> failedEventIds = new HashSet<>();
+            for (String subscriber : targets) {
+                deliver(subscriber, window, failedEventIds);
+            }
+
+            for (BookingEvent event : window) {
+                if (event.getDeliveredTo().containsAll(targets)) {
+                    event.setStatus(OutboxStatus.DELIVERED);
+                    event.setDeliveredAt(now);
+                    event.setNextAttemptAt(null);
+                    event.setLastError(null);
+                } else if (failedEventIds.contains(event.getEventId())) {
+                    int attempts = event.getAttempts() + 1;
+                    event.setAttempts(attempts);
+                    event.setNextAttemptAt(now.plusSeconds(backoffSeconds(attempts)));
+                    if (attempts == alertAfterAttempts) {
+                        log.error("Booking event {} for booking {} is still undelivered after {} attempts: {}",
+                                event.getEventId(), event.getBookingId(), attempts, event.getLastError());
+                    }
+                }
+            }
+
+            log.debug("Relayed {} booking events to {} subscribers, {} held behind earlier events",
+                    window.size(), targets.size(), held.size());
+            window.addAll(held);
+            bookingEventRepository.updateDeliveryState(window);
+        } catch (Exception e) {
+            log.error("Error relaying booking events: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Events that must wait for an earlier event of their booking that is backing off.
+     * They take that event's nextAttemptAt, so they leave the due set until then.
+     */
+    private List<BookingEvent> holdBehindBackingOff(List<BookingEvent> due, LocalDateTime now) {
+        Set<String> bookingIds = new HashSet<>();
+        for (BookingEvent event : due) {
+            bookingIds.add(event.getBookingId());
+        }
+        Map<String, List<BookingEvent>> backingOffByBooking = new HashMap<>();
+        for (BookingEvent event : bookingEventRepository.findBackingOff(bookingIds, now)) {
+            backingOffByBooking.computeIfAbsent(event.getBookingId(), id -> new ArrayList<>()).add(event);
+        }
+        if (backingOffByBooking.isEmpty()) {
+            return List.of();
+        }
+
+        List<BookingEvent> held = new ArrayList<>();
+        for (BookingEvent event : due) {
+            LocalDateTime waitUntil = null;
+            for (BookingEvent blocker : backingOffByBooking.getOrDefault(event.getBookingId(), List.of())) {
+                if (precedes(blocker, event)
+                        && (waitUntil == null || blocker.getNextAttemptAt().isAfter(waitUntil))) {
+                    waitUntil = blocker.getNextAttemptAt();
+                }
+            }
+            if (waitUntil != null) {
+                event.setNextAttemptAt(waitUntil);
+                held.add(event);
+            }
+        }
+        return held;
+    }
+
+    private static boolean precedes(BookingEvent first, BookingEvent second) {
+        if (first.getSequence() == null || second.getSequence() == null) {
+            return false;
+        }
+        return first.getSequence() < second.getSequence();
+    }
+
+    /**
+     * Remove delivered events daily at 3:30 AM
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeDeliveredEvents() {
+        try {
+            int deleted = bookingEventRepository.deleteDeliveredBefore(LocalDateTime.now().minusDays(retentionDays));
+            log.info("Purged {} delivered booking events", deleted);
+        } catch (Exception e) {
+            log.error("Error purging delivered booking events: {}", e.getMessage(), e);
+        }
+    }
+
+    private void deliver(String subscriber, List<BookingEvent> window, Set<String> failedEventIds) {
+        List<BookingEvent> undelivered = new ArrayList<>();
+        for (BookingEvent event : window) {
+            if (!event.getDeliveredTo().contains(subscriber)) {
+                undelivered.add(event);
+            }
+        }
+        if (undelivered.isEmpty()) {
+            return;
+        }
+
+        try {
+            subscriberClient.deliver(URI.create(subscriber), BookingEventBatch.builder()
+                    .source(SOURCE)
+                    .events(undelivered.stream().map(BookingEventRelay::toMessage).toList())
+                    .build());
+
+            for (BookingEvent event : undelivered) {
+                event.getDeliveredTo().add(subscriber);
+            }
+        } catch (Exception e) {
+            log.warn("Delivery of {} booking events to {} failed: {}", undelivered.size(), subscriber, e.getMessage());
+            for (BookingEvent event : undelivered) {
+                failedEventIds.add(event.getEventId());
+                event.setLastError(subscriber + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static BookingEventMessage toMessage(BookingEvent event) {
+        return BookingEventMessage.builder()
+                .eventId(event.getEventId())
+                .bookingId(event.getBookingId())
+                .eventType(event.getEventType())
+                .sequence(event.getSequence())
+                .payload(event.getPayload())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+
+    private long backoffSeconds(int attempts) {
+        long backoff = retryInitialBackoffSeconds << Math.min(attempts - 1, 20);
+        return Math.min(Math.max(backoff, 1), retryMaxBackoffSeconds);
+    }
+
+    private List<String> activeSubscribers() {
+        List<String> targets = new ArrayList<>();
+        if (subscribers != null) {
+            for (String subscriber : subscribers) {
+                if (subscriber != null && !subscriber.isBlank()) {
+                    targets.add(subscriber.trim());
+                }
+            }
+        }
+        return targets;
+    }
+}
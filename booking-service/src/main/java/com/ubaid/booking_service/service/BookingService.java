@@ -6,11 +6,15 @@ import com.ubaid.booking_service.client.RoomServiceClient;
 import com.ubaid.booking_service.dto.ApiResponse;
 import com.ubaid.booking_service.dto.BookingRequestDTO;
 import com.ubaid.booking_service.dto.BookingResponseDTO;
+import com.ubaid.booking_service.dto.QuoteResponseDTO;
+import com.ubaid.booking_service.dto.external.HotelBatchRequest;
+import com.ubaid.booking_service.dto.external.HotelBatchResponse;
 import com.ubaid.booking_service.dto.external.HotelResponseDTO;
 import com.ubaid.booking_service.dto.external.RoomResponseDTO;
 import com.ubaid.booking_service.entity.Booking;
+import com.ubaid.booking_service.entity.BookingEvent;
+import com.ubaid.booking_service.enums.BookingEventType;
 import com.ubaid.booking_service.enums.BookingStatus;
-import com.ubaid.booking_service.enums.PricingType;
 import com.ubaid.booking_service.exception.BookingException;
 import com.ubaid.booking_service.repository.BookingRepository;
 import feign.FeignException;
@@ -23,7 +27,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -38,8 +45,11 @@ public class BookingService {
     private final RoomServiceClient roomServiceClient;
     private final RoomAvailabilityService roomAvailabilityService;
     private final ExtraBedAvailabilityService extraBedAvailabilityService;
+    private final PricingEngine pricingEngine;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    // Largest id list the hotel batch endpoint accepts
+    private static final int MAX_HOTEL_IDS_PER_BATCH = 300;
 
     public BookingResponseDTO createBooking(String userId, BookingRequestDTO request, String authToken) {
         try {
@@ -125,7 +135,8 @@ public class BookingService {
                     .build();
 
             // Save booking
-            Booking savedBooking = bookingRepository.save(booking);
+            Booking savedBooking = bookingRepository.saveWithEvent(booking,
+                    newEvent(booking, BookingEventType.BOOKING_CREATED));
 
             // Update room availability
             roomAvailabilityService.updateAvailability(request.getRoomId(), checkIn, checkOut, request.getNumberOfRooms(), true);
@@ -179,7 +190,8 @@ public class BookingService {
             booking.setCancellationReason(cancellationReason);
             booking.setUpdatedAt(LocalDateTime.now());
 
-            Booking updatedBooking = bookingRepository.save(booking);
+            Booking updatedBooking = bookingRepository.saveWithEvent(booking,
+                    newEvent(booking, BookingEventType.BOOKING_CANCELLED));
 
             // Restore room availability
             roomAvailabilityService.updateAvailability(booking.getRoomId(), checkIn, checkOut,
@@ -208,18 +220,7 @@ public class BookingService {
             validateUser(userId, authToken);
             List<Booking> bookings = bookingRepository.findByUserId(userId);
 
-            return bookings.stream()
-                    .map(booking -> {
-                        try {
-                            HotelResponseDTO hotel = hotelServiceClient.getHotelById(booking.getHotelId()).getData();
-                            RoomResponseDTO room = roomServiceClient.getRoomById(booking.getRoomId()).getData();
-                            return convertToResponseDTO(booking, hotel, room, hotel.getExtraBeds());
-                        } catch (Exception e) {
-                            log.error("Error fetching details for booking {}: {}", booking.getBookingId(), e.getMessage());
-                            return convertToResponseDTO(booking, null, null, 0);
-                        }
-                    })
-                    .collect(Collectors.toList());
+            return toResponseDTOs(bookings);
         } catch (Exception e) {
             log.error("Error retrieving bookings: {}", e.getMessage());
             throw new BookingException("Failed to retrieve bookings: " + e.getMessage());
@@ -253,18 +254,7 @@ public class BookingService {
             validateUser(userId, authToken);
             List<Booking> bookings = bookingRepository.findByUserIdAndLocation(userId, location);
 
-            return bookings.stream()
-                    .map(booking -> {
-                        try {
-                            HotelResponseDTO hotel = hotelServiceClient.getHotelById(booking.getHotelId()).getData();
-                            RoomResponseDTO room = roomServiceClient.getRoomById(booking.getRoomId()).getData();
-                            return convertToResponseDTO(booking, hotel, room, hotel.getExtraBeds());
-                        } catch (Exception e) {
-                            log.error("Error fetching details for booking {}: {}", booking.getBookingId(), e.getMessage());
-                            return convertToResponseDTO(booking, null, null, 0);
-                        }
-                    })
-                    .collect(Collectors.toList());
+            return toResponseDTOs(bookings);
         } catch (Exception e) {
             log.error("Error searching bookings by location: {}", e.getMessage());
             throw new BookingException("Failed to search bookings: " + e.getMessage());
@@ -277,24 +267,61 @@ public class BookingService {
             validateUser(userId, authToken);
             List<Booking> bookings = bookingRepository.findByUserIdAndDateRange(userId, checkInDate, checkOutDate);
 
-            return bookings.stream()
-                    .map(booking -> {
-                        try {
-                            HotelResponseDTO hotel = hotelServiceClient.getHotelById(booking.getHotelId()).getData();
-                            RoomResponseDTO room = roomServiceClient.getRoomById(booking.getRoomId()).getData();
-                            return convertToResponseDTO(booking, hotel, room, hotel.getExtraBeds());
-                        } catch (Exception e) {
-                            log.error("Error fetching details for booking {}: {}", booking.getBookingId(), e.getMessage());
-                            return convertToResponseDTO(booking, null, null, 0);
-                        }
-                    })
-                    .collect(Collectors.toList());
+            return toResponseDTOs(bookings);
         } catch (Exception e) {
             log.error("Error searching bookings by date range: {}", e.getMessage());
             throw new BookingException("Failed to search bookings: " + e.getMessage());
         }
     }
 
+    /**
+     * Convert a list of bookings, fetching their hotels in one batch call.
+     */
+    private List<BookingResponseDTO> toResponseDTOs(List<Booking> bookings) {
+        Map<String, HotelResponseDTO> hotels = fetchHotels(bookings);
+        return bookings.stream()
+                .map(booking -> {
+                    try {
+                        HotelResponseDTO hotel = hotels.get(booking.getHotelId());
+                        if (hotel == null) {
+                            hotel = hotelServiceClient.getHotelById(booking.getHotelId()).getData();
+                        }
+                        RoomResponseDTO room = roomServiceClient.getRoomById(booking.getRoomId()).getData();
+                        return convertToResponseDTO(booking, hotel, room, hotel.getExtraBeds());
+                    } catch (Exception e) {
+                        log.error("Error fetching details for booking {}: {}", booking.getBookingId(), e.getMessage());
+                        return convertToResponseDTO(booking, null, null, 0);
+                    }
+                })
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, HotelResponseDTO> fetchHotels(List<Booking> bookings) {
+        List<String> hotelIds = bookings.stream().map(Booking::getHotelId).filter(Objects::nonNull)
+                .distinct().collect(Collectors.toList());
+        Map<String, HotelResponseDTO> hotels = new HashMap<>();
+        if (hotelIds.isEmpty()) {
+            return hotels;
+        }
+        for (int from = 0; from < hotelIds.size(); from += MAX_HOTEL_IDS_PER_BATCH) {
+            List<String> chunk = hotelIds.subList(from, Math.min(hotelIds.size(), from + MAX_HOTEL_IDS_PER_BATCH));
+            try {
+                ApiResponse<HotelBatchResponse> response =
+                        hotelServiceClient.getHotelsByIds(HotelBatchRequest.builder().hotelIds(chunk).build());
+                if (response != null && response.isSuccess() && response.getData() != null) {
+                    for (HotelResponseDTO hotel : response.getData().getHotels()) {
+                        hotels.put(hotel.getHotelId(), hotel);
+                    }
+                }
+            } catch (Exception e) {
+                // Per-booking lookups still fill in whatever this batch did not return
+                log.warn("Batch hotel lookup of {} ids failed, falling back to single lookups: {}",
+                        chunk.size(), e.getMessage());
+            }
+        }
+        return hotels;
+    }
+
     @Scheduled(cron = "0 0 2 * * *") // Run at 2 AM daily
     public void updateBookingStatuses() {
         try {
@@ -311,7 +338,8 @@ public class BookingService {
                     // Booking checkout date has passed
                     booking.setBookingStatus(BookingStatus.COMPLETED);
                     booking.setUpdatedAt(LocalDateTime.now());
-                    bookingRepository.save(booking);
+                    bookingRepository.saveWithEvent(booking,
+                            newEvent(booking, BookingEventType.BOOKING_COMPLETED));
                     log.info("Updated booking {} to COMPLETED status", booking.getBookingId());
                 }
             }
@@ -322,6 +350,30 @@ public class BookingService {
         }
     }
 
+    /**
+     * Snapshot of the booking fields consumers need to keep a local read model.
+     */
+    private BookingEvent newEvent(Booking booking, BookingEventType eventType) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("bookingId", booking.getBookingId());
+        payload.put("userId", booking.getUserId());
+        payload.put("hotelId", booking.getHotelId());
+        payload.put("roomId", booking.getRoomId());
+        payload.put("bookingStatus", booking.getBookingStatus() != null ? booking.getBookingStatus().name() : null);
+        payload.put("checkInDate", booking.getCheckInDate());
+        payload.put("checkOutDate", booking.getCheckOutDate());
+        payload.put("numberOfRooms", booking.getNumberOfRooms());
+        payload.put("numberOfExtraBeds", booking.getNumberOfExtraBeds());
+        payload.put("totalAmount", booking.getTotalAmount());
+        payload.put("confirmationCode", booking.getConfirmationCode());
+        payload.put("cancellationReason", booking.getCancellationReason());
+
+        return BookingEvent.builder()
+                .eventType(eventType)
+                .payload(payload)
+                .build();
+    }
+
     private void validateUser(String userId, String authToken) {
         try {
             authServiceClient.validateUser(userId, authToken);
@@ -393,44 +445,31 @@ public class BookingService {
                                                 HotelResponseDTO hotel, LocalDate checkIn, LocalDate checkOut) {
         PricingCalculation pricing = new PricingCalculation();
 
-        // Calculate nights
-        pricing.totalNights = ChronoUnit.DAYS.between(checkIn, checkOut);
-
         // Get room prices
         pricing.basePrice = room.getBasePrice() != null ? room.getBasePrice() : 0.0;
         pricing.priceForOneGuest = room.getPriceForOneGuest() != null ? room.getPriceForOneGuest() : 0.0;
         pricing.priceForTwoGuest = room.getPriceForTwoGuest() != null ? room.getPriceForTwoGuest() : 0.0;
 
-        // Select price based on pricing type
-        switch (request.getPricingType()) {
-            case BASE:
-                pricing.selectedRoomPrice = pricing.basePrice;
-                break;
-            case SINGLE_OCCUPANCY:
-                pricing.selectedRoomPrice = pricing.priceForOneGuest;
-                break;
-            case DOUBLE_OCCUPANCY:
-                pricing.selectedRoomPrice = pricing.priceForTwoGuest;
-                break;
-            default:
-                pricing.selectedRoomPrice = pricing.basePrice;
-        }
+        int numberOfExtraBeds = request.getNumberOfExtraBeds() != null ? request.getNumberOfExtraBeds() : 0;
+        Double perExtraBedPrice = hotel.getPerExtraBedPrice() != null ?
+                hotel.getPerExtraBedPrice().doubleValue() : 0.0;
 
-        // Calculate price per room (selected price)
-        pricing.pricePerRoom = pricing.selectedRoomPrice;
+        // Weekend, seasonal and length-of-stay rates come from the compiled rate tables,
+        // re-checked against the stored rules since this amount is charged
+        QuoteResponseDTO quote = pricingEngine.quoteForBooking(room, perExtraBedPrice, request.getPricingType(),
+                checkIn, checkOut, request.getNumberOfRooms(), numberOfExtraBeds);
 
-        // Calculate extra bed cost
-        pricing.extraBedPrice = (hotel.getPerExtraBedPrice() != null) ?
-                hotel.getPerExtraBedPrice().doubleValue() : 0.0;
+        pricing.totalNights = quote.getTotalNights();
+        pricing.selectedRoomPrice = quote.getSelectedRoomPrice();
 
-        int numberOfExtraBeds = request.getNumberOfExtraBeds() != null ? request.getNumberOfExtraBeds() : 0;
-        pricing.totalExtraBedCost = numberOfExtraBeds * pricing.extraBedPrice * pricing.totalNights;
+        // Price per room is the effective average nightly rate after rate rules
+        pricing.pricePerRoom = quote.getAverageNightlyRate();
 
-        // Calculate total amount
-        double roomCost = pricing.pricePerRoom * request.getNumberOfRooms() * pricing.totalNights;
-        pricing.totalAmount = roomCost + pricing.totalExtraBedCost;
+        pricing.extraBedPrice = quote.getExtraBedPrice();
+        pricing.totalExtraBedCost = quote.getTotalExtraBedCost();
+        pricing.totalAmount = quote.getTotalAmount();
 
-        log.info("Pricing calculation: {} rooms x {} per room x {} nights + {} extra bed cost = {}",
+        log.info("Pricing calculation: {} rooms x {} per room (avg) x {} nights + {} extra bed cost = {}",
                 request.getNumberOfRooms(), pricing.pricePerRoom, pricing.totalNights,
                 pricing.totalExtraBedCost, pricing.totalAmount);
 
@@ -0,0 +1,334 @@
+package com.ubaid.booking_service.service;
+
+import com.ubaid.booking_service.dto.QuoteResponseDTO;
+import com.ubaid.booking_service.dto.external.RoomResponseDTO;
+import com.ubaid.booking_service.entity.PricingRule;
+import com.ubaid.booking_service.enums.PricingType;
+import com.ubaid.booking_service.enums.RateRuleType;
+import com.ubaid.booking_service.exception.BookingException;
+import com.ubaid.booking_service.repository.PricingRuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles per-room rate rules into flat per-day price tables.
+ *
+ * Rules are loaded once per room and folded into one prefix-sum array per pricing type
+ * and month, so pricing a stay is a couple of array lookups per month spanned instead
+ * of evaluating every rule for every night.
+ *
+ * {@link #invalidate(String)} only clears this instance. Quotes tolerate rules that are
+ * up to {@code pricing.cache-ttl-minutes} stale on other instances; bookings go through
+ * {@link #quoteForBooking}, which re-reads the room's active rules and recompiles when
+ * their ids or {@code updatedAt} stamps differ from the cached compile.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PricingEngine {
+
+    private static final int MAX_CACHED_MONTHS_PER_ROOM = 36;
+
+    // Bounds of the combined price factor, matching the -90%..+500% enforced on
+    // PricingRuleRequestDTO. Applied to composed factors, never to single rules, so
+    // stacked rules cannot leave the range either.
+    private static final double MIN_MULTIPLIER = 0.1;
+    private static final double MAX_MULTIPLIER = 6.0;
+
+    private final PricingRuleRepository pricingRuleRepository;
+
+    @Value("${pricing.cache-ttl-minutes:10}")
+    private long cacheTtlMinutes;
+
+    private final Map<String, CompiledRoomRates> compiledRooms = new ConcurrentHashMap<>();
+
+    /**
+     * Price a stay for the given room. Check-out night is not charged.
+     */
+    public QuoteResponseDTO quote(RoomResponseDTO room, Double extraBedPrice, PricingType pricingType,
+                                  LocalDate checkIn, LocalDate checkOut,
+                                  int numberOfRooms, int numberOfExtraBeds) {
+        return quote(room, extraBedPrice, pricingType, checkIn, checkOut, numberOfRooms, numberOfExtraBeds, false);
+    }
+
+    /**
+     * Price a stay that is about to be charged. Rules are always re-read so a change made
+     * through another instance is never billed from a stale compile.
+     */
+    public QuoteResponseDTO quoteForBooking(RoomResponseDTO room, Double extraBedPrice, PricingType pricingType,
+                                            LocalDate checkIn, LocalDate checkOut,
+                                            int numberOfRooms, int numberOfExtraBeds) {
+        return quote(room, extraBedPrice, pricingType, checkIn, checkOut, numberOfRooms, numberOfExtraBeds, true);
+    }
+
+    private QuoteResponseDTO quote(RoomResponseDTO room, Double extraBedPrice, PricingType pricingType,
+                                   LocalDate checkIn, LocalDate checkOut,
+                                   int numberOfRooms, int numberOfExtraBeds, boolean revalidateRules) {
+        if (!checkOut.isAfter(checkIn)) {
+            throw new BookingException("Check-out date must be after check-in date");
+        }
+
+        long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+        if (nights > 365) {
+            throw new BookingException("Booking period cannot exceed 365 days");
+        }
+
+        PricingType type = pricingType != null ? pricingType : PricingType.BASE;
+        CompiledRoomRates rates = getCompiledRates(room, revalidateRules);
+
+        double nightlySubtotal = rates.sumNights(type, checkIn, checkOut);
+        double losMultiplier = rates.lengthOfStayMultiplier((int) nights);
+        // Length of stay composes with the nightly factors; bound the stay as a whole
+        double undiscounted = rates.basePrices[type.ordinal()] * nights;
+        double roomTotal = clamp(nightlySubtotal * losMultiplier,
+                undiscounted * MIN_MULTIPLIER, undiscounted * MAX_MULTIPLIER);
+
+        double bedPrice = extraBedPrice != null ? extraBedPrice : 0.0;
+        double totalExtraBedCost = numberOfExtraBeds * bedPrice * nights;
+        double totalAmount = roomTotal * numberOfRooms + totalExtraBedCost;
+
+        return QuoteResponseDTO.builder()
+                .roomId(room.getRoomId())
+                .checkInDate(checkIn.toString())
+                .checkOutDate(checkOut.toString())
+                .pricingType(type)
+                .totalNights((int) nights)
+                .numberOfRooms(numberOfRooms)
+                .selectedRoomPrice(rates.basePrices[type.ordinal()])
+                .nightlySubtotal(round(nightlySubtotal))
+                .lengthOfStayAdjustment(round(roomTotal - nightlySubtotal))
+                .roomTotal(round(roomTotal))
+                .averageNightlyRate(round(roomTotal / nights))
+                .numberOfExtraBeds(numberOfExtraBeds)
+                .extraBedPrice(bedPrice)
+                .totalExtraBedCost(round(totalExtraBedCost))
+                .totalAmount(round(totalAmount))
+                .build();
+    }
+
+    /**
+     * Drop compiled tables for a room so the next quote reloads its rules.
+     */
+    public void invalidate(String roomId) {
+        if (compiledRooms.remove(roomId) != null) {
+            log.debug("Invalidated compiled rates for room {}", roomId);
+        }
+    }
+
+    private CompiledRoomRates getCompiledRates(RoomResponseDTO room, boolean revalidateRules) {
+        double[] basePrices = basePricesOf(room);
+        long now = System.currentTimeMillis();
+        long ttlMillis = cacheTtlMinutes * 60_000L;
+
+        CompiledRoomRates rates = compiledRooms.get(room.getRoomId());
+        boolean usable = rates != null && Arrays.equals(rates.basePrices, basePrices);
+        if (usable && !revalidateRules && now - rates.compiledAt <= ttlMillis) {
+            return rates;
+        }
+
+        List<PricingRule> rules = pricingRuleRepository.findActiveByRoomId(room.getRoomId());
+        String ruleVersion = ruleVersionOf(rules);
+        if (usable && rates.ruleVersion.equals(ruleVersion)) {
+            // Rules unchanged: keep the compiled month tables and restart the TTL
+            rates = rates.refreshed(now);
+        } else {
+            rates = new CompiledRoomRates(basePrices, rules, ruleVersion, now);
+            log.debug("Compiled {} pricing rules for room {}", rules.size(), room.getRoomId());
+        }
+        compiledRooms.put(room.getRoomId(), rates);
+        return rates;
+    }
+
+    /**
+     * Identity of a rule set: rule ids with their last update, order independent. Deleted
+     * rules drop out of the id list, edited ones change their stamp.
+     */
+    private static String ruleVersionOf(List<PricingRule> rules) {
+        List<String> stamps = new ArrayList<>(rules.size());
+        for (PricingRule rule : rules) {
+            stamps.add(rule.getRuleId() + "@" + rule.getUpdatedAt());
+        }
+        Collections.sort(stamps);
+        return String.join(",", stamps);
+    }
+
+    private double[] basePricesOf(RoomResponseDTO room) {
+        double basePrice = room.getBasePrice() != null ? room.getBasePrice() : 0.0;
+        double[] prices = new double[PricingType.values().length];
+        prices[PricingType.BASE.ordinal()] = basePrice;
+        prices[PricingType.SINGLE_OCCUPANCY.ordinal()] =
+                room.getPriceForOneGuest() != null ? room.getPriceForOneGuest() : 0.0;
+        prices[PricingType.DOUBLE_OCCUPANCY.ordinal()] =
+                room.getPriceForTwoGuest() != null ? room.getPriceForTwoGuest() : 0.0;
+        return prices;
+    }
+
+    private static double round(double amount) {
+        return Math.round(amount * 100.0) / 100.0;
+    }
+
+    private static double toMultiplier(Double adjustmentPercent) {
+        if (adjustmentPercent == null || adjustmentPercent.isNaN()) {
+            return 1.0;
+        }
+        return 1.0 + adjustmentPercent / 100.0;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * Immutable rule set for one room plus lazily compiled month tables.
+     */
+    private static final class CompiledRoomRates {
+        private final double[] basePrices;
+        private final String ruleVersion;
+        private final long compiledAt;
+
+        // Indexed by ISO day of week (1..7); index 0 unused
+        private final double[] dayOfWeekMultipliers = new double[8];
+        private final LocalDate[] seasonStarts;
+        private final LocalDate[] seasonEnds;
+        private final double[] seasonMultipliers;
+        private final int[] losMinNights;
+        private final double[] losMultipliers;
+
+        // month -> [pricingType][day of month] prefix sums, index 0 is always 0
+        private final Map<YearMonth, double[][]> months;
+
+        CompiledRoomRates(double[] basePrices, List<PricingRule> rules, String ruleVersion, long compiledAt) {
+            this.basePrices = basePrices;
+            this.ruleVersion = ruleVersion;
+            this.compiledAt = compiledAt;
+            this.months = new ConcurrentHashMap<>();
+            Arrays.fill(dayOfWeekMultipliers, 1.0);
+
+            List<PricingRule> seasons = new ArrayList<>();
+            List<PricingRule> lengthOfStay = new ArrayList<>();
+            for (PricingRule rule : rules) {
+                if (rule.getRuleType() == RateRuleType.WEEKEND && rule.getDaysOfWeek() != null) {
+                    for (Integer day : rule.getDaysOfWeek()) {
+                        if (day != null && day >= 1 && day <= 7) {
+                            dayOfWeekMultipliers[day] *= toMultiplier(rule.getAdjustmentPercent());
+                        }
+                    }
+                } else if (rule.getRuleType() == RateRuleType.SEASONAL
+                        && rule.getStartDate() != null && rule.getEndDate() != null) {
+                    seasons.add(rule);
+                } else if (rule.getRuleType() == RateRuleType.LENGTH_OF_STAY && rule.getMinNights() != null) {
+                    lengthOfStay.add(rule);
+                }
+            }
+
+            seasonStarts = new LocalDate[seasons.size()];
+            seasonEnds = new LocalDate[seasons.size()];
+            seasonMultipliers = new double[seasons.size()];
+            for (int i = 0; i < seasons.size(); i++) {
+                seasonStarts[i] = LocalDate.parse(seasons.get(i).getStartDate());
+                seasonEnds[i] = LocalDate.parse(seasons.get(i).getEndDate());
+                seasonMultipliers[i] = toMultiplier(seasons.get(i).getAdjustmentPercent());
+            }
+
+            lengthOfStay.sort(Comparator.comparing(PricingRule::getMinNights));
+            losMinNights = new int[lengthOfStay.size()];
+            losMultipliers = new double[lengthOfStay.size()];
+            for (int i = 0; i < lengthOfStay.size(); i++) {
+                losMinNights[i] = lengthOfStay.get(i).getMinNights();
+                losMultipliers[i] = clamp(toMultiplier(lengthOfStay.get(i).getAdjustmentPercent()),
+                        MIN_MULTIPLIER, MAX_MULTIPLIER);
+            }
+        }
+
+        private CompiledRoomRates(CompiledRoomRates source, long compiledAt) {
+            this.basePrices = source.basePrices;
+            this.ruleVersion = source.ruleVersion;
+            this.compiledAt = compiledAt;
+            System.arraycopy(source.dayOfWeekMultipliers, 0, dayOfWeekMultipliers, 0, dayOfWeekMultipliers.length);
+            this.seasonStarts = source.seasonStarts;
+            this.seasonEnds = source.seasonEnds;
+            this.seasonMultipliers = source.seasonMultipliers;
+            this.losMinNights = source.losMinNights;
+            this.losMultipliers = source.losMultipliers;
+            this.months = source.months;
+        }
+
+        /**
+         * Same rules and month tables with a new compile time.
+         */
+        CompiledRoomRates refreshed(long now) {
+            return new CompiledRoomRates(this, now);
+        }
+
+        double sumNights(PricingType type, LocalDate checkIn, LocalDate checkOut) {
+            double sum = 0.0;
+            LocalDate cursor = checkIn;
+            while (cursor.isBefore(checkOut)) {
+                YearMonth month = YearMonth.from(cursor);
+                LocalDate nextMonth = month.atEndOfMonth().plusDays(1);
+                LocalDate segmentEnd = checkOut.isBefore(nextMonth) ? checkOut : nextMonth;
+
+                double[] prefix = monthTable(month)[type.ordinal()];
+                int from = cursor.getDayOfMonth() - 1;
+                int to = from + (int) ChronoUnit.DAYS.between(cursor, segmentEnd);
+                sum += prefix[to] - prefix[from];
+
+                cursor = segmentEnd;
+            }
+            return sum;
+        }
+
+        double lengthOfStayMultiplier(int nights) {
+            // Longest qualifying threshold wins
+            for (int i = losMinNights.length - 1; i >= 0; i--) {
+                if (nights >= losMinNights[i]) {
+                    return losMultipliers[i];
+                }
+            }
+            return 1.0;
+        }
+
+        private double[][] monthTable(YearMonth month) {
+            double[][] table = months.get(month);
+            if (table == null) {
+                if (months.size() >= MAX_CACHED_MONTHS_PER_ROOM) {
+                    months.clear();
+                }
+                table = months.computeIfAbsent(month, this::compileMonth);
+            }
+            return table;
+        }
+
+        private double[][] compileMonth(YearMonth month) {
+            int days = month.lengthOfMonth();
+            double[] dayMultipliers = new double[days];
+            for (int d = 0; d < days; d++) {
+                LocalDate date = month.atDay(d + 1);
+                double multiplier = dayOfWeekMultipliers[date.getDayOfWeek().getValue()];
+                for (int s = 0; s < seasonMultipliers.length; s++) {
+                    if (!date.isBefore(seasonStarts[s]) && !date.isAfter(seasonEnds[s])) {
+                        multiplier *= seasonMultipliers[s];
+                    }
+                }
+                // Clamp once, after weekend and seasonal factors are composed
+                dayMultipliers[d] = clamp(multiplier, MIN_MULTIPLIER, MAX_MULTIPLIER);
+            }
+
+            double[][] prefix = new double[basePrices.length][days + 1];
+            for (int t = 0; t < basePrices.length; t++) {
+                for (int d = 0; d < days; d++) {
+                    prefix[t][d + 1] = prefix[t][d] + basePrices[t] * dayMultipliers[d];
+                }
+            }
+            return prefix;
+        }
+    }
+}
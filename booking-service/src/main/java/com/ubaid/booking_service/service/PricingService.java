@@ -0,0 +1,163 @@
+package com.ubaid.booking_service.service;
+
+import com.ubaid.booking_service.client.HotelServiceClient;
+import com.ubaid.booking_service.client.RoomServiceClient;
+import com.ubaid.booking_service.dto.ApiResponse;
+import com.ubaid.booking_service.dto.PricingRuleRequestDTO;
+import com.ubaid.booking_service.dto.QuoteRequestDTO;
+import com.ubaid.booking_service.dto.QuoteResponseDTO;
+import com.ubaid.booking_service.dto.external.HotelResponseDTO;
+import com.ubaid.booking_service.dto.external.RoomResponseDTO;
+import com.ubaid.booking_service.entity.PricingRule;
+import com.ubaid.booking_service.enums.RateRuleType;
+import com.ubaid.booking_service.exception.BookingException;
+import com.ubaid.booking_service.repository.PricingRuleRepository;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PricingService {
+
+    private final PricingRuleRepository pricingRuleRepository;
+    private final PricingEngine pricingEngine;
+    private final RoomServiceClient roomServiceClient;
+    private final HotelServiceClient hotelServiceClient;
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    public PricingRule createRule(String userId, PricingRuleRequestDTO request) {
+        RoomResponseDTO room = getRoom(request.getRoomId());
+        if (room.getUserId() == null || !room.getUserId().equals(userId)) {
+            throw new BookingException("Unauthorized: You can only manage pricing for your own rooms");
+        }
+
+        validateRule(request);
+
+        PricingRule rule = PricingRule.builder()
+                .roomId(request.getRoomId())
+                .userId(userId)
+                .name(request.getName())
+                .ruleType(request.getRuleType())
+                .daysOfWeek(request.getDaysOfWeek())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .minNights(request.getMinNights())
+                .adjustmentPercent(request.getAdjustmentPercent())
+                .active(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        PricingRule savedRule = pricingRuleRepository.save(rule);
+        pricingEngine.invalidate(request.getRoomId());
+        return savedRule;
+    }
+
+    public List<PricingRule> getRules(String roomId) {
+        return pricingRuleRepository.findActiveByRoomId(roomId);
+    }
+
+    public void deleteRule(String userId, String ruleId) {
+        PricingRule rule = pricingRuleRepository.findById(ruleId)
+                .orElseThrow(() -> new BookingException("Pricing rule not found"));
+
+        if (!userId.equals(rule.getUserId())) {
+            throw new BookingException("Unauthorized: You can only delete your own pricing rules");
+        }
+
+        pricingRuleRepository.delete(rule);
+        pricingEngine.invalidate(rule.getRoomId());
+    }
+
+    /**
+     * Price several candidate stays for one room. The room (and hotel, when extra beds
+     * are requested) is fetched once; each stay is then priced from compiled rate tables.
+     */
+    public List<QuoteResponseDTO> quote(QuoteRequestDTO request) {
+        RoomResponseDTO room = getRoom(request.getRoomId());
+
+        int numberOfRooms = request.getNumberOfRooms() != null ? request.getNumberOfRooms() : 1;
+        int numberOfExtraBeds = request.getNumberOfExtraBeds() != null ? request.getNumberOfExtraBeds() : 0;
+
+        Double extraBedPrice = null;
+        if (numberOfExtraBeds > 0) {
+            HotelResponseDTO hotel = getHotel(room.getHotelId());
+            if (hotel.getExtraBeds() == null || hotel.getExtraBeds() == 0) {
+                throw new BookingException("This hotel does not offer extra beds");
+            }
+            extraBedPrice = hotel.getPerExtraBedPrice() != null ? hotel.getPerExtraBedPrice().doubleValue() : 0.0;
+        }
+
+        List<QuoteResponseDTO> quotes = new ArrayList<>(request.getStays().size());
+        for (QuoteRequestDTO.StayDates stay : request.getStays()) {
+            LocalDate checkIn = LocalDate.parse(stay.getCheckInDate(), DATE_FORMATTER);
+            LocalDate checkOut = LocalDate.parse(stay.getCheckOutDate(), DATE_FORMATTER);
+            quotes.add(pricingEngine.quote(room, extraBedPrice, request.getPricingType(),
+                    checkIn, checkOut, numberOfRooms, numberOfExtraBeds));
+        }
+        return quotes;
+    }
+
+    private void validateRule(PricingRuleRequestDTO request) {
+        RateRuleType type = request.getRuleType();
+        if (type == RateRuleType.WEEKEND) {
+            if (request.getDaysOfWeek() == null || request.getDaysOfWeek().isEmpty()) {
+                throw new BookingException("Weekend rules require at least one day of week");
+            }
+            for (Integer day : request.getDaysOfWeek()) {
+                if (day == null || day < 1 || day > 7) {
+                    throw new BookingException("Day of week must be between 1 (Monday) and 7 (Sunday)");
+                }
+            }
+        } else if (type == RateRuleType.SEASONAL) {
+            if (request.getStartDate() == null || request.getEndDate() == null) {
+                throw new BookingException("Seasonal rules require a start and end date");
+            }
+            LocalDate start = LocalDate.parse(request.getStartDate(), DATE_FORMATTER);
+            LocalDate end = LocalDate.parse(request.getEndDate(), DATE_FORMATTER);
+            if (end.isBefore(start)) {
+                throw new BookingException("Season end date cannot be before start date");
+            }
+        } else if (type == RateRuleType.LENGTH_OF_STAY) {
+            if (request.getMinNights() == null) {
+                throw new BookingException("Length of stay rules require minimum nights");
+            }
+        }
+    }
+
+    private RoomResponseDTO getRoom(String roomId) {
+        try {
+            ApiResponse<RoomResponseDTO> response = roomServiceClient.getRoomById(roomId);
+            if (response == null || !response.isSuccess() || response.getData() == null) {
+                throw new BookingException("Room not found");
+            }
+            return response.getData();
+        } catch (FeignException e) {
+            log.error("Room lookup failed for roomId {}: {}", roomId, e.getMessage());
+            throw new BookingException("Room lookup failed: " + e.getMessage());
+        }
+    }
+
+    private HotelResponseDTO getHotel(String hotelId) {
+        try {
+            ApiResponse<HotelResponseDTO> response = hotelServiceClient.getHotelById(hotelId);
+            if (response == null || !response.isSuccess() || response.getData() == null) {
+                throw new BookingException("Hotel not found");
+            }
+            return response.getData();
+        } catch (FeignException e) {
+            log.error("Hotel lookup failed for hotelId {}: {}", hotelId, e.getMessage());
+            throw new BookingException("Hotel lookup failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.ubaid.booking_service.service;
+
+import com.ubaid.booking_service.repository.RateLimitCounterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token-bucket rate limiter keyed by client IP and by user.
+ *
+ * Every decision is made in memory. Accepted requests are also counted per fixed
+ * window and periodically added to shared Firestore counters; a key whose cluster-wide
+ * total exceeds the window limit is blocked locally until the window ends.
+ *
+ * At most max-tracked-keys keys get their own bucket. Beyond that, new keys share one
+ * overflow bucket per scope and are not counted in Firestore, so a flood of distinct
+ * keys can neither grow memory nor the counter writes without bound.
+ */
+@Service
+@Slf4j
+public class RateLimiterService {
+
+    private static final int MAX_KEYS_PER_BATCH = 200;
+
+    private final RateLimitCounterRepository counterRepository;
+    private final Counter ipRejections;
+    private final Counter userRejections;
+    private final Counter clusterRejections;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.ip.capacity:60}")
+    private int ipCapacity;
+
+    @Value("${rate-limit.ip.refill-per-second:1.0}")
+    private double ipRefillPerSecond;
+
+    @Value("${rate-limit.user.capacity:120}")
+    private int userCapacity;
+
+    @Value("${rate-limit.user.refill-per-second:2.0}")
+    private double userRefillPerSecond;
+
+    @Value("${rate-limit.cluster.window-seconds:60}")
+    private int windowSeconds;
+
+    @Value("${rate-limit.cluster.ip-limit-per-window:300}")
+    private long ipLimitPerWindow;
+
+    @Value("${rate-limit.cluster.user-limit-per-window:600}")
+    private long userLimitPerWindow;
+
+    @Value("${rate-limit.idle-eviction-seconds:600}")
+    private long idleEvictionSeconds;
+
+    @Value("${rate-limit.max-tracked-keys:50000}")
+    private int maxTrackedKeys;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> overflowBuckets = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> pendingCounts = new ConcurrentHashMap<>();
+    // key -> epoch millis until which the key is blocked cluster-wide
+    private final Map<String, Long> clusterBlocks = new ConcurrentHashMap<>();
+
+    public RateLimiterService(RateLimitCounterRepository counterRepository, MeterRegistry meterRegistry) {
+        this.counterRepository = counterRepository;
+        this.ipRejections = rejectionCounter(meterRegistry, "ip");
+        this.userRejections = rejectionCounter(meterRegistry, "user");
+        this.clusterRejections = rejectionCounter(meterRegistry, "cluster");
+    }
+
+    /**
+     * Try to admit one request. Returns 0 when admitted, otherwise the number of
+     * seconds the client should wait before retrying.
+     */
+    public long tryAcquire(String clientIp, String userId) {
+        if (!enabled) {
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        String ipKey = "ip:" + clientIp;
+        String userKey = userId != null ? "user:" + userId : null;
+
+        long blockedUntil = Math.max(clusterBlocks.getOrDefault(ipKey, 0L),
+                userKey != null ? clusterBlocks.getOrDefault(userKey, 0L) : 0L);
+        if (blockedUntil > now) {
+            clusterRejections.increment();
+            return toRetrySeconds(blockedUntil - now);
+        }
+
+        TokenBucket ipBucket = bucket(ipKey, "ip", ipCapacity, ipRefillPerSecond);
+        long ipWait = ipBucket.tryConsume();
+        if (ipWait > 0) {
+            ipRejections.increment();
+            return toRetrySeconds(ipWait);
+        }
+
+        if (userKey != null) {
+            TokenBucket userBucket = bucket(userKey, "user", userCapacity, userRefillPerSecond);
+            long userWait = userBucket.tryConsume();
+            if (userWait > 0) {
+                userRejections.increment();
+                return toRetrySeconds(userWait);
+            }
+            if (buckets.get(userKey) == userBucket) {
+                count(userKey);
+            }
+        }
+        // Keys in an overflow bucket are not counted cluster-wide
+        if (buckets.get(ipKey) == ipBucket) {
+            count(ipKey);
+        }
+        return 0;
+    }
+
+    /**
+     * Push local counts to Firestore and pick up keys that are over the cluster limit.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.reconcile-interval-ms:5000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long windowMillis = windowSeconds * 1000L;
+        long windowId = now / windowMillis;
+        long windowEnd = (windowId + 1) * windowMillis;
+
+        Map<String, Long> deltas = drainPendingCounts();
+        clusterBlocks.values().removeIf(until -> until <= now);
+        evictIdleBuckets(now);
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> keys = new ArrayList<>(deltas.keySet());
+            for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_BATCH) {
+                Map<String, Long> chunk = new HashMap<>();
+                for (String key : keys.subList(from, Math.min(keys.size(), from + MAX_KEYS_PER_BATCH))) {
+                    chunk.put(key, deltas.get(key));
+                }
+
+                Map<String, Long> totals = counterRepository.incrementAndGet(chunk, windowId,
+                        new Date(windowEnd + windowMillis));
+                for (Map.Entry<String, Long> total : totals.entrySet()) {
+                    long limit = total.getKey().startsWith("user:") ? userLimitPerWindow : ipLimitPerWindow;
+                    if (total.getValue() > limit) {
+                        clusterBlocks.put(total.getKey(), windowEnd);
+                        log.warn("Rate limit key {} blocked until end of window: {} requests cluster-wide",
+                                total.getKey(), total.getValue());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // Local buckets keep limiting; counts for this interval are dropped
+            log.error("Error reconciling rate limit counters: {}", e.getMessage());
+        }
+    }
+
+    private TokenBucket bucket(String key, String scope, int capacity, double refillPerSecond) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxTrackedKeys) {
+            return overflowBuckets.computeIfAbsent(scope, k -> {
+                log.warn("Rate limiter is tracking {} keys, new {} keys share one bucket", maxTrackedKeys, scope);
+                return new TokenBucket(capacity, refillPerSecond);
+            });
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, refillPerSecond));
+    }
+
+    private void count(String key) {
+        pendingCounts.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    private Map<String, Long> drainPendingCounts() {
+        Map<String, Long> deltas = new HashMap<>();
+        for (Map.Entry<String, AtomicLong> entry : pendingCounts.entrySet()) {
+            long count = entry.getValue().getAndSet(0);
+            if (count > 0) {
+                deltas.put(entry.getKey(), count);
+            } else {
+                pendingCounts.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        return deltas;
+    }
+
+    private void evictIdleBuckets(long now) {
+        long idleMillis = idleEvictionSeconds * 1000L;
+        buckets.values().removeIf(bucket -> now - bucket.lastUsedMillis() > idleMillis);
+        overflowBuckets.values().removeIf(bucket -> now - bucket.lastUsedMillis() > idleMillis);
+    }
+
+    private static long toRetrySeconds(long waitMillis) {
+        return Math.max(1, (waitMillis + 999) / 1000);
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("booking.ratelimit.rejections")
+                .description("Requests rejected by the rate limiter")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Lazily refilled token bucket.
+     */
+    private static final class TokenBucket {
+        private final double capacity;
+        private final double refillPerMilli;
+        private double tokens;
+        private long lastRefillMillis;
+
+        TokenBucket(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerMilli = refillPerSecond / 1000.0;
+            this.tokens = capacity;
+            this.lastRefillMillis = System.currentTimeMillis();
+        }
+
+        /**
+         * Returns 0 if a token was taken, otherwise milliseconds until one is available.
+         */
+        synchronized long tryConsume() {
+            long now = System.currentTimeMillis();
+            tokens = Math.min(capacity, tokens + (now - lastRefillMillis) * refillPerMilli);
+            lastRefillMillis = now;
+
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return 0;
+            }
+            return (long) Math.ceil((1.0 - tokens) / refillPerMilli);
+        }
+
+        synchronized long lastUsedMillis() {
+            return lastRefillMillis;
+        }
+    }
+}
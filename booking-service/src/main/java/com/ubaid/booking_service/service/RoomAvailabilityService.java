@@ -1,8 +1,13 @@
 package com.ubaid.booking_service.service;
 
+import com.ubaid.booking_service.client.HotelServiceClient;
 import com.ubaid.booking_service.client.RoomServiceClient;
+import com.ubaid.booking_service.client.RoomServiceInternalClient;
+import com.ubaid.booking_service.dto.ApiResponse;
 import com.ubaid.booking_service.dto.external.RoomResponseDTO;
 import com.ubaid.booking_service.entity.RoomAvailability;
+import com.ubaid.booking_service.exception.BookingException;
+import com.ubaid.booking_service.repository.ExtraBedAvailabilityRepository;
 import com.ubaid.booking_service.repository.RoomAvailabilityRepository;
 
 
@@ -21,6 +26,9 @@ public class RoomAvailabilityService {
 
     private final RoomAvailabilityRepository availabilityRepository;
     private final RoomServiceClient roomServiceClient;
+    private final RoomServiceInternalClient roomServiceInternalClient;
+    private final HotelServiceClient hotelServiceClient;
+    private final ExtraBedAvailabilityRepository extraBedAvailabilityRepository;
 
     /**
      * Check if the required number of rooms is available for the given date range
@@ -263,4 +271,50 @@ public class RoomAvailabilityService {
         private int totalBookedRooms;
         private int totalAvailableRooms;
     }
-}
\ No newline at end of file
+
+    /**
+     * Drop the availability ledgers of a deleted hotel: room records for the given
+     * rooms and the hotel's extra bed records. Called by hotel-listing-service while
+     * it cleans up, and refused for hotels that are not deleted. Availability records
+     * do not name their hotel, so room-listing-service confirms which of the rooms
+     * belong to it; the others are left alone.
+     */
+    public int purgeDeletedHotel(String hotelId, List<String> roomIds) {
+        try {
+            ApiResponse<Object> deletion = hotelServiceClient.getHotelDeletion(hotelId);
+            if (deletion == null || !deletion.isSuccess()) {
+                throw new BookingException("Hotel " + hotelId + " is not deleted");
+            }
+        } catch (BookingException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Hotel deletion check failed for hotelId {}: {}", hotelId, e.getMessage());
+            throw new BookingException("Hotel deletion check failed: " + e.getMessage());
+        }
+
+        List<String> hotelRoomIds = roomIds.isEmpty() ? List.of() : filterRoomIdsOfHotel(hotelId, roomIds);
+        if (hotelRoomIds.size() < roomIds.size()) {
+            log.warn("Ignoring {} room ids that do not belong to deleted hotel {}",
+                    roomIds.size() - hotelRoomIds.size(), hotelId);
+        }
+
+        int deleted = hotelRoomIds.isEmpty() ? 0 : availabilityRepository.deleteByRoomIds(hotelRoomIds);
+        deleted += extraBedAvailabilityRepository.deleteByHotelId(hotelId);
+        return deleted;
+    }
+
+    private List<String> filterRoomIdsOfHotel(String hotelId, List<String> roomIds) {
+        try {
+            ApiResponse<List<String>> response = roomServiceInternalClient.filterRoomIdsOfHotel(hotelId, roomIds);
+            if (response == null || !response.isSuccess() || response.getData() == null) {
+                throw new BookingException("Room ownership check failed for hotel " + hotelId);
+            }
+            return response.getData();
+        } catch (BookingException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Room ownership check failed for hotelId {}: {}", hotelId, e.getMessage());
+            throw new BookingException("Room ownership check failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.ubaid.booking_service.service;
+
+import com.ubaid.booking_service.dto.QuoteResponseDTO;
+import com.ubaid.booking_service.dto.external.RoomResponseDTO;
+import com.ubaid.booking_service.entity.PricingRule;
+import com.ubaid.booking_service.enums.PricingType;
+import com.ubaid.booking_service.enums.RateRuleType;
+import com.ubaid.booking_service.repository.PricingRuleRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quote latency for a room carrying a realistic rule set: a cached short stay, a cached
+ * 90-night stay that crosses several compiled months, and the booking path that re-reads
+ * the rules on every call.
+ * <p>
+ * Not part of the unit test run. Compile the test sources and start {@link #main} from the
+ * IDE, or run it with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingEngineBenchmark {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2026, 11, 20);
+
+    private PricingEngine engine;
+    private RoomResponseDTO room;
+
+    @Setup
+    public void setUp() {
+        List<PricingRule> rules = new ArrayList<>();
+        rules.add(rule("weekend", RateRuleType.WEEKEND, 25.0).daysOfWeek(List.of(5, 6)).build());
+        rules.add(rule("winter", RateRuleType.SEASONAL, -10.0)
+                .startDate("2026-12-01").endDate("2027-02-28").build());
+        rules.add(rule("holidays", RateRuleType.SEASONAL, 60.0)
+                .startDate("2026-12-22").endDate("2027-01-02").build());
+        rules.add(rule("week", RateRuleType.LENGTH_OF_STAY, -10.0).minNights(7).build());
+        rules.add(rule("month", RateRuleType.LENGTH_OF_STAY, -25.0).minNights(28).build());
+
+        PricingRuleRepository repository = new PricingRuleRepository(null) {
+            @Override
+            public List<PricingRule> findActiveByRoomId(String roomId) {
+                return new ArrayList<>(rules);
+            }
+        };
+        engine = new PricingEngine(repository);
+        ReflectionTestUtils.setField(engine, "cacheTtlMinutes", 10L);
+
+        room = new RoomResponseDTO();
+        room.setRoomId("room-1");
+        room.setBasePrice(120.0);
+    }
+
+    @Benchmark
+    public QuoteResponseDTO weekStay() {
+        return engine.quote(room, 15.0, PricingType.BASE, CHECK_IN, CHECK_IN.plusDays(7), 2, 1);
+    }
+
+    @Benchmark
+    public QuoteResponseDTO ninetyNightStay() {
+        return engine.quote(room, 15.0, PricingType.BASE, CHECK_IN, CHECK_IN.plusDays(90), 1, 0);
+    }
+
+    @Benchmark
+    public QuoteResponseDTO weekStayForBooking() {
+        return engine.quoteForBooking(room, 15.0, PricingType.BASE, CHECK_IN, CHECK_IN.plusDays(7), 2, 1);
+    }
+
+    private static PricingRule.PricingRuleBuilder rule(String id, RateRuleType type, double adjustmentPercent) {
+        return PricingRule.builder()
+                .ruleId(id)
+                .roomId("room-1")
+                .ruleType(type)
+                .adjustmentPercent(adjustmentPercent)
+                .active(true)
+                .updatedAt(LocalDateTime.of(2026, 1, 1, 0, 0));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PricingEngineBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
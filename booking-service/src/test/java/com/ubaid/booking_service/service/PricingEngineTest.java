@@ -0,0 +1,275 @@
+package com.ubaid.booking_service.service;
+
+import com.ubaid.booking_service.dto.QuoteResponseDTO;
+import com.ubaid.booking_service.dto.external.RoomResponseDTO;
+import com.ubaid.booking_service.entity.PricingRule;
+import com.ubaid.booking_service.enums.PricingType;
+import com.ubaid.booking_service.enums.RateRuleType;
+import com.ubaid.booking_service.exception.BookingException;
+import com.ubaid.booking_service.repository.PricingRuleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Checks the compiled prefix-sum tables against a night-by-night reference and pins the
+ * length-of-stay, adjustment-bound and rounding rules of the money calculation.
+ */
+class PricingEngineTest {
+
+    private final List<PricingRule> rules = new ArrayList<>();
+    private final PricingRuleRepository repository = new PricingRuleRepository(null) {
+        @Override
+        public List<PricingRule> findActiveByRoomId(String roomId) {
+            return new ArrayList<>(rules);
+        }
+    };
+    private final PricingEngine engine = new PricingEngine(repository);
+
+    PricingEngineTest() {
+        ReflectionTestUtils.setField(engine, "cacheTtlMinutes", 10L);
+    }
+
+    @Test
+    void sumsNightsAcrossAMonthBoundary() {
+        rules.add(weekend("w", 50.0, 6, 7));
+        rules.add(seasonal("s", 20.0, "2026-01-30", "2026-02-02"));
+
+        // Thu 29 Jan .. Mon 2 Feb: 100 + 120 + 180 + 180 + 120
+        QuoteResponseDTO quote = quote(room(100.0), "2026-01-29", "2026-02-03", 1);
+
+        assertThat(quote.getTotalNights()).isEqualTo(5);
+        assertThat(quote.getNightlySubtotal()).isEqualTo(700.0);
+        assertThat(quote.getRoomTotal()).isEqualTo(700.0);
+        assertThat(quote.getAverageNightlyRate()).isEqualTo(140.0);
+    }
+
+    @Test
+    void prefixSumsMatchNightByNightPricing() {
+        rules.add(weekend("w", 25.0, 5, 6));
+        rules.add(seasonal("winter", -10.0, "2027-12-20", "2028-01-05"));
+        rules.add(seasonal("leap", 40.0, "2028-02-27", "2028-03-02"));
+        RoomResponseDTO room = room(80.0);
+
+        for (LocalDate checkIn = LocalDate.parse("2027-11-15");
+             checkIn.isBefore(LocalDate.parse("2028-03-31")); checkIn = checkIn.plusDays(1)) {
+            for (int nights = 1; nights <= 75; nights += 7) {
+                LocalDate checkOut = checkIn.plusDays(nights);
+                QuoteResponseDTO quote = engine.quote(room, 0.0, PricingType.BASE, checkIn, checkOut, 1, 0);
+
+                assertThat(quote.getNightlySubtotal())
+                        .as("%s + %d nights", checkIn, nights)
+                        .isCloseTo(referenceSubtotal(80.0, checkIn, checkOut), within(0.005));
+            }
+        }
+    }
+
+    @Test
+    void appliesTheLongestQualifyingLengthOfStayRule() {
+        rules.add(lengthOfStay("week", -20.0, 7));
+        rules.add(lengthOfStay("short", -10.0, 3));
+        RoomResponseDTO room = room(100.0);
+
+        QuoteResponseDTO twoNights = quote(room, "2026-03-02", "2026-03-04", 1);
+        assertThat(twoNights.getLengthOfStayAdjustment()).isEqualTo(0.0);
+        assertThat(twoNights.getRoomTotal()).isEqualTo(200.0);
+
+        QuoteResponseDTO threeNights = quote(room, "2026-03-02", "2026-03-05", 1);
+        assertThat(threeNights.getLengthOfStayAdjustment()).isEqualTo(-30.0);
+        assertThat(threeNights.getRoomTotal()).isEqualTo(270.0);
+
+        QuoteResponseDTO sixNights = quote(room, "2026-03-02", "2026-03-08", 1);
+        assertThat(sixNights.getRoomTotal()).isEqualTo(540.0);
+
+        QuoteResponseDTO sevenNights = quote(room, "2026-03-02", "2026-03-09", 1);
+        assertThat(sevenNights.getLengthOfStayAdjustment()).isEqualTo(-140.0);
+        assertThat(sevenNights.getRoomTotal()).isEqualTo(560.0);
+        assertThat(sevenNights.getAverageNightlyRate()).isEqualTo(80.0);
+    }
+
+    @Test
+    void honoursTheAdjustmentBounds() {
+        rules.add(weekend("floor", -90.0, 1, 2, 3, 4, 5, 6, 7));
+        assertThat(quote(room(100.0), "2026-03-02", "2026-03-04", 1).getNightlySubtotal()).isEqualTo(20.0);
+
+        rules.clear();
+        engine.invalidate("room-1");
+        rules.add(weekend("ceiling", 500.0, 1, 2, 3, 4, 5, 6, 7));
+        assertThat(quote(room(100.0), "2026-03-02", "2026-03-04", 1).getNightlySubtotal()).isEqualTo(1200.0);
+    }
+
+    @Test
+    void clampsStoredRulesOutsideTheBounds() {
+        rules.add(weekend("too-low", -150.0, 1, 2, 3, 4, 5, 6, 7));
+        rules.add(lengthOfStay("too-high", 900.0, 1));
+
+        // -150% gives a negative factor, raised to x0.1; +900% for the stay is capped at x6
+        QuoteResponseDTO quote = quote(room(100.0), "2026-03-02", "2026-03-04", 1);
+
+        assertThat(quote.getNightlySubtotal()).isEqualTo(20.0);
+        assertThat(quote.getRoomTotal()).isEqualTo(120.0);
+    }
+
+    @Test
+    void clampsStackedWeekendAndSeasonalFactorsOnce() {
+        rules.add(weekend("weekend", 300.0, 6, 7));
+        rules.add(seasonal("peak", 100.0, "2026-03-01", "2026-03-31"));
+        rules.add(seasonal("fair", -95.0, "2026-03-10", "2026-03-10"));
+
+        // Fri 6 Mar: x2, Sat 7 Mar: x4 x2 = x8, capped at x6
+        assertThat(quote(room(100.0), "2026-03-06", "2026-03-08", 1).getNightlySubtotal()).isEqualTo(800.0);
+        // Tue 10 Mar: x2 x0.05 = x0.1, exactly the floor
+        assertThat(quote(room(100.0), "2026-03-10", "2026-03-11", 1).getNightlySubtotal()).isCloseTo(10.0, within(1e-9));
+    }
+
+    @Test
+    void boundsTheStayWhenLengthOfStayStacksOnNightlyFactors() {
+        rules.add(weekend("all-week", 400.0, 1, 2, 3, 4, 5, 6, 7));
+        rules.add(lengthOfStay("long", 100.0, 2));
+
+        // x5 nightly, x2 for the stay = x10, capped at x6 of the undiscounted stay
+        QuoteResponseDTO quote = quote(room(100.0), "2026-03-02", "2026-03-04", 1);
+
+        assertThat(quote.getNightlySubtotal()).isEqualTo(1000.0);
+        assertThat(quote.getRoomTotal()).isEqualTo(1200.0);
+    }
+
+    @Test
+    void roundsEachAmountToCentsFromUnroundedTotals() {
+        rules.add(lengthOfStay("los", -15.0, 3));
+
+        QuoteResponseDTO quote = engine.quote(room(99.99), 12.5, PricingType.BASE,
+                LocalDate.parse("2026-03-02"), LocalDate.parse("2026-03-05"), 2, 1);
+
+        // 299.97 * 0.85 = 254.9745 per room
+        assertThat(quote.getNightlySubtotal()).isEqualTo(299.97);
+        assertThat(quote.getRoomTotal()).isEqualTo(254.97);
+        assertThat(quote.getLengthOfStayAdjustment()).isEqualTo(-45.0);
+        assertThat(quote.getAverageNightlyRate()).isEqualTo(84.99);
+        assertThat(quote.getTotalExtraBedCost()).isEqualTo(37.5);
+        // 254.9745 * 2 + 37.5 = 547.449, not 254.97 * 2 + 37.5
+        assertThat(quote.getTotalAmount()).isEqualTo(547.45);
+    }
+
+    @Test
+    void pricesTheRequestedOccupancy() {
+        RoomResponseDTO room = room(100.0);
+        room.setPriceForOneGuest(70.0);
+        room.setPriceForTwoGuest(90.0);
+
+        QuoteResponseDTO quote = engine.quote(room, 0.0, PricingType.SINGLE_OCCUPANCY,
+                LocalDate.parse("2026-03-02"), LocalDate.parse("2026-03-04"), 1, 0);
+
+        assertThat(quote.getSelectedRoomPrice()).isEqualTo(70.0);
+        assertThat(quote.getNightlySubtotal()).isEqualTo(140.0);
+    }
+
+    @Test
+    void rejectsInvalidStays() {
+        RoomResponseDTO room = room(100.0);
+
+        assertThatThrownBy(() -> quote(room, "2026-03-02", "2026-03-02", 1))
+                .isInstanceOf(BookingException.class)
+                .hasMessageContaining("after check-in");
+        assertThatThrownBy(() -> quote(room, "2026-01-01", "2027-01-02", 1))
+                .isInstanceOf(BookingException.class)
+                .hasMessageContaining("365");
+    }
+
+    @Test
+    void bookingQuotesPickUpRuleChangesFromOtherInstances() {
+        PricingRule rule = weekend("w", 0.0, 1, 2, 3, 4, 5, 6, 7);
+        rules.add(rule);
+        RoomResponseDTO room = room(100.0);
+        LocalDate checkIn = LocalDate.parse("2026-03-02");
+        LocalDate checkOut = LocalDate.parse("2026-03-03");
+
+        assertThat(engine.quote(room, 0.0, PricingType.BASE, checkIn, checkOut, 1, 0).getTotalAmount())
+                .isEqualTo(100.0);
+
+        // Edited elsewhere: this instance never saw an invalidate()
+        rule.setAdjustmentPercent(50.0);
+        rule.setUpdatedAt(rule.getUpdatedAt().plusSeconds(1));
+
+        assertThat(engine.quote(room, 0.0, PricingType.BASE, checkIn, checkOut, 1, 0).getTotalAmount())
+                .isEqualTo(100.0);
+        assertThat(engine.quoteForBooking(room, 0.0, PricingType.BASE, checkIn, checkOut, 1, 0).getTotalAmount())
+                .isEqualTo(150.0);
+        assertThat(engine.quote(room, 0.0, PricingType.BASE, checkIn, checkOut, 1, 0).getTotalAmount())
+                .isEqualTo(150.0);
+
+        // Deleted elsewhere
+        rules.clear();
+
+        assertThat(engine.quoteForBooking(room, 0.0, PricingType.BASE, checkIn, checkOut, 1, 0).getTotalAmount())
+                .isEqualTo(100.0);
+    }
+
+    private QuoteResponseDTO quote(RoomResponseDTO room, String checkIn, String checkOut, int numberOfRooms) {
+        return engine.quote(room, 0.0, PricingType.BASE,
+                LocalDate.parse(checkIn), LocalDate.parse(checkOut), numberOfRooms, 0);
+    }
+
+    private double referenceSubtotal(double basePrice, LocalDate checkIn, LocalDate checkOut) {
+        double sum = 0.0;
+        for (LocalDate night = checkIn; night.isBefore(checkOut); night = night.plusDays(1)) {
+            double price = basePrice;
+            for (PricingRule rule : rules) {
+                if (rule.getRuleType() == RateRuleType.WEEKEND
+                        && rule.getDaysOfWeek().contains(night.getDayOfWeek().getValue())) {
+                    price *= 1 + rule.getAdjustmentPercent() / 100;
+                } else if (rule.getRuleType() == RateRuleType.SEASONAL
+                        && !night.isBefore(LocalDate.parse(rule.getStartDate()))
+                        && !night.isAfter(LocalDate.parse(rule.getEndDate()))) {
+                    price *= 1 + rule.getAdjustmentPercent() / 100;
+                }
+            }
+            sum += price;
+        }
+        return sum;
+    }
+
+    private static RoomResponseDTO room(double basePrice) {
+        RoomResponseDTO room = new RoomResponseDTO();
+        room.setRoomId("room-1");
+        room.setBasePrice(basePrice);
+        return room;
+    }
+
+    private static PricingRule weekend(String id, double adjustmentPercent, Integer... daysOfWeek) {
+        return rule(id, RateRuleType.WEEKEND, adjustmentPercent)
+                .daysOfWeek(List.of(daysOfWeek))
+                .build();
+    }
+
+    private static PricingRule seasonal(String id, double adjustmentPercent, String startDate, String endDate) {
+        return rule(id, RateRuleType.SEASONAL, adjustmentPercent)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+
+    private static PricingRule lengthOfStay(String id, double adjustmentPercent, int minNights) {
+        return rule(id, RateRuleType.LENGTH_OF_STAY, adjustmentPercent)
+                .minNights(minNights)
+                .build();
+    }
+
+    private static PricingRule.PricingRuleBuilder rule(String id, RateRuleType type, double adjustmentPercent) {
+        return PricingRule.builder()
+                .ruleId(id)
+                .roomId("room-1")
+                .ruleType(type)
+                .adjustmentPercent(adjustmentPercent)
+                .active(true)
+                .updatedAt(LocalDateTime.of(2026, 1, 1, 0, 0));
+    }
+}
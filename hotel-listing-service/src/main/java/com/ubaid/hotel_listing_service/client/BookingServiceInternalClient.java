@@ -0,0 +1,22 @@
+package com.ubaid.hotel_listing_service.client;
+
+import com.ubaid.hotel_listing_service.dto.ApiResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+/**
+ * Internal-only booking-service endpoints. Every call carries the internal token, so
+ * public endpoints belong on a separate client.
+ */
+@FeignClient(name = "booking-service", contextId = "bookingServiceInternalClient",
+        url = "${booking-service.url}", configuration = InternalAuthFeignConfig.class)
+public interface BookingServiceInternalClient {
+
+    @PostMapping("/api/availability/internal/hotels/{hotelId}/purge")
+    ApiResponse<Integer> purgeAvailabilityOfDeletedHotel(@PathVariable("hotelId") String hotelId,
+                                                         @RequestBody List<String> roomIds);
+}
@@ -0,0 +1,24 @@
+package com.ubaid.hotel_listing_service.client;
+
+import com.ubaid.hotel_listing_service.dto.ApiResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Internal-only room-service endpoints. Every call carries the internal token, so
+ * public endpoints belong on a separate client.
+ */
+@FeignClient(name = "room-listing-service", contextId = "roomServiceInternalClient",
+        url = "${room-service.url}", configuration = InternalAuthFeignConfig.class)
+public interface RoomServiceInternalClient {
+
+    @GetMapping("/api/rooms/internal/hotels/{hotelId}/room-ids")
+    ApiResponse<List<String>> getRoomIdsOfDeletedHotel(@PathVariable("hotelId") String hotelId,
+                                                       @RequestParam("limit") int limit);
+
+    @PostMapping("/api/rooms/internal/hotels/{hotelId}/purge")
+    ApiResponse<Integer> purgeRoomsOfDeletedHotel(@PathVariable("hotelId") String hotelId,
+                                                  @RequestBody List<String> roomIds);
+}
@@ -1,5 +1,6 @@
 package com.ubaid.hotel_listing_service.config;
 
+import com.ubaid.hotel_listing_service.controller.HotelController;
 import com.ubaid.hotel_listing_service.service.JwtService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,6 +44,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/hotels/public/**").permitAll()
                         .requestMatchers("/api/hotels/validate-ownership").permitAll()
+                        .requestMatchers("/api/hotels/validate-ownership/batch").permitAll()
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers("/v3/api-docs/**").permitAll()
                         .requestMatchers("/swagger-ui.html").permitAll()
@@ -54,6 +56,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/hotels/my-hotels").authenticated()
                         .requestMatchers("/api/hotels/update/**").authenticated()
                         .requestMatchers("/api/hotels/delete/**").authenticated()
+                        .requestMatchers("/api/hotels/image-jobs/**").authenticated()
+                        .requestMatchers("/api/hotels/import").authenticated()
                         .anyRequest().permitAll()
                 )
                 .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
@@ -160,6 +164,7 @@ public class SecurityConfig {
                 return path.startsWith("/api/hotels/public/") ||
                         path.startsWith("/actuator/") ||
                         path.equals("/api/hotels/validate-ownership") ||
+                        path.equals("/api/hotels/validate-ownership/batch") ||
                         path.startsWith("/v3/api-docs") ||
                         path.startsWith("/swagger-ui") ||
                         path.startsWith("/swagger-resources") ||
@@ -176,6 +181,7 @@ public class SecurityConfig {
         configuration.setAllowedOriginPatterns(List.of("*"));
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
+        configuration.setExposedHeaders(List.of(HotelController.NEXT_CURSOR_HEADER, HotelController.TOTAL_COUNT_HEADER, "Location"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L); // Cache preflight requests for 1 hour
 
@@ -2,31 +2,43 @@ package com.ubaid.hotel_listing_service.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ubaid.hotel_listing_service.dto.*;
-import com.ubaid.hotel_listing_service.entity.Hotel;
-import com.ubaid.hotel_listing_service.repository.HotelRepository;
+import com.ubaid.hotel_listing_service.index.HotelLeaderboardIndex;
+import com.ubaid.hotel_listing_service.index.HotelVersionIndex;
+import com.ubaid.hotel_listing_service.service.HotelChangeService;
+import com.ubaid.hotel_listing_service.service.HotelImportService;
 import com.ubaid.hotel_listing_service.service.HotelService;
 import com.ubaid.hotel_listing_service.service.JwtService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/hotels")
 @RequiredArgsConstructor
 @Slf4j
 public class HotelController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final HotelService hotelService;
+    private final HotelImportService hotelImportService;
+    private final HotelChangeService hotelChangeService;
     private final ObjectMapper objectMapper;
     private final JwtService jwtService;
-    private final HotelRepository hotelRepository;
 
     // ... [createHotel, getMyHotels, updateHotel, deleteHotel, getAllHotels remain unchanged] ...
 
@@ -35,6 +47,7 @@ public class HotelController {
             @RequestParam("hotel") String hotelJson,
             @RequestParam(value = "hotelImages", required = false) List<MultipartFile> hotelImages,
             @RequestParam(value = "googleMapScreenshot", required = false) MultipartFile googleMapScreenshot,
+            @RequestParam(value = "async", defaultValue = "false") boolean async,
             HttpServletRequest request) {
         String userId = (String) request.getAttribute("userId");
         if (userId == null) {
@@ -42,7 +55,13 @@ public class HotelController {
         }
         try {
             HotelRequestDTO hotelRequest = objectMapper.readValue(hotelJson, HotelRequestDTO.class);
-            HotelResponseDTO hotel = hotelService.createHotel(userId, hotelRequest, hotelImages, googleMapScreenshot);
+            HotelResponseDTO hotel = hotelService.createHotel(userId, hotelRequest, hotelImages, googleMapScreenshot, async);
+            if (hotel.getImageJob() != null) {
+                // Saved; images are still uploading and can be tracked at the job URL
+                return ResponseEntity.accepted()
+                        .location(URI.create("/api/hotels/image-jobs/" + hotel.getImageJob().getJobId()))
+                        .body(ApiResponse.success("Hotel created, images are being processed", hotel));
+            }
             return ResponseEntity.ok(ApiResponse.success("Hotel created successfully", hotel));
         } catch (Exception e) {
             log.error("Error creating hotel: {}", e.getMessage());
@@ -50,6 +69,40 @@ public class HotelController {
         }
     }
 
+    /**
+     * Create hotels for the caller from an NDJSON ({@code application/x-ndjson}) or CSV
+     * ({@code text/csv}) body, read as a stream. Rows that fail are listed in the report.
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ApiResponse<HotelImportReport>> importHotels(
+            @RequestParam(value = "dryRun", defaultValue = "false") boolean dryRun,
+            HttpServletRequest request) {
+        String userId = (String) request.getAttribute("userId");
+        if (userId == null) {
+            return ResponseEntity.status(401).body(ApiResponse.error("User authentication required"));
+        }
+        try {
+            HotelImportReport report = hotelImportService.importHotels(userId, request.getReader(), request.getContentType(), dryRun);
+            String message = String.format("Import %s: %d created, %d failed",
+                    dryRun ? "validated" : "finished", report.getCreated(), report.getFailed());
+            return ResponseEntity.ok(ApiResponse.success(message, report));
+        } catch (Exception e) {
+            log.error("Error importing hotels: {}", e.getMessage());
+            return ResponseEntity.status(500).body(ApiResponse.error("Failed to import hotels: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/image-jobs/{jobId}")
+    public ResponseEntity<ApiResponse<ImageJobDTO>> getImageJob(@PathVariable String jobId, HttpServletRequest request) {
+        String userId = (String) request.getAttribute("userId");
+        if (userId == null) {
+            return ResponseEntity.status(401).body(ApiResponse.error("User authentication required"));
+        }
+        return hotelService.findImageJob(userId, jobId)
+                .map(job -> ResponseEntity.ok(ApiResponse.success("Image job retrieved successfully", job)))
+                .orElseGet(() -> ResponseEntity.status(404).body(ApiResponse.error("Image job not found")));
+    }
+
     @GetMapping("/my-hotels")
     public ResponseEntity<ApiResponse<List<HotelResponseDTO>>> getMyHotels(HttpServletRequest request) {
         String userId = (String) request.getAttribute("userId");
@@ -97,7 +150,10 @@ public class HotelController {
         }
         try {
             hotelService.deleteHotel(userId, hotelId);
-            return ResponseEntity.ok(ApiResponse.success("Hotel deleted successfully", hotelId));
+            // Gone from all reads already; rooms, availability and images follow in the background
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/hotels/public/deletions/" + hotelId))
+                    .body(ApiResponse.success("Hotel deleted successfully", hotelId));
         } catch (Exception e) {
             log.error("Error deleting hotel: {}", e.getMessage());
             return ResponseEntity.status(500).body(ApiResponse.error("Failed to delete hotel: " + e.getMessage()));
@@ -105,10 +161,10 @@ public class HotelController {
     }
 
     @GetMapping("/public/all")
-    public ResponseEntity<ApiResponse<List<HotelResponseDTO>>> getAllHotels() {
+    public ResponseEntity<ApiResponse<List<Object>>> getAllHotels(HotelPageRequest pageRequest) {
         try {
-            List<HotelResponseDTO> hotels = hotelService.getAllHotels();
-            return ResponseEntity.ok(ApiResponse.success("Hotels retrieved successfully", hotels));
+            HotelPage<Object> hotels = hotelService.getAllHotels(pageRequest);
+            return pageResponse("Hotels retrieved successfully", hotels);
         } catch (Exception e) {
             log.error("Error retrieving all hotels: {}", e.getMessage());
             return ResponseEntity.status(500).body(ApiResponse.error("Failed to retrieve hotels: " + e.getMessage()));
@@ -117,21 +173,22 @@ public class HotelController {
 
     // --- NEW SEARCH ENDPOINT ADDED HERE ---
     @GetMapping("/public/search")
-    public ResponseEntity<ApiResponse<List<HotelResponseDTO>>> searchHotels(
+    public ResponseEntity<ApiResponse<List<Object>>> searchHotels(
             @RequestParam(required = false) String hotelName,
-            @RequestParam(required = false) String location) {
+            @RequestParam(required = false) String location,
+            HotelPageRequest pageRequest) {
         try {
-            List<HotelResponseDTO> hotels;
+            HotelPage<Object> hotels;
             if (hotelName != null && !hotelName.trim().isEmpty()) {
                 // Call the new service method for name search
-                hotels = hotelService.searchHotelsByName(hotelName);
+                hotels = hotelService.searchHotelsByName(hotelName, pageRequest);
             } else if (location != null && !location.trim().isEmpty()) {
                 // Call existing location search
-                hotels = hotelService.searchHotels(location);
+                hotels = hotelService.searchHotels(location, pageRequest);
             } else {
-                hotels = hotelService.getAllHotels();
+                hotels = hotelService.getAllHotels(pageRequest);
             }
-            return ResponseEntity.ok(ApiResponse.success("Search completed", hotels));
+            return pageResponse("Search completed", hotels);
         } catch (Exception e) {
             log.error("Error searching hotels: {}", e.getMessage());
             return ResponseEntity.status(500).body(ApiResponse.error("Failed to search hotels: " + e.getMessage()));
@@ -139,11 +196,154 @@ public class HotelController {
     }
     // --------------------------------------
 
+    @GetMapping("/public/top")
+    public ResponseEntity<?> getTopHotels(
+            @RequestParam String location,
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest webRequest) {
+        try {
+            HotelLeaderboardIndex.Response top = hotelService.getTopHotels(location, limit);
+            if (webRequest.checkNotModified(top.etag())) {
+                return null;
+            }
+            CacheControl cacheControl = top.maxAgeSeconds() > 0
+                    ? CacheControl.maxAge(top.maxAgeSeconds(), TimeUnit.SECONDS).cachePublic()
+                    : CacheControl.noCache();
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(top.etag())
+                    .cacheControl(cacheControl)
+                    .body(top.body());
+        } catch (Exception e) {
+            log.error("Error getting top hotels: {}", e.getMessage());
+            return ResponseEntity.status(500).body(ApiResponse.error("Failed to get top hotels: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Server-Sent Events stream of hotel upserts and deletes. A reconnecting EventSource
+     * resumes through Last-Event-ID; other clients can pass epoch and since.
+     */
+    @GetMapping(value = "/public/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(required = false) String epoch,
+            @RequestParam(required = false) Long since) {
+        try {
+            return ResponseEntity.ok(hotelChangeService.subscribe(lastEventId, epoch, since));
+        } catch (Exception e) {
+            log.warn("Rejected hotel change stream: {}", e.getMessage());
+            return ResponseEntity.status(503).header("Retry-After", "30").build();
+        }
+    }
+
+    /**
+     * Long-poll variant of the change stream: returns once there are changes after
+     * since, or an empty page when the timeout passes. Without since it returns the
+     * current position at once. Positions are per instance, so a poll answered by
+     * another instance comes back as a reset.
+     */
+    @GetMapping("/public/changes/poll")
+    public CompletableFuture<ResponseEntity<ApiResponse<HotelChangePage>>> pollChanges(
+            @RequestParam(required = false) String epoch,
+            @RequestParam(required = false) Long since,
+            @RequestParam(defaultValue = "25") int timeoutSeconds) {
+        try {
+            return hotelChangeService.poll(epoch, since, timeoutSeconds)
+                    .thenApply(page -> ResponseEntity.ok(ApiResponse.success(page.isReset()
+                            ? "Changes were missed, cached hotels must be reloaded"
+                            : String.format("Found %d changes", page.getChanges().size()), page)));
+        } catch (Exception e) {
+            log.warn("Rejected hotel change poll: {}", e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.status(503).header("Retry-After", "30")
+                    .body(ApiResponse.error("Failed to poll hotel changes: " + e.getMessage())));
+        }
+    }
+
+    @GetMapping("/public/suggest")
+    public ResponseEntity<ApiResponse<List<SuggestionDTO>>> suggest(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<SuggestionDTO> suggestions = hotelService.suggest(query, limit);
+            return ResponseEntity.ok(ApiResponse.success("Suggestions retrieved", suggestions));
+        } catch (Exception e) {
+            log.error("Error getting suggestions: {}", e.getMessage());
+            return ResponseEntity.status(500).body(ApiResponse.error("Failed to get suggestions: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/public/nearby")
+    public ResponseEntity<ApiResponse<List<HotelDistanceDTO>>> findNearbyHotels(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            List<HotelDistanceDTO> hotels = hotelService.findNearbyHotels(lat, lng, radiusKm, limit);
+            String message = String.format("Found %d hotels within %.1f km", hotels.size(), radiusKm);
+            return ResponseEntity.ok(ApiResponse.success(message, hotels));
+        } catch (Exception e) {
+            log.error("Error finding nearby hotels: {}", e.getMessage());
+            return ResponseEntity.status(500).body(ApiResponse.error("Failed to find nearby hotels: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/public/within-bounds")
+    public ResponseEntity<ApiResponse<List<HotelDistanceDTO>>> findHotelsWithinBounds(
+            @RequestParam double minLat,
+            @RequestParam double minLng,
+            @RequestParam double maxLat,
+            @RequestParam double maxLng,
+            @RequestParam(defaultValue = "200") int limit) {
+        try {
+            List<HotelDistanceDTO> hotels = hotelService.findHotelsWithinBounds(minLat, minLng, maxLat, maxLng, limit);
+            String message = String.format("Found %d hotels in the selected area", hotels.size());
+            return ResponseEntity.ok(ApiResponse.success(message, hotels));
+        } catch (Exception e) {
+            log.error("Error finding hotels within bounds: {}", e.getMessage());
+            return ResponseEntity.status(500).body(ApiResponse.error("Failed to find hotels in area: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/public/batch")
+    public ResponseEntity<ApiResponse<HotelBatchResponse>> getHotelsByIds(@RequestBody HotelBatchRequest batchRequest) {
+        try {
+            HotelBatchResponse response = hotelService.getHotelsByIds(batchRequest);
+            String message = String.format("Found %d hotels, %d missing", response.getHotels().size(), response.getMissingIds().size());
+            return ResponseEntity.ok(ApiResponse.success(message, response));
+        } catch (Exception e) {
+            log.error("Error retrieving hotel batch: {}", e.getMessage());
+            return ResponseEntity.status(500).body(ApiResponse.error("Failed to retrieve hotels: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/public/deletions/{hotelId}")
+    public ResponseEntity<ApiResponse<HotelDeletionDTO>> getHotelDeletion(@PathVariable String hotelId) {
+        try {
+            return hotelService.findHotelDeletion(hotelId)
+                    .map(deletion -> ResponseEntity.ok(ApiResponse.success("Hotel deletion retrieved successfully", deletion)))
+                    .orElseGet(() -> ResponseEntity.status(404).body(ApiResponse.error("Hotel is not deleted")));
+        } catch (Exception e) {
+            log.error("Error retrieving hotel deletion: {}", e.getMessage());
+            return ResponseEntity.status(500).body(ApiResponse.error("Failed to retrieve hotel deletion: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/public/{hotelId}")
-    public ResponseEntity<ApiResponse<HotelResponseDTO>> getHotelById(@PathVariable String hotelId) {
+    public ResponseEntity<ApiResponse<HotelResponseDTO>> getHotelById(@PathVariable String hotelId, WebRequest webRequest) {
         try {
-            HotelResponseDTO hotel = hotelService.getHotelById(hotelId);
-            return ResponseEntity.ok(ApiResponse.success("Hotel retrieved successfully", hotel));
+            // Revalidation of an unchanged hotel is answered from the version map
+            HotelVersionIndex.Version known = hotelService.findHotelVersion(hotelId);
+            if (known != null && webRequest.checkNotModified(known.etag(), known.lastModified())) {
+                return null;
+            }
+            VersionedHotel hotel = hotelService.getVersionedHotelById(hotelId);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(hotel.getEtag());
+            if (hotel.getLastModified() >= 0) {
+                response.lastModified(hotel.getLastModified());
+            }
+            return response.body(ApiResponse.success("Hotel retrieved successfully", hotel.getHotel()));
         } catch (Exception e) {
             log.error("Error retrieving hotel by ID: {}", e.getMessage());
             return ResponseEntity.status(500).body(ApiResponse.error("Failed to retrieve hotel: " + e.getMessage()));
@@ -151,14 +351,15 @@ public class HotelController {
     }
 
     @GetMapping("/public/search-by-location-and-time")
-    public ResponseEntity<ApiResponse<List<HotelResponseDTO>>> searchHotelsByLocationAndTime(
+    public ResponseEntity<ApiResponse<List<Object>>> searchHotelsByLocationAndTime(
             @RequestParam String location,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime checkInTime,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime checkOutTime) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime checkOutTime,
+            HotelPageRequest pageRequest) {
         try {
-            List<HotelResponseDTO> hotels = hotelService.searchHotelsByLocationAndTime(location, checkInTime, checkOutTime);
-            String message = String.format("Found %d hotels for location: %s", hotels.size(), location);
-            return ResponseEntity.ok(ApiResponse.success(message, hotels));
+            HotelPage<Object> hotels = hotelService.searchHotelsByLocationAndTime(location, checkInTime, checkOutTime, pageRequest);
+            String message = String.format("Found %d hotels for location: %s", hotels.getTotalMatches(), location);
+            return pageResponse(message, hotels);
         } catch (Exception e) {
             log.error("Error searching hotels by location and time: {}", e.getMessage());
             return ResponseEntity.status(500).body(ApiResponse.error("Failed to search hotels: " + e.getMessage()));
@@ -166,15 +367,16 @@ public class HotelController {
     }
 
     @GetMapping("/public/search-by-location-and-time-flexible")
-    public ResponseEntity<ApiResponse<List<HotelResponseDTO>>> searchHotelsByLocationAndTimeWithTolerance(
+    public ResponseEntity<ApiResponse<List<Object>>> searchHotelsByLocationAndTimeWithTolerance(
             @RequestParam String location,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime checkInTime,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime checkOutTime,
-            @RequestParam(defaultValue = "60") int toleranceMinutes) {
+            @RequestParam(defaultValue = "60") int toleranceMinutes,
+            HotelPageRequest pageRequest) {
         try {
-            List<HotelResponseDTO> hotels = hotelService.searchHotelsByLocationAndTimeWithTolerance(location, checkInTime, checkOutTime, toleranceMinutes);
-            String message = String.format("Found %d hotels for location: %s with %d minutes tolerance", hotels.size(), location, toleranceMinutes);
-            return ResponseEntity.ok(ApiResponse.success(message, hotels));
+            HotelPage<Object> hotels = hotelService.searchHotelsByLocationAndTimeWithTolerance(location, checkInTime, checkOutTime, toleranceMinutes, pageRequest);
+            String message = String.format("Found %d hotels for location: %s with %d minutes tolerance", hotels.getTotalMatches(), location, toleranceMinutes);
+            return pageResponse(message, hotels);
         } catch (Exception e) {
             log.error("Error searching hotels with time tolerance: {}", e.getMessage());
             return ResponseEntity.status(500).body(ApiResponse.error("Failed to search hotels: " + e.getMessage()));
@@ -182,19 +384,20 @@ public class HotelController {
     }
 
     @GetMapping("/public/advanced-search")
-    public ResponseEntity<ApiResponse<List<HotelResponseDTO>>> advancedHotelSearch(
+    public ResponseEntity<ApiResponse<List<Object>>> advancedHotelSearch(
             @RequestParam String location,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime checkInTime,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime checkOutTime,
             @RequestParam(required = false) Double minRating,
-            @RequestParam(required = false) List<String> amenities) {
+            @RequestParam(required = false) List<String> amenities,
+            HotelPageRequest pageRequest) {
         try {
             if (minRating != null && (minRating < 0 || minRating > 5)) {
                 return ResponseEntity.status(400).body(ApiResponse.error("Rating must be between 0 and 5"));
             }
-            List<HotelResponseDTO> hotels = hotelService.advancedHotelSearch(location, checkInTime, checkOutTime, minRating, amenities);
-            String message = String.format("Advanced search found %d hotels", hotels.size());
-            return ResponseEntity.ok(ApiResponse.success(message, hotels));
+            HotelPage<Object> hotels = hotelService.advancedHotelSearch(location, checkInTime, checkOutTime, minRating, amenities, pageRequest);
+            String message = String.format("Advanced search found %d hotels", hotels.getTotalMatches());
+            return pageResponse(message, hotels);
         } catch (Exception e) {
             log.error("Error in advanced hotel search: {}", e.getMessage());
             return ResponseEntity.status(500).body(ApiResponse.error("Failed to perform search: " + e.getMessage()));
@@ -202,16 +405,17 @@ public class HotelController {
     }
 
     @PostMapping("/public/search-with-datetime-range")
-    public ResponseEntity<ApiResponse<List<HotelResponseDTO>>> searchHotelsWithDateTimeRange(@RequestBody HotelSearchRequest searchRequest) {
+    public ResponseEntity<ApiResponse<List<Object>>> searchHotelsWithDateTimeRange(@RequestBody HotelSearchRequest searchRequest,
+                                                                                           HotelPageRequest pageRequest) {
         try {
             if (searchRequest.getLocation() == null || searchRequest.getLocation().trim().isEmpty()) {
                 return ResponseEntity.status(400).body(ApiResponse.error("Location is required"));
             }
             LocalTime checkInTime = searchRequest.getCheckInDateTime() != null ? searchRequest.getCheckInDateTime().toLocalTime() : null;
             LocalTime checkOutTime = searchRequest.getCheckOutDateTime() != null ? searchRequest.getCheckOutDateTime().toLocalTime() : null;
-            List<HotelResponseDTO> hotels = hotelService.searchHotelsByLocationAndTime(searchRequest.getLocation(), checkInTime, checkOutTime);
-            String message = String.format("Found %d hotels matching your criteria", hotels.size());
-            return ResponseEntity.ok(ApiResponse.success(message, hotels));
+            HotelPage<Object> hotels = hotelService.searchHotelsByLocationAndTime(searchRequest.getLocation(), checkInTime, checkOutTime, pageRequest);
+            String message = String.format("Found %d hotels matching your criteria", hotels.getTotalMatches());
+            return pageResponse(message, hotels);
         } catch (Exception e) {
             log.error("Error searching hotels with datetime range: {}", e.getMessage());
             return ResponseEntity.status(500).body(ApiResponse.error("Failed to search hotels: " + e.getMessage()));
@@ -221,19 +425,7 @@ public class HotelController {
     @GetMapping("/public/available-time-slots")
     public ResponseEntity<ApiResponse<TimeSlotResponse>> getAvailableTimeSlots(@RequestParam String location) {
         try {
-            List<HotelResponseDTO> hotels = hotelService.searchHotels(location);
-            Set<LocalTime> availableCheckInTimes = new TreeSet<>();
-            Set<LocalTime> availableCheckOutTimes = new TreeSet<>();
-            for (HotelResponseDTO hotel : hotels) {
-                if (hotel.getCheckinTime() != null) availableCheckInTimes.add(hotel.getCheckinTime());
-                if (hotel.getCheckoutTime() != null) availableCheckOutTimes.add(hotel.getCheckoutTime());
-            }
-            TimeSlotResponse response = TimeSlotResponse.builder()
-                    .location(location)
-                    .availableCheckInTimes(new ArrayList<>(availableCheckInTimes))
-                    .availableCheckOutTimes(new ArrayList<>(availableCheckOutTimes))
-                    .totalHotels(hotels.size())
-                    .build();
+            TimeSlotResponse response = hotelService.getAvailableTimeSlots(location);
             return ResponseEntity.ok(ApiResponse.success("Available time slots retrieved", response));
         } catch (Exception e) {
             log.error("Error getting available time slots: {}", e.getMessage());
@@ -244,12 +436,36 @@ public class HotelController {
     @GetMapping("/validate-ownership")
     public ResponseEntity<ApiResponse<Boolean>> validateHotelOwnership(@RequestParam String userId, @RequestParam String hotelId) {
         try {
-            Optional<Hotel> hotel = hotelRepository.findById(hotelId);
-            boolean isOwner = hotel.isPresent() && hotel.get().getUserId().equals(userId);
+            boolean isOwner = hotelService.isHotelOwner(userId, hotelId);
             return ResponseEntity.ok(ApiResponse.success("Ownership validation complete", isOwner));
         } catch (Exception e) {
             log.error("Error validating hotel ownership: {}", e.getMessage());
             return ResponseEntity.status(500).body(ApiResponse.error("Error validating ownership: " + e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    @PostMapping("/validate-ownership/batch")
+    public ResponseEntity<ApiResponse<HotelOwnershipResponse>> validateHotelOwnershipBatch(@RequestBody HotelOwnershipRequest ownershipRequest) {
+        try {
+            HotelOwnershipResponse response = hotelService.validateOwnership(ownershipRequest);
+            String message = String.format("Ownership validation complete, %d of %d hotels owned",
+                    response.getOwnedIds().size(), response.getOwnedIds().size() + response.getNotOwnedIds().size());
+            return ResponseEntity.ok(ApiResponse.success(message, response));
+        } catch (Exception e) {
+            log.error("Error validating hotel ownership batch: {}", e.getMessage());
+            return ResponseEntity.status(500).body(ApiResponse.error("Error validating ownership: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Page metadata goes in headers so the list payload keeps its existing shape.
+     */
+    private static <T> ResponseEntity<ApiResponse<List<T>>> pageResponse(String message, HotelPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(page.getTotalMatches()));
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(ApiResponse.success(message, page.getHotels()));
+    }
+}
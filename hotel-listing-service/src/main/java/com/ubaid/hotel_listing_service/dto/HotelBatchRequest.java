@@ -0,0 +1,17 @@
+package com.ubaid.hotel_listing_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelBatchRequest {
+    private List<String> hotelIds; // Up to 300 ids
+    private String view; // full (default) or summary
+}
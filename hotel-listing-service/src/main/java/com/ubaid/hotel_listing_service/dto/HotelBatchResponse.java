@@ -0,0 +1,17 @@
+package com.ubaid.hotel_listing_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelBatchResponse {
+    private List<Object> hotels; // In request order, without missing ids
+    private List<String> missingIds;
+}
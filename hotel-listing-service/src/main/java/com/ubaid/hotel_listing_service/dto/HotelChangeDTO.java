@@ -0,0 +1,24 @@
+package com.ubaid.hotel_listing_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelChangeDTO {
+    private long sequence;
+    private Type type;
+    private String hotelId;
+    private LocalDateTime updatedAt; // The hotel's updatedAt; null for DELETE
+    private LocalDateTime occurredAt;
+
+    public enum Type {
+        UPSERT, DELETE
+    }
+}
@@ -0,0 +1,19 @@
+package com.ubaid.hotel_listing_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelChangePage {
+    private String epoch; // Sequences are only comparable within one epoch
+    private boolean reset; // Changes were missed; drop cached hotels and resume from nextSequence
+    private long nextSequence; // Pass as since on the next poll
+    private List<HotelChangeDTO> changes;
+}
@@ -0,0 +1,26 @@
+package com.ubaid.hotel_listing_service.dto;
+
+import com.ubaid.hotel_listing_service.entity.HotelDeletion;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelDeletionDTO {
+    private String hotelId;
+    private String hotelName;
+    private HotelDeletion.State state;
+    private Integer roomsDeleted;
+    private Integer imagesDeleted;
+    private Integer imagesRemaining;
+    private Integer attempts;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,15 @@
+package com.ubaid.hotel_listing_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelDistanceDTO {
+    private HotelResponseDTO hotel;
+    private Double distanceKm;
+}
@@ -0,0 +1,30 @@
+package com.ubaid.hotel_listing_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelImportReport {
+    private int totalRows;
+    private int created; // Rows that passed validation when dryRun is set
+    private int failed;
+    private boolean dryRun;
+    private long durationMillis;
+    private List<RowError> errors; // Sorted by row, capped at hotel-import.max-reported-errors
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int row; // 1-based, not counting a CSV header
+        private String hotelName;
+        private String message;
+    }
+}
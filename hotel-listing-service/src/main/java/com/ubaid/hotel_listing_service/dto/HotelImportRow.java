@@ -0,0 +1,26 @@
+package com.ubaid.hotel_listing_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One line of a bulk import: the same fields as a create request, plus image URLs for
+ * Cloudinary to fetch instead of uploaded files.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelImportRow {
+    @Valid
+    @JsonUnwrapped
+    private HotelRequestDTO hotel = new HotelRequestDTO();
+    @Size(max = 12, message = "Maximum 12 hotel images are allowed")
+    private List<String> imageUrls;
+    private String googleMapScreenshotUrl;
+}
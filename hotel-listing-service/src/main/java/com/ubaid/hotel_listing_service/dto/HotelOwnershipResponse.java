@@ -0,0 +1,18 @@
+package com.ubaid.hotel_listing_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelOwnershipResponse {
+    private boolean allOwned;
+    private List<String> ownedIds; // In request order
+    private List<String> notOwnedIds; // Owned by someone else or missing
+}
@@ -0,0 +1,18 @@
+package com.ubaid.hotel_listing_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelPage<T> {
+    private List<T> hotels;
+    private String nextCursor; // Null on the last page
+    private int totalMatches;
+}
@@ -0,0 +1,29 @@
+package com.ubaid.hotel_listing_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional paging and projection parameters shared by the public listing endpoints.
+ * When no paging parameter is given the full result list is returned as before.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelPageRequest {
+    private Integer limit;
+    private String cursor; // Opaque, taken from the X-Next-Cursor header of the previous page
+    private String sort; // rating, name or newest
+    private String view; // full (default) or summary
+
+    public boolean isPaged() {
+        return limit != null || cursor != null || sort != null;
+    }
+
+    public boolean isSummaryView() {
+        return "summary".equalsIgnoreCase(view);
+    }
+}
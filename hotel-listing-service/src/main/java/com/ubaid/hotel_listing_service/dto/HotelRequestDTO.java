@@ -25,6 +25,12 @@ public class HotelRequestDTO {
     @NotBlank(message = "Hotel location is required")
     private String hotelLocation;
     private String locationLink;
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
     @Size(max = 5, message = "Maximum 5 descriptions allowed")
     private List<HotelDescription> descriptions;
     @Size(max = 15, message = "Maximum 15 amenities allowed")
@@ -1,5 +1,6 @@
 package com.ubaid.hotel_listing_service.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.ubaid.hotel_listing_service.entity.Amenity;
 import com.ubaid.hotel_listing_service.entity.HotelDescription;
 import lombok.AllArgsConstructor;
@@ -22,6 +23,8 @@ public class HotelResponseDTO {
     private Double rating;
     private String hotelLocation;
     private String locationLink;
+    private Double latitude;
+    private Double longitude;
     private List<String> hotelImages;
     private String googleMapScreenshot;
     private List<HotelDescription> descriptions;
@@ -32,4 +35,6 @@ public class HotelResponseDTO {
     private LocalTime checkoutTime;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ImageJobDTO imageJob; // Only on async creates, while images are still uploading
 }
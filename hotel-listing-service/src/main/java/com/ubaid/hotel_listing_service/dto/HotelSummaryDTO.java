@@ -0,0 +1,21 @@
+package com.ubaid.hotel_listing_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Compact listing view of a hotel, returned for {@code view=summary}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelSummaryDTO {
+    private String hotelId;
+    private String hotelName;
+    private Double rating;
+    private String hotelLocation;
+    private String thumbnailUrl; // First hotel image, if any
+}
@@ -0,0 +1,27 @@
+package com.ubaid.hotel_listing_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageJobDTO {
+    private String jobId;
+    private String hotelId;
+    private Status status;
+    private Integer totalImages;
+    private Integer uploadedImages;
+    private String error; // Set when status is FAILED
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+}
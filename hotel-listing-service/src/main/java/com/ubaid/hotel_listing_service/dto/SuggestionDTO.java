@@ -0,0 +1,17 @@
+package com.ubaid.hotel_listing_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDTO {
+    private String text;
+    private String type; // "HOTEL" or "LOCATION"
+    private String hotelId; // Set for hotel suggestions only
+    private Double rating;
+}
@@ -0,0 +1,17 @@
+package com.ubaid.hotel_listing_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A hotel together with the validators for the exact version that was read.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VersionedHotel {
+    private HotelResponseDTO hotel;
+    private String etag;
+    private long lastModified;
+}
@@ -16,6 +16,8 @@ public class Hotel {
     private Double rating;
     private String hotelLocation;
     private String locationLink;
+    private Double latitude; // Extracted from locationLink when not given
+    private Double longitude;
     private List<String> hotelImages; // Max 12 images
     private String googleMapScreenshot;
     private List<HotelDescription> descriptions; // Max 5 descriptions
@@ -0,0 +1,35 @@
+package com.ubaid.hotel_listing_service.entity;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Tombstone of a deleted hotel. Written in the same batch that deletes the hotel
+ * document, then updated as the rooms, availability and images behind it are removed.
+ * Only the instance holding an unexpired lease on it may run or update it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelDeletion {
+    private String hotelId;
+    private String userId;
+    private String hotelName;
+    private List<String> imageUrls; // Hotel images and map screenshot not yet deleted
+    private State state;
+    private Integer roomsDeleted;
+    private Integer imagesDeleted;
+    private Integer attempts; // Failed attempts of the current step
+    private String lastError;
+    private String leaseOwner; // Instance currently running the deletion
+    private LocalDateTime leaseExpiresAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public enum State {
+        PURGING_ROOMS, DELETING_IMAGES, COMPLETED
+    }
+}
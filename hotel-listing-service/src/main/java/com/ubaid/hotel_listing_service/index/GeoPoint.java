@@ -0,0 +1,60 @@
+package com.ubaid.hotel_listing_service.index;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A latitude/longitude pair, with extraction from the map links owners paste in.
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final String NUMBER = "(-?\\d{1,3}(?:\\.\\d+)?)";
+
+    // Most specific first: place pin (!3d..!4d..), viewport (@lat,lng), then query parameters
+    private static final Pattern[] LINK_PATTERNS = {
+            Pattern.compile("!3d" + NUMBER + "!4d" + NUMBER),
+            Pattern.compile("@" + NUMBER + "," + NUMBER),
+            Pattern.compile("[?&](?:q|query|ll|destination|center)=" + NUMBER + "(?:,|%2C)" + NUMBER,
+                    Pattern.CASE_INSENSITIVE)
+    };
+
+    /**
+     * Coordinates embedded in a Google Maps style link, or null if the link has none
+     * (for example a shortened maps.app.goo.gl link).
+     */
+    public static GeoPoint fromLocationLink(String locationLink) {
+        if (locationLink == null || locationLink.isBlank()) {
+            return null;
+        }
+
+        for (Pattern pattern : LINK_PATTERNS) {
+            Matcher matcher = pattern.matcher(locationLink);
+            if (matcher.find()) {
+                double latitude = Double.parseDouble(matcher.group(1));
+                double longitude = Double.parseDouble(matcher.group(2));
+                if (isValid(latitude, longitude)) {
+                    return new GeoPoint(latitude, longitude);
+                }
+            }
+        }
+        return null;
+    }
+
+    public static boolean isValid(double latitude, double longitude) {
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+
+    /**
+     * Great-circle distance in kilometres.
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
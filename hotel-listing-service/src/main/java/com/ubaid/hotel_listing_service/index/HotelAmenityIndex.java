@@ -0,0 +1,197 @@
+package com.ubaid.hotel_listing_service.index;
+
+import com.ubaid.hotel_listing_service.entity.Amenity;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.repository.HotelCatalog;
+import com.ubaid.hotel_listing_service.repository.HotelCatalogListener;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitset index of available amenities and ratings per hotel ordinal.
+ *
+ * Amenity names are interned (lowercased) into small int ids, each with a bitset of
+ * the hotels offering it. A search compiles its amenity names and minimum rating once;
+ * checking a hotel is then a few bit tests and a float compare.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotelAmenityIndex implements HotelCatalogListener {
+
+    private static final int[] NO_AMENITIES = new int[0];
+
+    private final HotelCatalog hotelCatalog;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> amenityIds = new HashMap<>();
+    private final List<long[]> hotelsByAmenity = new ArrayList<>();
+    private int[][] amenitiesByOrdinal = new int[1024][];
+    private float[] ratingsByOrdinal = new float[1024];
+
+    /**
+     * Compiled search criteria. A null filter from {@link #compile} means no hotel can match.
+     */
+    public static final class AmenityFilter {
+        private final int[] amenityIds;
+        private final float minRating;
+
+        private AmenityFilter(int[] amenityIds, float minRating) {
+            this.amenityIds = amenityIds;
+            this.minRating = minRating;
+        }
+    }
+
+    @PostConstruct
+    public void register() {
+        hotelCatalog.addListener(this);
+    }
+
+    @Override
+    public void onUpsert(Hotel hotel, Hotel previous) {
+        int ordinal = hotelCatalog.ordinalOf(hotel.getHotelId());
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(ordinal);
+            clear(ordinal);
+
+            int[] ids = internAvailable(hotel.getAmenities());
+            for (int id : ids) {
+                long[] bits = growTo(id, ordinal);
+                bits[ordinal >>> 6] |= 1L << ordinal;
+            }
+            amenitiesByOrdinal[ordinal] = ids;
+            ratingsByOrdinal[ordinal] = hotel.getRating() != null ? hotel.getRating().floatValue() : Float.NaN;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(Hotel previous) {
+        int ordinal = hotelCatalog.ordinalOf(previous.getHotelId());
+        lock.writeLock().lock();
+        try {
+            if (ordinal >= 0 && ordinal < amenitiesByOrdinal.length) {
+                clear(ordinal);
+                amenitiesByOrdinal[ordinal] = null;
+                ratingsByOrdinal[ordinal] = Float.NaN;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compile search criteria, or return null if a required amenity is offered nowhere.
+     */
+    public AmenityFilter compile(Double minRating, List<String> requiredAmenities) {
+        int[] ids = NO_AMENITIES;
+        if (requiredAmenities != null && !requiredAmenities.isEmpty()) {
+            lock.readLock().lock();
+            try {
+                ids = new int[requiredAmenities.size()];
+                for (int i = 0; i < ids.length; i++) {
+                    Integer id = amenityIds.get(normalize(requiredAmenities.get(i)));
+                    if (id == null) {
+                        return null;
+                    }
+                    ids[i] = id;
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        return new AmenityFilter(ids, minRating != null ? minRating.floatValue() : Float.NaN);
+    }
+
+    public boolean matches(String hotelId, AmenityFilter filter) {
+        int ordinal = hotelCatalog.ordinalOf(hotelId);
+        if (ordinal < 0 || filter == null) {
+            return false;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (!Float.isNaN(filter.minRating)) {
+                float rating = ordinal < ratingsByOrdinal.length ? ratingsByOrdinal[ordinal] : Float.NaN;
+                // NaN (no rating) fails the comparison, matching the old null check
+                if (!(rating >= filter.minRating)) {
+                    return false;
+                }
+            }
+            int word = ordinal >>> 6;
+            long mask = 1L << ordinal;
+            for (int id : filter.amenityIds) {
+                long[] bits = hotelsByAmenity.get(id);
+                if (word >= bits.length || (bits[word] & mask) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] internAvailable(List<Amenity> amenities) {
+        if (amenities == null || amenities.isEmpty()) {
+            return NO_AMENITIES;
+        }
+        int[] ids = new int[amenities.size()];
+        int count = 0;
+        for (Amenity amenity : amenities) {
+            if (amenity == null || !amenity.isAvailable() || amenity.getName() == null) {
+                continue;
+            }
+            Integer id = amenityIds.get(normalize(amenity.getName()));
+            if (id == null) {
+                id = hotelsByAmenity.size();
+                amenityIds.put(normalize(amenity.getName()), id);
+                hotelsByAmenity.add(new long[0]);
+            }
+            ids[count++] = id;
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    private void clear(int ordinal) {
+        int[] ids = amenitiesByOrdinal[ordinal];
+        if (ids == null) {
+            return;
+        }
+        for (int id : ids) {
+            long[] bits = hotelsByAmenity.get(id);
+            if ((ordinal >>> 6) < bits.length) {
+                bits[ordinal >>> 6] &= ~(1L << ordinal);
+            }
+        }
+    }
+
+    private long[] growTo(int amenityId, int ordinal) {
+        long[] bits = hotelsByAmenity.get(amenityId);
+        int word = ordinal >>> 6;
+        if (word >= bits.length) {
+            bits = Arrays.copyOf(bits, Math.max(word + 1, bits.length * 2));
+            hotelsByAmenity.set(amenityId, bits);
+        }
+        return bits;
+    }
+
+    private void ensureCapacity(int ordinal) {
+        if (ordinal >= amenitiesByOrdinal.length) {
+            int size = Math.max(ordinal + 1, amenitiesByOrdinal.length * 2);
+            amenitiesByOrdinal = Arrays.copyOf(amenitiesByOrdinal, size);
+            int oldLength = ratingsByOrdinal.length;
+            ratingsByOrdinal = Arrays.copyOf(ratingsByOrdinal, size);
+            Arrays.fill(ratingsByOrdinal, oldLength, size, Float.NaN);
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
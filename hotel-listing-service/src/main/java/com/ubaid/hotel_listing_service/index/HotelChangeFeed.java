@@ -0,0 +1,134 @@
+package com.ubaid.hotel_listing_service.index;
+
+import com.ubaid.hotel_listing_service.dto.HotelChangeDTO;
+import com.ubaid.hotel_listing_service.dto.HotelChangePage;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.repository.HotelCatalog;
+import com.ubaid.hotel_listing_service.repository.HotelCatalogListener;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Recent hotel upserts and deletes, numbered in the order the catalog applied them.
+ *
+ * The catalog sees every write: this instance's own write-throughs and, through the
+ * snapshot listener, writes made anywhere else. A write-through followed by the
+ * snapshot echo of the same state is recorded once, because the catalog drops any state
+ * whose Firestore update time is not newer than the one it holds. Every upsert that
+ * reaches the feed is therefore a real change, including field-only updates such as
+ * geocoded coordinates that leave the hotel's updatedAt untouched. Changes applied while
+ * the catalog is still loading are not recorded, since every hotel would appear as new.
+ *
+ * Sequences restart with each process, so pages carry the process epoch; a reader
+ * with another epoch, or one that fell further behind than the buffer reaches, is told
+ * to reset instead of silently missing changes.
+ */
+@Component
+@Slf4j
+public class HotelChangeFeed implements HotelCatalogListener {
+
+    private final HotelCatalog hotelCatalog;
+    private final HotelChangeDTO[] buffer;
+    private final String epoch = UUID.randomUUID().toString();
+    private final List<Runnable> signalListeners = new CopyOnWriteArrayList<>();
+    private long latestSequence; // Guarded by this; 0 before the first change
+
+    public HotelChangeFeed(HotelCatalog hotelCatalog,
+                           @Value("${hotel-changes.buffer-size:10000}") int bufferSize) {
+        this.hotelCatalog = hotelCatalog;
+        this.buffer = new HotelChangeDTO[Math.max(16, bufferSize)];
+    }
+
+    @PostConstruct
+    public void register() {
+        hotelCatalog.addListener(this);
+    }
+
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Run the listener after each recorded change. It is called under the catalog's
+     * write lock and must only hand off work.
+     */
+    public void addSignalListener(Runnable listener) {
+        signalListeners.add(listener);
+    }
+
+    @Override
+    public void onUpsert(Hotel hotel, Hotel previous) {
+        record(HotelChangeDTO.Type.UPSERT, hotel.getHotelId(), hotel.getUpdatedAt());
+    }
+
+    @Override
+    public void onRemove(Hotel previous) {
+        record(HotelChangeDTO.Type.DELETE, previous.getHotelId(), null);
+    }
+
+    public synchronized long latestSequence() {
+        return latestSequence;
+    }
+
+    /**
+     * Changes after {@code since}, at most {@code max} of them. A null {@code since}
+     * starts at the current end of the feed without a reset.
+     */
+    public synchronized HotelChangePage read(String clientEpoch, Long since, int max) {
+        long oldest = Math.max(1, latestSequence - buffer.length + 1);
+        if (since == null) {
+            return page(false, latestSequence, List.of());
+        }
+        boolean otherEpoch = clientEpoch != null && !clientEpoch.equals(epoch);
+        if (otherEpoch || since < oldest - 1 || since > latestSequence) {
+            return page(true, latestSequence, List.of());
+        }
+
+        int count = (int) Math.min(max, latestSequence - since);
+        List<HotelChangeDTO> changes = new ArrayList<>(count);
+        for (long sequence = since + 1; sequence <= since + count; sequence++) {
+            changes.add(buffer[(int) (sequence % buffer.length)]);
+        }
+        return page(false, since + count, changes);
+    }
+
+    private HotelChangePage page(boolean reset, long nextSequence, List<HotelChangeDTO> changes) {
+        return HotelChangePage.builder()
+                .epoch(epoch)
+                .reset(reset)
+                .nextSequence(nextSequence)
+                .changes(changes)
+                .build();
+    }
+
+    private void record(HotelChangeDTO.Type type, String hotelId, LocalDateTime updatedAt) {
+        if (!hotelCatalog.isReady()) {
+            return;
+        }
+        synchronized (this) {
+            long sequence = ++latestSequence;
+            buffer[(int) (sequence % buffer.length)] = HotelChangeDTO.builder()
+                    .sequence(sequence)
+                    .type(type)
+                    .hotelId(hotelId)
+                    .updatedAt(updatedAt)
+                    .occurredAt(LocalDateTime.now())
+                    .build();
+        }
+        for (Runnable listener : signalListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.warn("Hotel change signal listener failed: {}", e.getMessage());
+            }
+        }
+    }
+}
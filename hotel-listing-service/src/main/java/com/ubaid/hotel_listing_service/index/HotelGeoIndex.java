@@ -0,0 +1,245 @@
+package com.ubaid.hotel_listing_service.index;
+
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.repository.HotelCatalog;
+import com.ubaid.hotel_listing_service.repository.HotelCatalogListener;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Fixed-size lat/lng grid over hotels that have coordinates.
+ *
+ * Radius and bounding-box queries visit only the cells overlapping the query box and
+ * compute exact distances for hotels in those cells. Queries covering more cells than
+ * there are indexed hotels scan the points directly instead.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HotelGeoIndex implements HotelCatalogListener {
+
+    private final HotelCatalog hotelCatalog;
+
+    @Value("${hotel-geo.cell-degrees:0.1}")
+    private double cellDegrees;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IntPostings> cells = new HashMap<>();
+    private double[] latitudes = new double[1024];
+    private double[] longitudes = new double[1024];
+    private boolean[] indexed = new boolean[1024];
+    private int indexedCount;
+
+    /**
+     * A hotel and its distance from the query point.
+     */
+    public record Match(Hotel hotel, double distanceKm) {
+    }
+
+    @PostConstruct
+    public void register() {
+        hotelCatalog.addListener(this);
+    }
+
+    @Override
+    public void onUpsert(Hotel hotel, Hotel previous) {
+        int ordinal = hotelCatalog.ordinalOf(hotel.getHotelId());
+        lock.writeLock().lock();
+        try {
+            unindex(ordinal);
+            if (hotel.getLatitude() != null && hotel.getLongitude() != null
+                    && GeoPoint.isValid(hotel.getLatitude(), hotel.getLongitude())) {
+                index(ordinal, hotel.getLatitude(), hotel.getLongitude());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(Hotel previous) {
+        int ordinal = hotelCatalog.ordinalOf(previous.getHotelId());
+        lock.writeLock().lock();
+        try {
+            unindex(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Hotels within radiusKm of a point, nearest first.
+     */
+    public List<Match> nearby(double latitude, double longitude, double radiusKm, int limit) {
+        double latDelta = Math.toDegrees(radiusKm / 6371.0088);
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double lngDelta = cosLat < 1e-6 ? 180 : Math.min(180, latDelta / cosLat);
+
+        double minLat = Math.max(-90, latitude - latDelta);
+        double maxLat = Math.min(90, latitude + latDelta);
+        double minLng = longitude - lngDelta;
+        double maxLng = longitude + lngDelta;
+        if (lngDelta >= 180) {
+            minLng = -180;
+            maxLng = 180;
+        }
+
+        return search(minLat, wrap(minLng), maxLat, wrap(maxLng), latitude, longitude, radiusKm, limit);
+    }
+
+    /**
+     * Hotels inside a bounding box, nearest to the box centre first. A box whose
+     * minLng is greater than maxLng crosses the antimeridian.
+     */
+    public List<Match> withinBounds(double minLat, double minLng, double maxLat, double maxLng, int limit) {
+        double centerLat = (minLat + maxLat) / 2;
+        double span = minLng <= maxLng ? maxLng - minLng : 360 - (minLng - maxLng);
+        double centerLng = wrap(minLng + span / 2);
+        return search(minLat, minLng, maxLat, maxLng, centerLat, centerLng, Double.MAX_VALUE, limit);
+    }
+
+    private List<Match> search(double minLat, double minLng, double maxLat, double maxLng,
+                               double originLat, double originLng, double maxDistanceKm, int limit) {
+        // Bounded max-heap on distance keeps only the nearest `limit` hotels
+        PriorityQueue<double[]> nearest = new PriorityQueue<>(limit + 1,
+                (a, b) -> Double.compare(b[1], a[1]));
+
+        lock.readLock().lock();
+        try {
+            boolean wraps = minLng > maxLng;
+            long latCells = cell(maxLat) - cell(minLat) + 1;
+            long lngCells = wraps
+                    ? (cell(180) - cell(minLng) + 1) + (cell(maxLng) - cell(-180) + 1)
+                    : cell(maxLng) - cell(minLng) + 1;
+
+            if (latCells * lngCells > Math.max(64, indexedCount)) {
+                for (int ordinal = 0; ordinal < indexed.length; ordinal++) {
+                    if (indexed[ordinal]) {
+                        consider(ordinal, minLat, minLng, maxLat, maxLng, wraps,
+                                originLat, originLng, maxDistanceKm, limit, nearest);
+                    }
+                }
+            } else {
+                for (long latCell = cell(minLat); latCell <= cell(maxLat); latCell++) {
+                    if (wraps) {
+                        scanRow(latCell, cell(minLng), cell(180), minLat, minLng, maxLat, maxLng, true,
+                                originLat, originLng, maxDistanceKm, limit, nearest);
+                        scanRow(latCell, cell(-180), cell(maxLng), minLat, minLng, maxLat, maxLng, true,
+                                originLat, originLng, maxDistanceKm, limit, nearest);
+                    } else {
+                        scanRow(latCell, cell(minLng), cell(maxLng), minLat, minLng, maxLat, maxLng, false,
+                                originLat, originLng, maxDistanceKm, limit, nearest);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> matches = new ArrayList<>(nearest.size());
+        while (!nearest.isEmpty()) {
+            double[] entry = nearest.poll();
+            Hotel hotel = hotelCatalog.getByOrdinal((int) entry[0]);
+            if (hotel != null) {
+                matches.add(new Match(hotel, Math.round(entry[1] * 1000.0) / 1000.0));
+            }
+        }
+        Collections.reverse(matches);
+        return matches;
+    }
+
+    private void scanRow(long latCell, long fromLngCell, long toLngCell,
+                         double minLat, double minLng, double maxLat, double maxLng, boolean wraps,
+                         double originLat, double originLng, double maxDistanceKm, int limit,
+                         PriorityQueue<double[]> nearest) {
+        for (long lngCell = fromLngCell; lngCell <= toLngCell; lngCell++) {
+            IntPostings postings = cells.get(cellKey(latCell, lngCell));
+            if (postings == null) {
+                continue;
+            }
+            for (int i = 0; i < postings.size(); i++) {
+                consider(postings.get(i), minLat, minLng, maxLat, maxLng, wraps,
+                        originLat, originLng, maxDistanceKm, limit, nearest);
+            }
+        }
+    }
+
+    private void consider(int ordinal, double minLat, double minLng, double maxLat, double maxLng, boolean wraps,
+                          double originLat, double originLng, double maxDistanceKm, int limit,
+                          PriorityQueue<double[]> nearest) {
+        double lat = latitudes[ordinal];
+        double lng = longitudes[ordinal];
+        boolean inLng = wraps ? (lng >= minLng || lng <= maxLng) : (lng >= minLng && lng <= maxLng);
+        if (lat < minLat || lat > maxLat || !inLng) {
+            return;
+        }
+
+        double distance = GeoPoint.distanceKm(originLat, originLng, lat, lng);
+        if (distance > maxDistanceKm) {
+            return;
+        }
+        if (nearest.size() < limit) {
+            nearest.add(new double[]{ordinal, distance});
+        } else if (distance < nearest.peek()[1]) {
+            nearest.poll();
+            nearest.add(new double[]{ordinal, distance});
+        }
+    }
+
+    private void index(int ordinal, double latitude, double longitude) {
+        ensureCapacity(ordinal);
+        latitudes[ordinal] = latitude;
+        longitudes[ordinal] = longitude;
+        indexed[ordinal] = true;
+        indexedCount++;
+        cells.computeIfAbsent(cellKey(cell(latitude), cell(longitude)), k -> new IntPostings()).add(ordinal);
+    }
+
+    private void unindex(int ordinal) {
+        if (ordinal < 0 || ordinal >= indexed.length || !indexed[ordinal]) {
+            return;
+        }
+        long key = cellKey(cell(latitudes[ordinal]), cell(longitudes[ordinal]));
+        IntPostings postings = cells.get(key);
+        if (postings != null) {
+            postings.remove(ordinal);
+            if (postings.size() == 0) {
+                cells.remove(key);
+            }
+        }
+        indexed[ordinal] = false;
+        indexedCount--;
+    }
+
+    private void ensureCapacity(int ordinal) {
+        if (ordinal >= indexed.length) {
+            int size = Math.max(ordinal + 1, indexed.length * 2);
+            latitudes = Arrays.copyOf(latitudes, size);
+            longitudes = Arrays.copyOf(longitudes, size);
+            indexed = Arrays.copyOf(indexed, size);
+        }
+    }
+
+    private long cell(double degrees) {
+        return (long) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long cellKey(long latCell, long lngCell) {
+        return (latCell << 32) ^ (lngCell & 0xffffffffL);
+    }
+
+    private static double wrap(double longitude) {
+        if (longitude > 180) {
+            return longitude - 360;
+        } else if (longitude < -180) {
+            return longitude + 360;
+        }
+        return longitude;
+    }
+}
@@ -0,0 +1,284 @@
+package com.ubaid.hotel_listing_service.index;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ubaid.hotel_listing_service.dto.ApiResponse;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.exception.HotelException;
+import com.ubaid.hotel_listing_service.repository.HotelCatalog;
+import com.ubaid.hotel_listing_service.repository.HotelCatalogListener;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Top-rated hotels per location, kept up to date from catalog changes.
+ *
+ * A hotel is listed under its whole location and under each comma-separated part of
+ * it, so "Galle, Sri Lanka" appears in the boards for "galle", "sri lanka" and
+ * "galle, sri lanka". Matching is case and whitespace insensitive but otherwise exact
+ * per key, so "Colombo" lists "Colombo, Sri Lanka" but not "Colombo 03, Sri Lanka";
+ * this deliberately differs from the substring match of the location search. Each board holds at most {@code hotel-top.size} hotels ordered
+ * by rating, then newest first; unrated hotels are not ranked. A change only touches
+ * the boards of the hotel's old and new locations. When a listed hotel drops out of a
+ * full board, the hotel that should take its place is not known, so that board is
+ * rebuilt from the catalog on its next read.
+ *
+ * Responses are rendered once per board state and limit, with an ETag over the bytes.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotelLeaderboardIndex implements HotelCatalogListener {
+
+    private static final int MAX_KEYS_PER_HOTEL = 6;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern COMMA = Pattern.compile(" ?, ?");
+
+    public static final Comparator<Hotel> RANKING = Comparator
+            .comparing(Hotel::getRating, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Hotel::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Hotel::getHotelId);
+
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator
+            .<Entry>comparingDouble(Entry::rating).reversed()
+            .thenComparing(Entry::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Entry::hotelId);
+
+    private final HotelCatalog hotelCatalog;
+    private final HotelSummaryCache hotelSummaryCache;
+    private final ObjectMapper objectMapper;
+
+    @Value("${hotel-top.size:50}")
+    private int size;
+
+    @Value("${hotel-top.max-age-seconds:60}")
+    private long maxAgeSeconds;
+
+    // Guarded by this; snapshot and stale are also read without the lock
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+
+    /**
+     * A rendered ApiResponse body with its quoted ETag and how long clients may cache it.
+     */
+    public record Response(byte[] body, String etag, long maxAgeSeconds) {
+    }
+
+    private record Entry(String hotelId, double rating, LocalDateTime createdAt) {
+    }
+
+    private static final class Board {
+        private final TreeSet<Entry> top = new TreeSet<>(ENTRY_ORDER);
+        private int members; // Ranked hotels under this key, listed or not
+        private volatile boolean stale;
+        private volatile Snapshot snapshot;
+    }
+
+    private record Snapshot(List<String> hotelIds, Map<Integer, Response> responses) {
+    }
+
+    @PostConstruct
+    public void register() {
+        hotelCatalog.addListener(this);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public void onUpsert(Hotel hotel, Hotel previous) {
+        Entry entry = entryOf(hotel);
+        Set<String> keys = entry != null ? keysOf(hotel.getHotelLocation()) : Set.of();
+        Entry oldEntry = previous != null ? entryOf(previous) : null;
+        Set<String> oldKeys = oldEntry != null ? keysOf(previous.getHotelLocation()) : Set.of();
+
+        synchronized (this) {
+            if (Objects.equals(entry, oldEntry) && keys.equals(oldKeys)) {
+                // Same place on every board, but a listed summary may have changed
+                for (String key : keys) {
+                    Board board = boards.get(key);
+                    if (board != null && board.top.contains(entry)) board.snapshot = null;
+                }
+                return;
+            }
+            for (String key : oldKeys) remove(key, oldEntry);
+            for (String key : keys) add(key, entry);
+        }
+    }
+
+    @Override
+    public void onRemove(Hotel previous) {
+        Entry entry = entryOf(previous);
+        if (entry == null) {
+            return;
+        }
+        synchronized (this) {
+            for (String key : keysOf(previous.getHotelLocation())) remove(key, entry);
+        }
+    }
+
+    /**
+     * The best {@code limit} hotels for a location, limit being at most {@link #getSize()}.
+     */
+    public Response top(String location, int limit) {
+        String key = normalize(location);
+        Board board = boards.get(key);
+        if (board == null) {
+            return render(List.of(), maxAgeSeconds);
+        }
+        if (board.stale) {
+            rebuild(key);
+        }
+
+        Snapshot snapshot = board.snapshot;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = board.snapshot;
+                if (snapshot == null) {
+                    List<String> hotelIds = board.top.stream().map(Entry::hotelId).toList();
+                    snapshot = new Snapshot(hotelIds, new ConcurrentHashMap<>());
+                    board.snapshot = snapshot;
+                }
+            }
+        }
+        List<String> hotelIds = snapshot.hotelIds();
+        return snapshot.responses().computeIfAbsent(limit, n -> {
+            List<Hotel> hotels = new ArrayList<>(Math.min(n, hotelIds.size()));
+            for (String hotelId : hotelIds.subList(0, Math.min(n, hotelIds.size()))) {
+                Hotel hotel = hotelCatalog.get(hotelId);
+                if (hotel != null) hotels.add(hotel);
+            }
+            return render(hotels, maxAgeSeconds);
+        });
+    }
+
+    /**
+     * Whether a hotel at {@code hotelLocation} is ranked on the board for
+     * {@code location}. Lets callers that rank without the index apply the same rule.
+     */
+    public static boolean matches(String location, String hotelLocation) {
+        String key = normalize(location);
+        return !key.isEmpty() && keysOf(hotelLocation).contains(key);
+    }
+
+    /**
+     * Render hotels that are already ranked, e.g. a fallback list computed without the
+     * index.
+     */
+    public Response render(List<Hotel> hotels, long maxAgeSeconds) {
+        List<HotelSummaryCache.Summary> summaries = new ArrayList<>(hotels.size());
+        for (Hotel hotel : hotels) {
+            summaries.add(hotelSummaryCache.summaryOf(hotel));
+        }
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(ApiResponse.success("Top rated hotels retrieved", summaries));
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return new Response(body, "\"" + HexFormat.of().formatHex(digest, 0, 12) + "\"", maxAgeSeconds);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new HotelException("Failed to render top hotels: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Refill a board from the whole catalog. Catalog writes are held off meanwhile, so
+     * no change can be applied twice or missed; the lock order (catalog, then this)
+     * is the same as for listener callbacks.
+     */
+    private void rebuild(String key) {
+        hotelCatalog.withWritesHeld(() -> {
+            synchronized (this) {
+                Board board = boards.get(key);
+                if (board == null || !board.stale) {
+                    return;
+                }
+                board.top.clear();
+                int members = 0;
+                for (Hotel hotel : hotelCatalog.all()) {
+                    Entry entry = entryOf(hotel);
+                    if (entry != null && keysOf(hotel.getHotelLocation()).contains(key)) {
+                        members++;
+                        offer(board, entry);
+                    }
+                }
+                board.members = members;
+                board.stale = false;
+                board.snapshot = null;
+            }
+        });
+    }
+
+    private void add(String key, Entry entry) {
+        Board board = boards.computeIfAbsent(key, k -> new Board());
+        board.members++;
+        if (offer(board, entry)) {
+            board.snapshot = null;
+        }
+    }
+
+    private void remove(String key, Entry entry) {
+        Board board = boards.get(key);
+        if (board == null) {
+            return;
+        }
+        if (--board.members <= 0) {
+            boards.remove(key);
+            return;
+        }
+        if (board.top.remove(entry)) {
+            board.snapshot = null;
+            if (board.members > board.top.size()) {
+                board.stale = true;
+            }
+        }
+    }
+
+    /**
+     * Add the entry if it ranks within the board's size. Returns whether it was added.
+     */
+    private boolean offer(Board board, Entry entry) {
+        if (board.top.size() < size) {
+            return board.top.add(entry);
+        }
+        if (ENTRY_ORDER.compare(entry, board.top.last()) >= 0) {
+            return false;
+        }
+        board.top.add(entry);
+        board.top.pollLast();
+        return true;
+    }
+
+    private static Entry entryOf(Hotel hotel) {
+        return hotel.getRating() != null ? new Entry(hotel.getHotelId(), hotel.getRating(), hotel.getCreatedAt()) : null;
+    }
+
+    private static Set<String> keysOf(String location) {
+        Set<String> keys = new LinkedHashSet<>();
+        String whole = normalize(location);
+        if (whole.isEmpty()) {
+            return keys;
+        }
+        keys.add(whole);
+        for (String part : whole.split(",")) {
+            if (keys.size() >= MAX_KEYS_PER_HOTEL) break;
+            String key = part.trim();
+            if (!key.isEmpty()) keys.add(key);
+        }
+        return keys;
+    }
+
+    static String normalize(String location) {
+        if (location == null) {
+            return "";
+        }
+        String collapsed = WHITESPACE.matcher(location.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+        return COMMA.matcher(collapsed).replaceAll(", ");
+    }
+}
@@ -0,0 +1,86 @@
+package com.ubaid.hotel_listing_service.index;
+
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.repository.HotelCatalog;
+import com.ubaid.hotel_listing_service.repository.HotelCatalogListener;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Owner of every catalog hotel and the hotels of every owner.
+ *
+ * Saves and deletes reach the catalog through write-through and the snapshot listener,
+ * so ownership checks and "my hotels" lookups need neither Firestore nor a scan.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotelOwnerIndex implements HotelCatalogListener {
+
+    private final HotelCatalog hotelCatalog;
+
+    // Written under the catalog's write lock, read without it
+    private final Map<String, String> ownersByHotelId = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> hotelIdsByOwner = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void register() {
+        hotelCatalog.addListener(this);
+    }
+
+    @Override
+    public void onUpsert(Hotel hotel, Hotel previous) {
+        String owner = hotel.getUserId();
+        String previousOwner = previous != null ? previous.getUserId() : null;
+        if (previous != null && Objects.equals(owner, previousOwner)) {
+            return;
+        }
+        if (previousOwner != null) {
+            unlink(previousOwner, hotel.getHotelId());
+        }
+        if (owner != null) {
+            ownersByHotelId.put(hotel.getHotelId(), owner);
+            hotelIdsByOwner.computeIfAbsent(owner, k -> ConcurrentHashMap.newKeySet()).add(hotel.getHotelId());
+        } else {
+            ownersByHotelId.remove(hotel.getHotelId());
+        }
+    }
+
+    @Override
+    public void onRemove(Hotel previous) {
+        ownersByHotelId.remove(previous.getHotelId());
+        if (previous.getUserId() != null) {
+            unlink(previous.getUserId(), previous.getHotelId());
+        }
+    }
+
+    /**
+     * Owner of a catalog hotel, or null if the catalog does not hold it.
+     */
+    public String ownerOf(String hotelId) {
+        return ownersByHotelId.get(hotelId);
+    }
+
+    /**
+     * Ids of the catalog hotels owned by a user.
+     */
+    public Set<String> hotelIdsOf(String userId) {
+        Set<String> hotelIds = hotelIdsByOwner.get(userId);
+        return hotelIds != null ? Set.copyOf(hotelIds) : Set.of();
+    }
+
+    private void unlink(String owner, String hotelId) {
+        Set<String> hotelIds = hotelIdsByOwner.get(owner);
+        if (hotelIds != null) {
+            hotelIds.remove(hotelId);
+            if (hotelIds.isEmpty()) {
+                hotelIdsByOwner.remove(owner);
+            }
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.ubaid.hotel_listing_service.index;
+
+import com.ubaid.hotel_listing_service.dto.SuggestionDTO;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.repository.HotelCatalog;
+import com.ubaid.hotel_listing_service.repository.HotelCatalogListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix trie over hotel names and locations for typeahead suggestions.
+ *
+ * Every node records the best weight (rating) found beneath it, so top-k completion is
+ * a best-first walk that stops after k results instead of visiting the whole subtree.
+ * Names are also reachable from the start of each word ("marriott" finds "JW Marriott").
+ * The trie stops indexing word suffixes once it reaches hotel-suggest.max-nodes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HotelSuggestIndex implements HotelCatalogListener {
+
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final int MAX_WORD_KEYS = 8;
+
+    private final HotelCatalog hotelCatalog;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${hotel-suggest.max-nodes:1000000}")
+    private int maxNodes;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private int nodeCount = 1;
+    private int entryCount;
+
+    private final Map<String, Suggestion> hotelSuggestions = new HashMap<>();
+    private final Map<String, LocationSuggestion> locationSuggestions = new HashMap<>();
+
+    @PostConstruct
+    public void register() {
+        hotelCatalog.addListener(this);
+
+        Gauge.builder("hotel.suggest.trie.nodes", this, index -> index.nodeCount)
+                .description("Nodes in the suggestion trie")
+                .register(meterRegistry);
+        Gauge.builder("hotel.suggest.trie.entries", this, index -> index.entryCount)
+                .description("Keys stored in the suggestion trie")
+                .register(meterRegistry);
+        Gauge.builder("hotel.suggest.trie.bytes", this, HotelSuggestIndex::estimatedBytes)
+                .description("Estimated heap used by the suggestion trie")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onUpsert(Hotel hotel, Hotel previous) {
+        lock.writeLock().lock();
+        try {
+            if (previous != null) {
+                removeHotel(previous);
+            }
+            addHotel(hotel);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(Hotel previous) {
+        lock.writeLock().lock();
+        try {
+            removeHotel(previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Top-k hotel and location completions for a prefix, best rated first.
+     */
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return Collections.emptyList();
+            }
+
+            // Best-first walk: queue holds nodes (by subtree max) and suggestions (by weight)
+            PriorityQueue<Object[]> queue = new PriorityQueue<>(
+                    (a, b) -> Double.compare((double) b[0], (double) a[0]));
+            queue.add(new Object[]{node.maxWeight, node});
+
+            List<SuggestionDTO> results = new ArrayList<>(limit);
+            Set<Suggestion> seen = new HashSet<>();
+            while (!queue.isEmpty() && results.size() < limit) {
+                Object item = queue.poll()[1];
+                if (item instanceof Suggestion suggestion) {
+                    if (seen.add(suggestion)) {
+                        results.add(suggestion.toDTO());
+                    }
+                } else {
+                    Node current = (Node) item;
+                    if (current.terminals != null) {
+                        for (Suggestion suggestion : current.terminals) {
+                            queue.add(new Object[]{suggestion.weight, suggestion});
+                        }
+                    }
+                    for (Node child : current.children) {
+                        queue.add(new Object[]{child.maxWeight, child});
+                    }
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addHotel(Hotel hotel) {
+        if (hotel.getHotelName() != null && !hotel.getHotelName().isBlank()) {
+            Suggestion suggestion = new Suggestion(hotel.getHotelName().trim(), "HOTEL", hotel.getHotelId(),
+                    hotel.getRating() != null ? hotel.getRating() : 0.0);
+            suggestion.keys = keysFor(hotel.getHotelName(), true);
+            hotelSuggestions.put(hotel.getHotelId(), suggestion);
+            insertAll(suggestion);
+        }
+
+        String locationKey = normalize(hotel.getHotelLocation());
+        if (!locationKey.isEmpty()) {
+            LocationSuggestion location = locationSuggestions.get(locationKey);
+            if (location == null) {
+                location = new LocationSuggestion(hotel.getHotelLocation().trim());
+                location.suggestion.keys = keysFor(hotel.getHotelLocation(), true);
+                locationSuggestions.put(locationKey, location);
+            } else {
+                removeAll(location.suggestion);
+            }
+            location.ratings.put(hotel.getHotelId(), hotel.getRating() != null ? hotel.getRating() : 0.0);
+            location.suggestion.weight = location.maxRating();
+            insertAll(location.suggestion);
+        }
+    }
+
+    private void removeHotel(Hotel hotel) {
+        Suggestion suggestion = hotelSuggestions.remove(hotel.getHotelId());
+        if (suggestion != null) {
+            removeAll(suggestion);
+        }
+
+        String locationKey = normalize(hotel.getHotelLocation());
+        LocationSuggestion location = locationSuggestions.get(locationKey);
+        if (location != null) {
+            removeAll(location.suggestion);
+            location.ratings.remove(hotel.getHotelId());
+            if (location.ratings.isEmpty()) {
+                locationSuggestions.remove(locationKey);
+            } else {
+                location.suggestion.weight = location.maxRating();
+                insertAll(location.suggestion);
+            }
+        }
+    }
+
+    private List<String> keysFor(String text, boolean includeWords) {
+        String normalized = normalize(text);
+        List<String> keys = new ArrayList<>();
+        keys.add(truncate(normalized));
+        if (includeWords && nodeCount < maxNodes) {
+            for (int i = 1; i < normalized.length() && keys.size() <= MAX_WORD_KEYS; i++) {
+                if (normalized.charAt(i - 1) == ' ' && normalized.charAt(i) != ' ') {
+                    keys.add(truncate(normalized.substring(i)));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private void insertAll(Suggestion suggestion) {
+        for (String key : suggestion.keys) {
+            insert(key, suggestion);
+        }
+    }
+
+    private void removeAll(Suggestion suggestion) {
+        for (String key : suggestion.keys) {
+            remove(key, suggestion);
+        }
+    }
+
+    private void insert(String key, Suggestion suggestion) {
+        Node node = root;
+        node.maxWeight = Math.max(node.maxWeight, suggestion.weight);
+        for (int i = 0; i < key.length(); i++) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                child = node.addChild(key.charAt(i));
+                nodeCount++;
+            }
+            node = child;
+            node.maxWeight = Math.max(node.maxWeight, suggestion.weight);
+        }
+        if (node.terminals == null) {
+            node.terminals = new ArrayList<>(1);
+        }
+        node.terminals.add(suggestion);
+        entryCount++;
+    }
+
+    private void remove(String key, Suggestion suggestion) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+
+        Node end = path[key.length()];
+        if (end.terminals == null || !end.terminals.remove(suggestion)) {
+            return;
+        }
+        entryCount--;
+        if (end.terminals.isEmpty()) {
+            end.terminals = null;
+        }
+
+        // Recompute subtree maxima bottom-up and prune empty nodes
+        for (int i = key.length(); i >= 0; i--) {
+            Node node = path[i];
+            if (i > 0 && node.terminals == null && node.children.length == 0) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+                nodeCount--;
+                continue;
+            }
+            node.recomputeMaxWeight();
+        }
+    }
+
+    private long estimatedBytes() {
+        // Node header + arrays, plus one list slot per entry
+        return nodeCount * 64L + entryCount * 8L;
+    }
+
+    private static String normalize(String text) {
+        return text != null ? text.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        // Sorted child labels with parallel child array
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private List<Suggestion> terminals;
+        private double maxWeight;
+
+        Node child(char c) {
+            int pos = Arrays.binarySearch(keys, c);
+            return pos >= 0 ? children[pos] : null;
+        }
+
+        Node addChild(char c) {
+            int insertAt = -Arrays.binarySearch(keys, c) - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            Node child = new Node();
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char c) {
+            int pos = Arrays.binarySearch(keys, c);
+            if (pos < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, pos);
+            System.arraycopy(children, 0, newChildren, 0, pos);
+            System.arraycopy(keys, pos + 1, newKeys, pos, keys.length - pos - 1);
+            System.arraycopy(children, pos + 1, newChildren, pos, children.length - pos - 1);
+            keys = newKeys.length == 0 ? NO_KEYS : newKeys;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        void recomputeMaxWeight() {
+            double max = 0.0;
+            if (terminals != null) {
+                for (Suggestion suggestion : terminals) {
+                    max = Math.max(max, suggestion.weight);
+                }
+            }
+            for (Node child : children) {
+                max = Math.max(max, child.maxWeight);
+            }
+            maxWeight = max;
+        }
+    }
+
+    private static final class Suggestion {
+        private final String text;
+        private final String type;
+        private final String hotelId;
+        private double weight;
+        private List<String> keys;
+
+        Suggestion(String text, String type, String hotelId, double weight) {
+            this.text = text;
+            this.type = type;
+            this.hotelId = hotelId;
+            this.weight = weight;
+        }
+
+        SuggestionDTO toDTO() {
+            return SuggestionDTO.builder()
+                    .text(text)
+                    .type(type)
+                    .hotelId(hotelId)
+                    .rating(weight)
+                    .build();
+        }
+    }
+
+    /**
+     * One suggestion per distinct location, weighted by the best hotel rating there.
+     */
+    private static final class LocationSuggestion {
+        private final Suggestion suggestion;
+        private final Map<String, Double> ratings = new HashMap<>();
+
+        LocationSuggestion(String text) {
+            this.suggestion = new Suggestion(text, "LOCATION", null, 0.0);
+        }
+
+        double maxRating() {
+            double max = 0.0;
+            for (double rating : ratings.values()) {
+                max = Math.max(max, rating);
+            }
+            return max;
+        }
+    }
+}
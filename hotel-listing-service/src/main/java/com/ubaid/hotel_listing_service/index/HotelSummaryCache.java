@@ -0,0 +1,117 @@
+package com.ubaid.hotel_listing_service.index;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.ubaid.hotel_listing_service.dto.HotelSummaryDTO;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.exception.HotelException;
+import com.ubaid.hotel_listing_service.repository.HotelCatalog;
+import com.ubaid.hotel_listing_service.repository.HotelCatalogListener;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Summary projections of every catalog hotel, serialized once per change.
+ *
+ * Each entry keeps the compact DTO and its JSON encoded as UTF-8; a listing response
+ * copies those bytes straight into the output instead of serializing the hotel again.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotelSummaryCache implements HotelCatalogListener {
+
+    private final HotelCatalog hotelCatalog;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Summary> summaries = new ConcurrentHashMap<>();
+
+    /**
+     * A pre-serialized summary. Jackson writes it as a raw JSON value.
+     */
+    public static final class Summary implements JsonSerializable {
+        private final HotelSummaryDTO dto;
+        private final LocalDateTime updatedAt;
+        private final SerializedString json;
+
+        private Summary(HotelSummaryDTO dto, LocalDateTime updatedAt, String json) {
+            this.dto = dto;
+            this.updatedAt = updatedAt;
+            this.json = new SerializedString(json);
+            this.json.asUnquotedUTF8(); // Encode now so responses only copy bytes
+        }
+
+        public HotelSummaryDTO getDto() {
+            return dto;
+        }
+
+        @Override
+        public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeRawValue(json);
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+                throws IOException {
+            serialize(gen, serializers);
+        }
+    }
+
+    @PostConstruct
+    public void register() {
+        hotelCatalog.addListener(this);
+    }
+
+    @Override
+    public void onUpsert(Hotel hotel, Hotel previous) {
+        summaries.put(hotel.getHotelId(), build(hotel));
+    }
+
+    @Override
+    public void onRemove(Hotel previous) {
+        summaries.remove(previous.getHotelId());
+    }
+
+    /**
+     * Cached summary for the hotel, or a freshly built one when the cache holds a
+     * different version (for example while the catalog is still loading).
+     */
+    public Summary summaryOf(Hotel hotel) {
+        Summary cached = summaries.get(hotel.getHotelId());
+        if (cached != null && Objects.equals(cached.updatedAt, hotel.getUpdatedAt())) {
+            return cached;
+        }
+        return build(hotel);
+    }
+
+    public int size() {
+        return summaries.size();
+    }
+
+    private Summary build(Hotel hotel) {
+        HotelSummaryDTO dto = HotelSummaryDTO.builder()
+                .hotelId(hotel.getHotelId())
+                .hotelName(hotel.getHotelName())
+                .rating(hotel.getRating())
+                .hotelLocation(hotel.getHotelLocation())
+                .thumbnailUrl(hotel.getHotelImages() != null && !hotel.getHotelImages().isEmpty()
+                        ? hotel.getHotelImages().get(0) : null)
+                .build();
+        try {
+            return new Summary(dto, hotel.getUpdatedAt(), objectMapper.writeValueAsString(dto));
+        } catch (JsonProcessingException e) {
+            throw new HotelException("Failed to serialize hotel summary: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.ubaid.hotel_listing_service.index;
+
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.repository.HotelCatalog;
+import com.ubaid.hotel_listing_service.repository.HotelCatalogListener;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Check-in/check-out times per location, kept as sorted minute-of-day arrays.
+ *
+ * Each distinct location is a bucket. A time search maps the requested times to a
+ * range of hotel times, finds it with two binary searches per side and merges the two
+ * sides. Candidates are then confirmed with the original predicates, so results are
+ * identical to the per-hotel check. Buckets are compiled lazily after a change and
+ * also hold the distinct time slots offered in that location.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotelTimeIndex implements HotelCatalogListener {
+
+    private static final int NO_TIME = -1;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int[] EMPTY = new int[0];
+
+    private final HotelCatalog hotelCatalog;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, LocationBucket> buckets = new HashMap<>();
+
+    /**
+     * Distinct check-in and check-out times offered across the matched locations.
+     */
+    public record TimeSlots(List<LocalTime> checkInTimes, List<LocalTime> checkOutTimes, int totalHotels) {
+    }
+
+    @PostConstruct
+    public void register() {
+        hotelCatalog.addListener(this);
+    }
+
+    @Override
+    public void onUpsert(Hotel hotel, Hotel previous) {
+        int ordinal = hotelCatalog.ordinalOf(hotel.getHotelId());
+        lock.writeLock().lock();
+        try {
+            if (previous != null) {
+                removeFromBucket(previous, ordinal);
+            }
+            String key = normalize(hotel.getHotelLocation());
+            if (key != null) {
+                LocationBucket bucket = buckets.computeIfAbsent(key, k -> new LocationBucket());
+                bucket.times.put(ordinal, new int[]{minutes(hotel.getCheckinTime()), minutes(hotel.getCheckoutTime())});
+                bucket.compiled = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(Hotel previous) {
+        int ordinal = hotelCatalog.ordinalOf(previous.getHotelId());
+        lock.writeLock().lock();
+        try {
+            removeFromBucket(previous, ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Hotels whose location contains the query and whose times are compatible with the
+     * requested ones. A null tolerance applies the strict rule.
+     */
+    public List<Hotel> find(String location, LocalTime requestedCheckIn, LocalTime requestedCheckOut,
+                            Integer toleranceMinutes) {
+        String query = normalizeQuery(location);
+        if (query == null) {
+            return Collections.emptyList();
+        }
+
+        int tolerance = toleranceMinutes != null ? toleranceMinutes : 0;
+        // Windows this wide can wrap past midnight; let the predicates decide alone
+        boolean wrapping = tolerance * 2 + 180 >= MINUTES_PER_DAY;
+        // Hotel time ranges that can satisfy the request; see isTimeCompatible(WithTolerance)
+        int checkInFrom = minutes(requestedCheckIn) - tolerance - 120;
+        int checkInTo = minutes(requestedCheckIn) + tolerance;
+        int checkOutFrom = minutes(requestedCheckOut) - tolerance;
+        int checkOutTo = minutes(requestedCheckOut) + tolerance + 60;
+
+        List<Hotel> hotels = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<String, LocationBucket> entry : buckets.entrySet()) {
+                if (!entry.getKey().contains(query)) {
+                    continue;
+                }
+                Compiled compiled = entry.getValue().compiled();
+                int[] checkInSide = requestedCheckIn == null || wrapping ? compiled.allOrdinals
+                        : compiled.checkIn.range(checkInFrom, checkInTo);
+                int[] checkOutSide = requestedCheckOut == null || wrapping ? compiled.allOrdinals
+                        : compiled.checkOut.range(checkOutFrom, checkOutTo);
+
+                for (int ordinal : intersect(checkInSide, checkOutSide)) {
+                    Hotel hotel = hotelCatalog.getByOrdinal(ordinal);
+                    if (hotel == null) {
+                        continue;
+                    }
+                    boolean compatible = toleranceMinutes != null
+                            ? isTimeCompatibleWithTolerance(hotel, requestedCheckIn, requestedCheckOut, toleranceMinutes)
+                            : isTimeCompatible(hotel, requestedCheckIn, requestedCheckOut);
+                    if (compatible) {
+                        hotels.add(hotel);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return hotels;
+    }
+
+    public TimeSlots timeSlots(String location) {
+        String query = normalizeQuery(location);
+        if (query == null) {
+            return new TimeSlots(Collections.emptyList(), Collections.emptyList(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Compiled> matched = new ArrayList<>();
+            for (Map.Entry<String, LocationBucket> entry : buckets.entrySet()) {
+                if (entry.getKey().contains(query)) {
+                    matched.add(entry.getValue().compiled());
+                }
+            }
+            if (matched.size() == 1) {
+                Compiled only = matched.get(0);
+                return new TimeSlots(only.checkInSlots, only.checkOutSlots, only.allOrdinals.length);
+            }
+
+            TreeSet<LocalTime> checkIns = new TreeSet<>();
+            TreeSet<LocalTime> checkOuts = new TreeSet<>();
+            int total = 0;
+            for (Compiled compiled : matched) {
+                checkIns.addAll(compiled.checkInSlots);
+                checkOuts.addAll(compiled.checkOutSlots);
+                total += compiled.allOrdinals.length;
+            }
+            return new TimeSlots(new ArrayList<>(checkIns), new ArrayList<>(checkOuts), total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Allow check-in from the hotel's check-in time up to 2 hours after, and check-out
+     * from 1 hour before the hotel's check-out time.
+     */
+    public static boolean isTimeCompatible(Hotel hotel, LocalTime requestedCheckIn, LocalTime requestedCheckOut) {
+        boolean checkInCompatible = true;
+        boolean checkOutCompatible = true;
+        if (requestedCheckIn != null && hotel.getCheckinTime() != null) {
+            checkInCompatible = !requestedCheckIn.isBefore(hotel.getCheckinTime()) &&
+                    !requestedCheckIn.isAfter(hotel.getCheckinTime().plusHours(2));
+        }
+        if (requestedCheckOut != null && hotel.getCheckoutTime() != null) {
+            checkOutCompatible = !requestedCheckOut.isBefore(hotel.getCheckoutTime().minusHours(1)) &&
+                    !requestedCheckOut.isAfter(hotel.getCheckoutTime());
+        }
+        return checkInCompatible && checkOutCompatible;
+    }
+
+    /**
+     * Same as {@link #isTimeCompatible} with both windows widened by the tolerance.
+     */
+    public static boolean isTimeCompatibleWithTolerance(Hotel hotel,
+                                                        LocalTime requestedCheckIn,
+                                                        LocalTime requestedCheckOut,
+                                                        int toleranceMinutes) {
+        boolean checkInCompatible = true;
+        boolean checkOutCompatible = true;
+        if (requestedCheckIn != null && hotel.getCheckinTime() != null) {
+            LocalTime earliestAcceptableCheckIn = hotel.getCheckinTime().minusMinutes(toleranceMinutes);
+            LocalTime latestAcceptableCheckIn = hotel.getCheckinTime().plusMinutes(toleranceMinutes);
+            checkInCompatible = !requestedCheckIn.isBefore(earliestAcceptableCheckIn) &&
+                    !requestedCheckIn.isAfter(latestAcceptableCheckIn.plusHours(2)); // Allow 2 hours late check-in
+        }
+        if (requestedCheckOut != null && hotel.getCheckoutTime() != null) {
+            LocalTime earliestAcceptableCheckOut = hotel.getCheckoutTime().minusMinutes(toleranceMinutes + 60); // Allow 1 hour early checkout
+            LocalTime latestAcceptableCheckOut = hotel.getCheckoutTime().plusMinutes(toleranceMinutes);
+            checkOutCompatible = !requestedCheckOut.isBefore(earliestAcceptableCheckOut) &&
+                    !requestedCheckOut.isAfter(latestAcceptableCheckOut);
+        }
+        return checkInCompatible && checkOutCompatible;
+    }
+
+    private void removeFromBucket(Hotel hotel, int ordinal) {
+        String key = normalize(hotel.getHotelLocation());
+        LocationBucket bucket = key != null ? buckets.get(key) : null;
+        if (bucket != null && bucket.times.remove(ordinal) != null) {
+            bucket.compiled = null;
+            if (bucket.times.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        if (a == b) {
+            return a;
+        }
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int minutes(LocalTime time) {
+        return time != null ? time.getHour() * 60 + time.getMinute() : NO_TIME;
+    }
+
+    private static String normalize(String location) {
+        return location != null ? location.toLowerCase() : null;
+    }
+
+    private static String normalizeQuery(String location) {
+        return location != null ? location.toLowerCase().trim() : null;
+    }
+
+    private static final class LocationBucket {
+        // ordinal -> {check-in minutes, check-out minutes}, NO_TIME when unset
+        private final Map<Integer, int[]> times = new HashMap<>();
+        private volatile Compiled compiled;
+
+        Compiled compiled() {
+            Compiled current = compiled;
+            if (current == null) {
+                synchronized (this) {
+                    current = compiled;
+                    if (current == null) {
+                        current = new Compiled(times);
+                        compiled = current;
+                    }
+                }
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Immutable sorted view of one bucket.
+     */
+    private static final class Compiled {
+        private final int[] allOrdinals;
+        private final SortedTimes checkIn;
+        private final SortedTimes checkOut;
+        private final List<LocalTime> checkInSlots;
+        private final List<LocalTime> checkOutSlots;
+
+        Compiled(Map<Integer, int[]> times) {
+            allOrdinals = times.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            checkIn = new SortedTimes(times, 0);
+            checkOut = new SortedTimes(times, 1);
+            checkInSlots = checkIn.distinctTimes();
+            checkOutSlots = checkOut.distinctTimes();
+        }
+    }
+
+    /**
+     * Hotels sorted by one time field; hotels without that time always match.
+     */
+    private static final class SortedTimes {
+        private final int[] minutes;
+        private final int[] ordinals;
+        private final int[] untimedOrdinals;
+
+        SortedTimes(Map<Integer, int[]> times, int field) {
+            List<int[]> timed = new ArrayList<>();
+            List<Integer> untimed = new ArrayList<>();
+            for (Map.Entry<Integer, int[]> entry : times.entrySet()) {
+                int value = entry.getValue()[field];
+                if (value == NO_TIME) {
+                    untimed.add(entry.getKey());
+                } else {
+                    timed.add(new int[]{value, entry.getKey()});
+                }
+            }
+            timed.sort((x, y) -> x[0] != y[0] ? Integer.compare(x[0], y[0]) : Integer.compare(x[1], y[1]));
+
+            minutes = new int[timed.size()];
+            ordinals = new int[timed.size()];
+            for (int i = 0; i < timed.size(); i++) {
+                minutes[i] = timed.get(i)[0];
+                ordinals[i] = timed.get(i)[1];
+            }
+            untimedOrdinals = untimed.stream().mapToInt(Integer::intValue).sorted().toArray();
+        }
+
+        /**
+         * Sorted ordinals with a time in [from, to], plus untimed hotels.
+         */
+        int[] range(int from, int to) {
+            int start = lowerBound(from);
+            int end = lowerBound(to + 1);
+            if (start >= end) {
+                return untimedOrdinals.length == 0 ? EMPTY : untimedOrdinals;
+            }
+            int[] result = new int[end - start + untimedOrdinals.length];
+            System.arraycopy(ordinals, start, result, 0, end - start);
+            System.arraycopy(untimedOrdinals, 0, result, end - start, untimedOrdinals.length);
+            Arrays.sort(result);
+            return result;
+        }
+
+        List<LocalTime> distinctTimes() {
+            List<LocalTime> slots = new ArrayList<>();
+            for (int i = 0; i < minutes.length; i++) {
+                if (i == 0 || minutes[i] != minutes[i - 1]) {
+                    slots.add(LocalTime.of(minutes[i] / 60, minutes[i] % 60));
+                }
+            }
+            return Collections.unmodifiableList(slots);
+        }
+
+        private int lowerBound(int value) {
+            int low = 0, high = minutes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (minutes[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
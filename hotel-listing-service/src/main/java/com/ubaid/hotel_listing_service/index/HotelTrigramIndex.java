@@ -0,0 +1,238 @@
+package com.ubaid.hotel_listing_service.index;
+
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.repository.HotelCatalog;
+import com.ubaid.hotel_listing_service.repository.HotelCatalogListener;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted trigram index over lowercased hotel names and locations.
+ *
+ * A substring query is answered by intersecting the postings of its trigrams and
+ * checking the surviving candidates against the stored normalized text, so results
+ * match a plain {@code toLowerCase().contains()} exactly. Queries shorter than three
+ * characters scan the normalized text only.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HotelTrigramIndex implements HotelCatalogListener {
+
+    public enum Field {
+        NAME,
+        LOCATION
+    }
+
+    private final HotelCatalog hotelCatalog;
+
+    private final FieldIndex nameIndex = new FieldIndex();
+    private final FieldIndex locationIndex = new FieldIndex();
+
+    @PostConstruct
+    public void register() {
+        hotelCatalog.addListener(this);
+    }
+
+    @Override
+    public void onUpsert(Hotel hotel, Hotel previous) {
+        int ordinal = hotelCatalog.ordinalOf(hotel.getHotelId());
+        nameIndex.put(ordinal, hotel.getHotelName());
+        locationIndex.put(ordinal, hotel.getHotelLocation());
+    }
+
+    @Override
+    public void onRemove(Hotel previous) {
+        int ordinal = hotelCatalog.ordinalOf(previous.getHotelId());
+        nameIndex.put(ordinal, null);
+        locationIndex.put(ordinal, null);
+    }
+
+    /**
+     * Hotels whose field contains the query, ignoring case.
+     */
+    public List<Hotel> contains(Field field, String query) {
+        return resolve(indexFor(field).search(normalize(query), false));
+    }
+
+    /**
+     * Hotels whose field starts with the query, ignoring case.
+     */
+    public List<Hotel> startsWith(Field field, String query) {
+        return resolve(indexFor(field).search(normalize(query), true));
+    }
+
+    /**
+     * Ordinals of hotels whose field contains the query, in ascending order.
+     */
+    public int[] containsOrdinals(Field field, String query) {
+        return indexFor(field).search(normalize(query), false);
+    }
+
+    public long memoryBytes() {
+        return nameIndex.memoryBytes() + locationIndex.memoryBytes();
+    }
+
+    static String normalize(String text) {
+        return text != null ? text.toLowerCase(Locale.ROOT) : null;
+    }
+
+    private FieldIndex indexFor(Field field) {
+        return field == Field.NAME ? nameIndex : locationIndex;
+    }
+
+    private List<Hotel> resolve(int[] ordinals) {
+        List<Hotel> hotels = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            Hotel hotel = hotelCatalog.getByOrdinal(ordinal);
+            if (hotel != null) {
+                hotels.add(hotel);
+            }
+        }
+        return hotels;
+    }
+
+    private static long trigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    /**
+     * Postings and normalized text for one field.
+     */
+    private static final class FieldIndex {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, IntPostings> postings = new HashMap<>();
+        private String[] textByOrdinal = new String[1024];
+        private int maxOrdinal = -1;
+
+        void put(int ordinal, String rawText) {
+            String text = normalize(rawText);
+            lock.writeLock().lock();
+            try {
+                if (ordinal >= textByOrdinal.length) {
+                    textByOrdinal = Arrays.copyOf(textByOrdinal, Math.max(ordinal + 1, textByOrdinal.length * 2));
+                }
+                String old = textByOrdinal[ordinal];
+                if (Objects.equals(old, text)) {
+                    return;
+                }
+                if (old != null) {
+                    for (long gram : trigrams(old)) {
+                        IntPostings list = postings.get(gram);
+                        if (list != null) {
+                            list.remove(ordinal);
+                            if (list.size() == 0) {
+                                postings.remove(gram);
+                            }
+                        }
+                    }
+                }
+                textByOrdinal[ordinal] = text;
+                if (text != null) {
+                    for (long gram : trigrams(text)) {
+                        postings.computeIfAbsent(gram, g -> new IntPostings()).add(ordinal);
+                    }
+                    maxOrdinal = Math.max(maxOrdinal, ordinal);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int[] search(String query, boolean prefix) {
+            if (query == null) {
+                return new int[0];
+            }
+
+            lock.readLock().lock();
+            try {
+                if (query.length() < 3) {
+                    return scan(query, prefix);
+                }
+
+                long[] grams = trigrams(query);
+                IntPostings[] lists = new IntPostings[grams.length];
+                for (int i = 0; i < grams.length; i++) {
+                    lists[i] = postings.get(grams[i]);
+                    if (lists[i] == null) {
+                        return new int[0];
+                    }
+                }
+                Arrays.sort(lists, Comparator.comparingInt(IntPostings::size));
+
+                // Walk the shortest list, probe the others, verify against the text
+                IntPostings smallest = lists[0];
+                int[] result = new int[smallest.size()];
+                int count = 0;
+                outer:
+                for (int i = 0; i < smallest.size(); i++) {
+                    int ordinal = smallest.get(i);
+                    for (int l = 1; l < lists.length; l++) {
+                        if (!lists[l].contains(ordinal)) {
+                            continue outer;
+                        }
+                    }
+                    if (matches(textByOrdinal[ordinal], query, prefix)) {
+                        result[count++] = ordinal;
+                    }
+                }
+                return Arrays.copyOf(result, count);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long memoryBytes() {
+            lock.readLock().lock();
+            try {
+                long bytes = 16L + 4L * textByOrdinal.length;
+                for (IntPostings list : postings.values()) {
+                    // map entry + boxed key + postings
+                    bytes += 48 + list.memoryBytes();
+                }
+                return bytes;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private int[] scan(String query, boolean prefix) {
+            int[] result = new int[maxOrdinal + 1];
+            int count = 0;
+            for (int ordinal = 0; ordinal <= maxOrdinal; ordinal++) {
+                if (matches(textByOrdinal[ordinal], query, prefix)) {
+                    result[count++] = ordinal;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        private static boolean matches(String text, String query, boolean prefix) {
+            return text != null && (prefix ? text.startsWith(query) : text.contains(query));
+        }
+
+        private static long[] trigrams(String text) {
+            if (text.length() < 3) {
+                return new long[0];
+            }
+            long[] grams = new long[text.length() - 2];
+            for (int i = 0; i < grams.length; i++) {
+                grams[i] = trigram(text, i);
+            }
+            // Deduplicate so repeated trigrams are only posted once
+            Arrays.sort(grams);
+            int unique = 0;
+            for (int i = 0; i < grams.length; i++) {
+                if (i == 0 || grams[i] != grams[i - 1]) {
+                    grams[unique++] = grams[i];
+                }
+            }
+            return Arrays.copyOf(grams, unique);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.ubaid.hotel_listing_service.index;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.exception.HotelException;
+import com.ubaid.hotel_listing_service.repository.HotelCatalog;
+import com.ubaid.hotel_listing_service.repository.HotelCatalogListener;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Current ETag and Last-Modified of every catalog hotel.
+ *
+ * The strong ETag combines updatedAt with a hash of the hotel's JSON, so a conditional
+ * GET can be answered with 304 from this map without loading or serializing the hotel.
+ *
+ * Versions are computed on first read, outside the catalog lock; a catalog change only
+ * drops the cached entry. An entry is reused only for the exact hotel instance (and
+ * updatedAt) it was computed from, so a read racing a change cannot keep a stale ETag.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotelVersionIndex implements HotelCatalogListener {
+
+    private final HotelCatalog hotelCatalog;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Cached> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Quoted strong ETag and last modification in epoch millis (-1 when unknown).
+     */
+    public record Version(String etag, long lastModified, LocalDateTime updatedAt) {
+    }
+
+    private record Cached(Hotel hotel, Version version) {
+    }
+
+    @PostConstruct
+    public void register() {
+        hotelCatalog.addListener(this);
+    }
+
+    @Override
+    public void onUpsert(Hotel hotel, Hotel previous) {
+        versions.remove(hotel.getHotelId());
+    }
+
+    @Override
+    public void onRemove(Hotel previous) {
+        versions.remove(previous.getHotelId());
+    }
+
+    /**
+     * Version of a catalog hotel, or null if the catalog does not hold it.
+     */
+    public Version current(String hotelId) {
+        Hotel hotel = hotelCatalog.get(hotelId);
+        if (hotel == null) {
+            return null;
+        }
+        Cached cached = versions.get(hotelId);
+        if (cached != null && cached.hotel() == hotel
+                && Objects.equals(cached.version().updatedAt(), hotel.getUpdatedAt())) {
+            return cached.version();
+        }
+        Version version = compute(hotel);
+        Cached entry = new Cached(hotel, version);
+        versions.put(hotelId, entry);
+        if (hotelCatalog.get(hotelId) != hotel) {
+            // Changed or removed meanwhile; don't leave an entry behind for a removed hotel
+            versions.remove(hotelId, entry);
+        }
+        return version;
+    }
+
+    /**
+     * Version of the given hotel instance, reusing the cached one when it is the same update.
+     */
+    public Version versionOf(Hotel hotel) {
+        Cached cached = versions.get(hotel.getHotelId());
+        if (cached != null && Objects.equals(cached.version().updatedAt(), hotel.getUpdatedAt())) {
+            return cached.version();
+        }
+        return compute(hotel);
+    }
+
+    private Version compute(Hotel hotel) {
+        long lastModified = hotel.getUpdatedAt() != null
+                ? hotel.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli() : -1;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(hotel));
+            String etag = "\"" + Long.toString(Math.max(lastModified, 0), 36) + "-"
+                    + HexFormat.of().formatHex(digest, 0, 12) + "\"";
+            return new Version(etag, lastModified, hotel.getUpdatedAt());
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new HotelException("Failed to compute hotel version: " + e.getMessage());
+        }
+    }
+}
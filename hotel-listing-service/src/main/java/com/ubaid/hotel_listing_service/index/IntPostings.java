@@ -0,0 +1,65 @@
+package com.ubaid.hotel_listing_service.index;
+
+import java.util.Arrays;
+
+/**
+ * Sorted set of hotel ordinals backed by a growable int array. Not thread-safe;
+ * owners guard it with their own lock.
+ */
+final class IntPostings {
+
+    private int[] values = new int[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    void add(int value) {
+        // Ordinals are mostly assigned in increasing order, so appends are the common case
+        if (size == 0 || values[size - 1] < value) {
+            ensureCapacity();
+            values[size++] = value;
+            return;
+        }
+        int pos = Arrays.binarySearch(values, 0, size, value);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        ensureCapacity();
+        System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+        values[insertAt] = value;
+        size++;
+    }
+
+    void remove(int value) {
+        int pos = Arrays.binarySearch(values, 0, size, value);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(values, pos + 1, values, pos, size - pos - 1);
+        size--;
+        if (size > 16 && size < values.length / 4) {
+            values = Arrays.copyOf(values, values.length / 2);
+        }
+    }
+
+    boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    long memoryBytes() {
+        return 16L + 4L * values.length;
+    }
+
+    private void ensureCapacity() {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.ubaid.hotel_listing_service.repository;
+
+import com.google.cloud.Timestamp;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory copy of the hotels collection.
+ *
+ * Populated by {@link HotelCatalogSync} and written through by {@link HotelRepository}.
+ * Writes are serialized; reads are lock-free. Hotels handed out by {@link #get} and
+ * {@link #all} are shared instances and must be treated as read-only; use
+ * {@link #copyOf} before mutating.
+ */
+@Component
+@Slf4j
+public class HotelCatalog {
+
+    // Keep deletions long enough to outlast any delayed snapshot event for the hotel
+    private static final Duration TOMBSTONE_LIFETIME = Duration.ofMinutes(10);
+
+    private final Map<String, Hotel> hotelsById = new ConcurrentHashMap<>();
+    // Firestore update time of the state held for each hotel; guarded by this
+    private final Map<String, Timestamp> updateTimesById = new HashMap<>();
+    // Deletion time of recently removed hotels, oldest first; guarded by this
+    private final LinkedHashMap<String, Tombstone> tombstonesById = new LinkedHashMap<>();
+
+    // Dense int ordinals for index postings; freed ordinals are reused
+    private final Map<String, Integer> ordinalsById = new ConcurrentHashMap<>();
+    private volatile Hotel[] hotelsByOrdinal = new Hotel[1024];
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private int nextOrdinal;
+
+    private final List<HotelCatalogListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    void markReady(boolean ready) {
+        this.ready = ready;
+    }
+
+    public Hotel get(String hotelId) {
+        return hotelId != null ? hotelsById.get(hotelId) : null;
+    }
+
+    /**
+     * Ordinal of a hotel in the catalog, or -1 if it is not present.
+     */
+    public int ordinalOf(String hotelId) {
+        Integer ordinal = hotelId != null ? ordinalsById.get(hotelId) : null;
+        return ordinal != null ? ordinal : -1;
+    }
+
+    public Hotel getByOrdinal(int ordinal) {
+        Hotel[] hotels = hotelsByOrdinal;
+        return ordinal >= 0 && ordinal < hotels.length ? hotels[ordinal] : null;
+    }
+
+    public Collection<Hotel> all() {
+        return Collections.unmodifiableCollection(hotelsById.values());
+    }
+
+    public int size() {
+        return hotelsById.size();
+    }
+
+    /**
+     * Register a listener and replay the current contents to it.
+     */
+    public synchronized void addListener(HotelCatalogListener listener) {
+        listeners.add(listener);
+        for (Hotel hotel : hotelsById.values()) {
+            listener.onUpsert(hotel, null);
+        }
+    }
+
+    /**
+     * Apply a new hotel state written at {@code updateTime}, the Firestore update time
+     * of the write or snapshot it comes from. States not newer than the one held are
+     * ignored, so a late snapshot event cannot overwrite a newer write-through. The
+     * server's update time orders writes from every instance; the hotel's own updatedAt
+     * comes from the writer's clock and cannot. A recently removed hotel is only
+     * brought back by a state written after its deletion.
+     */
+    public synchronized void upsert(Hotel hotel, Timestamp updateTime) {
+        expireTombstones();
+        Hotel previous = hotelsById.get(hotel.getHotelId());
+        Timestamp heldUpdateTime = previous != null
+                ? updateTimesById.get(hotel.getHotelId())
+                : deletionTime(hotel.getHotelId());
+        if (heldUpdateTime != null && updateTime != null && updateTime.compareTo(heldUpdateTime) <= 0) {
+            log.debug("Ignoring stale catalog update for hotel {}", hotel.getHotelId());
+            return;
+        }
+        tombstonesById.remove(hotel.getHotelId());
+
+        hotelsById.put(hotel.getHotelId(), hotel);
+        updateTimesById.put(hotel.getHotelId(), updateTime);
+        int ordinal = previous != null ? ordinalsById.get(hotel.getHotelId()) : assignOrdinal(hotel.getHotelId());
+        hotelsByOrdinal[ordinal] = hotel;
+        for (HotelCatalogListener listener : listeners) {
+            try {
+                listener.onUpsert(hotel, previous);
+            } catch (Exception e) {
+                log.error("Catalog listener {} failed on upsert of hotel {}: {}",
+                        listener.getClass().getSimpleName(), hotel.getHotelId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Run an action with catalog writes held off, e.g. a listener rebuilding its state
+     * from {@link #all()} without interleaving with its own callbacks.
+     */
+    public synchronized void withWritesHeld(Runnable action) {
+        action.run();
+    }
+
+    /**
+     * Remove a hotel deleted at {@code deleteTime}: the update time of the delete, or the
+     * read time of the snapshot that no longer contains it. A removal older than the state
+     * held is ignored, and the deletion is remembered for a while so a delayed snapshot
+     * of an earlier state cannot bring the hotel back.
+     */
+    public synchronized void remove(String hotelId, Timestamp deleteTime) {
+        expireTombstones();
+        Timestamp heldUpdateTime = updateTimesById.get(hotelId);
+        if (heldUpdateTime != null && deleteTime != null && deleteTime.compareTo(heldUpdateTime) < 0) {
+            log.debug("Ignoring stale catalog removal of hotel {}", hotelId);
+            return;
+        }
+        if (deleteTime != null) {
+            Tombstone earlier = tombstonesById.remove(hotelId);
+            Timestamp tombstoneTime = earlier != null && earlier.deleteTime().compareTo(deleteTime) > 0
+                    ? earlier.deleteTime()
+                    : deleteTime;
+            tombstonesById.put(hotelId, new Tombstone(tombstoneTime, System.nanoTime() + TOMBSTONE_LIFETIME.toNanos()));
+        }
+
+        Hotel previous = hotelsById.remove(hotelId);
+        if (previous == null) {
+            return;
+        }
+        updateTimesById.remove(hotelId);
+
+        for (HotelCatalogListener listener : listeners) {
+            try {
+                listener.onRemove(previous);
+            } catch (Exception e) {
+                log.error("Catalog listener {} failed on removal of hotel {}: {}",
+                        listener.getClass().getSimpleName(), hotelId, e.getMessage(), e);
+            }
+        }
+
+        // Listeners have dropped the ordinal from their postings, so it can be reused
+        int ordinal = ordinalsById.remove(hotelId);
+        hotelsByOrdinal[ordinal] = null;
+        freeOrdinals.push(ordinal);
+    }
+
+    private Timestamp deletionTime(String hotelId) {
+        Tombstone tombstone = tombstonesById.get(hotelId);
+        return tombstone != null ? tombstone.deleteTime() : null;
+    }
+
+    private void expireTombstones() {
+        long now = System.nanoTime();
+        Iterator<Tombstone> tombstones = tombstonesById.values().iterator();
+        while (tombstones.hasNext() && tombstones.next().expiresAtNanos() - now <= 0) {
+            tombstones.remove();
+        }
+    }
+
+    private int assignOrdinal(String hotelId) {
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+        if (ordinal >= hotelsByOrdinal.length) {
+            hotelsByOrdinal = Arrays.copyOf(hotelsByOrdinal, hotelsByOrdinal.length * 2);
+        }
+        ordinalsById.put(hotelId, ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Copy with fresh top-level lists, safe for callers that modify the hotel.
+     */
+    public static Hotel copyOf(Hotel hotel) {
+        return Hotel.builder()
+                .hotelId(hotel.getHotelId())
+                .userId(hotel.getUserId())
+                .hotelName(hotel.getHotelName())
+                .rating(hotel.getRating())
+                .hotelLocation(hotel.getHotelLocation())
+                .locationLink(hotel.getLocationLink())
+                .latitude(hotel.getLatitude())
+                .longitude(hotel.getLongitude())
+                .hotelImages(hotel.getHotelImages() != null ? new ArrayList<>(hotel.getHotelImages()) : null)
+                .googleMapScreenshot(hotel.getGoogleMapScreenshot())
+                .descriptions(hotel.getDescriptions() != null ? new ArrayList<>(hotel.getDescriptions()) : null)
+                .amenities(hotel.getAmenities() != null ? new ArrayList<>(hotel.getAmenities()) : null)
+                .extraBeds(hotel.getExtraBeds())
+                .perExtraBedPrice(hotel.getPerExtraBedPrice())
+                .checkinTime(hotel.getCheckinTime())
+                .checkoutTime(hotel.getCheckoutTime())
+                .createdAt(hotel.getCreatedAt())
+                .updatedAt(hotel.getUpdatedAt())
+                .build();
+    }
+
+    private record Tombstone(Timestamp deleteTime, long expiresAtNanos) {
+    }
+}
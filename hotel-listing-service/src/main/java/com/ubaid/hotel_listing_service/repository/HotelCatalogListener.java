@@ -0,0 +1,18 @@
+package com.ubaid.hotel_listing_service.repository;
+
+import com.ubaid.hotel_listing_service.entity.Hotel;
+
+/**
+ * Receives catalog changes in commit order. Callbacks run while the catalog's write
+ * lock is held, so implementations must be quick and must not call back into writes.
+ */
+public interface HotelCatalogListener {
+
+    /**
+     * @param hotel    the new state of the hotel
+     * @param previous the state it replaces, or null if the hotel is new
+     */
+    void onUpsert(Hotel hotel, Hotel previous);
+
+    void onRemove(Hotel previous);
+}
@@ -0,0 +1,117 @@
+package com.ubaid.hotel_listing_service.repository;
+
+import com.google.cloud.firestore.*;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Keeps {@link HotelCatalog} in sync with Firestore through a snapshot listener.
+ *
+ * The first snapshot loads every hotel; later snapshots carry only the changed
+ * documents. If the listener fails the catalog is marked not ready (reads fall back
+ * to Firestore) and the listener is re-registered after a delay.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HotelCatalogSync {
+
+    private final Firestore firestore;
+    private final HotelCatalog hotelCatalog;
+    private final HotelRepository hotelRepository;
+
+    @Value("${hotel-catalog.initial-load-timeout-seconds:30}")
+    private long initialLoadTimeoutSeconds;
+
+    @Value("${hotel-catalog.resubscribe-delay-seconds:5}")
+    private long resubscribeDelaySeconds;
+
+    private final ScheduledExecutorService resubscribeExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "hotel-catalog-resubscribe");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile ListenerRegistration registration;
+    private volatile CountDownLatch initialLoad;
+
+    @PostConstruct
+    public void start() {
+        subscribe();
+        try {
+            if (!initialLoad.await(initialLoadTimeoutSeconds, TimeUnit.SECONDS)) {
+                log.warn("Hotel catalog not loaded after {}s, serving reads from Firestore until it is",
+                        initialLoadTimeoutSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (registration != null) {
+            registration.remove();
+        }
+        resubscribeExecutor.shutdownNow();
+    }
+
+    private void subscribe() {
+        CountDownLatch latch = new CountDownLatch(1);
+        initialLoad = latch;
+
+        registration = firestore.collection(HotelRepository.COLLECTION_NAME).addSnapshotListener((snapshot, error) -> {
+            if (error != null) {
+                log.error("Hotel catalog listener failed: {}", error.getMessage());
+                hotelCatalog.markReady(false);
+                resubscribeExecutor.schedule(this::subscribe, resubscribeDelaySeconds, TimeUnit.SECONDS);
+                return;
+            }
+            if (snapshot == null) {
+                return;
+            }
+
+            if (latch.getCount() > 0) {
+                // Full snapshot after (re)subscribing: drop hotels deleted while we were not listening
+                Set<String> liveIds = new HashSet<>();
+                for (QueryDocumentSnapshot document : snapshot.getDocuments()) {
+                    liveIds.add(document.getId());
+                }
+                for (Hotel hotel : new ArrayList<>(hotelCatalog.all())) {
+                    if (!liveIds.contains(hotel.getHotelId())) {
+                        hotelCatalog.remove(hotel.getHotelId(), snapshot.getReadTime());
+                    }
+                }
+            }
+
+            for (DocumentChange change : snapshot.getDocumentChanges()) {
+                QueryDocumentSnapshot document = change.getDocument();
+                try {
+                    if (change.getType() == DocumentChange.Type.REMOVED) {
+                        hotelCatalog.remove(document.getId(), snapshot.getReadTime());
+                    } else {
+                        hotelCatalog.upsert(hotelRepository.toEntity(document), document.getUpdateTime());
+                    }
+                } catch (Exception e) {
+                    log.error("Failed to apply catalog change for hotel {}: {}", document.getId(), e.getMessage());
+                }
+            }
+
+            if (latch.getCount() > 0) {
+                hotelCatalog.markReady(true);
+                latch.countDown();
+                log.info("Hotel catalog loaded with {} hotels", hotelCatalog.size());
+            }
+        });
+    }
+}
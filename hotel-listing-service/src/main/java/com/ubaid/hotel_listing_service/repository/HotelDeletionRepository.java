@@ -0,0 +1,182 @@
+package com.ubaid.hotel_listing_service.repository;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.*;
+import com.ubaid.hotel_listing_service.entity.HotelDeletion;
+import com.ubaid.hotel_listing_service.exception.HotelException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class HotelDeletionRepository {
+
+    private final Firestore firestore;
+    private final HotelCatalog hotelCatalog;
+    private static final String COLLECTION_NAME = "hotel_deletions";
+
+    /**
+     * Write the tombstone and delete the hotel document in one batch, so the hotel
+     * disappears from every read at once and its dependents can be found afterwards.
+     */
+    public void tombstone(HotelDeletion deletion) {
+        try {
+            WriteBatch batch = firestore.batch();
+            batch.set(firestore.collection(COLLECTION_NAME).document(deletion.getHotelId()), convertEntityToMap(deletion));
+            batch.delete(firestore.collection(HotelRepository.COLLECTION_NAME).document(deletion.getHotelId()));
+            List<WriteResult> results = batch.commit().get();
+            hotelCatalog.remove(deletion.getHotelId(), results.get(1).getUpdateTime());
+            log.info("Hotel {} tombstoned", deletion.getHotelId());
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error tombstoning hotel {}: {}", deletion.getHotelId(), e.getMessage());
+            throw new HotelException("Failed to delete hotel: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Take the lease on an unfinished deletion for {@code owner}, unless another owner
+     * holds an unexpired one. Returns the stored deletion, with the lease, when claimed.
+     */
+    public Optional<HotelDeletion> claim(String hotelId, String owner, Duration lease) {
+        DocumentReference docRef = firestore.collection(COLLECTION_NAME).document(hotelId);
+        try {
+            return firestore.runTransaction(transaction -> {
+                DocumentSnapshot document = transaction.get(docRef).get();
+                if (!document.exists()) {
+                    return Optional.<HotelDeletion>empty();
+                }
+                HotelDeletion deletion = convertMapToEntity(document.getData(), document.getId());
+                LocalDateTime now = LocalDateTime.now();
+                boolean heldElsewhere = deletion.getLeaseOwner() != null && !owner.equals(deletion.getLeaseOwner())
+                        && deletion.getLeaseExpiresAt() != null && deletion.getLeaseExpiresAt().isAfter(now);
+                if (deletion.getState() == HotelDeletion.State.COMPLETED || heldElsewhere) {
+                    return Optional.<HotelDeletion>empty();
+                }
+                deletion.setLeaseOwner(owner);
+                deletion.setLeaseExpiresAt(now.plus(lease));
+                transaction.set(docRef, convertEntityToMap(deletion));
+                return Optional.of(deletion);
+            }).get();
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error claiming hotel deletion {}: {}", hotelId, e.getMessage());
+            throw new HotelException("Failed to claim hotel deletion: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Save progress of a deletion whose lease the caller holds; the lease is renewed,
+     * or dropped when {@code lease} is null. Fails if the lease has passed to another
+     * owner, so two instances can never interleave their progress.
+     */
+    public void save(HotelDeletion deletion, Duration lease) {
+        DocumentReference docRef = firestore.collection(COLLECTION_NAME).document(deletion.getHotelId());
+        try {
+            firestore.runTransaction(transaction -> {
+                DocumentSnapshot document = transaction.get(docRef).get();
+                String storedOwner = document.exists() ? document.getString("leaseOwner") : null;
+                if (!Objects.equals(storedOwner, deletion.getLeaseOwner())) {
+                    throw new HotelException("Lease on hotel deletion " + deletion.getHotelId()
+                            + " is held by " + storedOwner);
+                }
+                deletion.setLeaseExpiresAt(lease != null ? LocalDateTime.now().plus(lease) : null);
+                if (lease == null) {
+                    deletion.setLeaseOwner(null);
+                }
+                transaction.set(docRef, convertEntityToMap(deletion));
+                return null;
+            }).get();
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error saving deletion progress for hotel {}: {}", deletion.getHotelId(), e.getMessage());
+            throw new HotelException("Failed to save hotel deletion: " + e.getMessage());
+        }
+    }
+
+    public Optional<HotelDeletion> findById(String hotelId) {
+        try {
+            DocumentSnapshot document = firestore.collection(COLLECTION_NAME).document(hotelId).get().get();
+            if (document.exists()) {
+                return Optional.of(convertMapToEntity(document.getData(), document.getId()));
+            }
+            return Optional.empty();
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding hotel deletion {}: {}", hotelId, e.getMessage());
+            throw new HotelException("Failed to find hotel deletion: " + e.getMessage());
+        }
+    }
+
+    public List<HotelDeletion> findUnfinished() {
+        try {
+            Query query = firestore.collection(COLLECTION_NAME)
+                    .whereIn("state", List.of(HotelDeletion.State.PURGING_ROOMS.name(),
+                            HotelDeletion.State.DELETING_IMAGES.name()));
+            List<HotelDeletion> deletions = new ArrayList<>();
+            for (DocumentSnapshot document : query.get().get().getDocuments()) {
+                deletions.add(convertMapToEntity(document.getData(), document.getId()));
+            }
+            return deletions;
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding unfinished hotel deletions: {}", e.getMessage());
+            throw new HotelException("Failed to find unfinished hotel deletions: " + e.getMessage());
+        }
+    }
+
+    private Map<String, Object> convertEntityToMap(HotelDeletion deletion) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("hotelId", deletion.getHotelId());
+        map.put("userId", deletion.getUserId());
+        map.put("hotelName", deletion.getHotelName());
+        map.put("imageUrls", deletion.getImageUrls() != null ? deletion.getImageUrls() : List.of());
+        map.put("state", deletion.getState().name());
+        map.put("roomsDeleted", deletion.getRoomsDeleted());
+        map.put("imagesDeleted", deletion.getImagesDeleted());
+        map.put("attempts", deletion.getAttempts());
+        map.put("lastError", deletion.getLastError());
+        map.put("leaseOwner", deletion.getLeaseOwner());
+        map.put("leaseExpiresAt", deletion.getLeaseExpiresAt() != null
+                ? Timestamp.of(Date.from(deletion.getLeaseExpiresAt().toInstant(ZoneOffset.UTC))) : null);
+        map.put("createdAt", Timestamp.of(Date.from(deletion.getCreatedAt().toInstant(ZoneOffset.UTC))));
+        map.put("updatedAt", Timestamp.of(Date.from(deletion.getUpdatedAt().toInstant(ZoneOffset.UTC))));
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private HotelDeletion convertMapToEntity(Map<String, Object> data, String id) {
+        return HotelDeletion.builder()
+                .hotelId(id)
+                .userId((String) data.get("userId"))
+                .hotelName((String) data.get("hotelName"))
+                .imageUrls(data.get("imageUrls") != null ? new ArrayList<>((List<String>) data.get("imageUrls")) : new ArrayList<>())
+                .state(HotelDeletion.State.valueOf((String) data.get("state")))
+                .roomsDeleted(toInteger(data.get("roomsDeleted")))
+                .imagesDeleted(toInteger(data.get("imagesDeleted")))
+                .attempts(toInteger(data.get("attempts")))
+                .lastError((String) data.get("lastError"))
+                .leaseOwner((String) data.get("leaseOwner"))
+                .leaseExpiresAt(data.get("leaseExpiresAt") != null
+                        ? convertTimestampToLocalDateTime(data.get("leaseExpiresAt")) : null)
+                .createdAt(convertTimestampToLocalDateTime(data.get("createdAt")))
+                .updatedAt(convertTimestampToLocalDateTime(data.get("updatedAt")))
+                .build();
+    }
+
+    private Integer toInteger(Object value) {
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
+    private LocalDateTime convertTimestampToLocalDateTime(Object timestampObj) {
+        if (timestampObj instanceof Timestamp) {
+            return LocalDateTime.ofInstant(((Timestamp) timestampObj).toDate().toInstant(), ZoneOffset.UTC);
+        } else if (timestampObj instanceof Date) {
+            return LocalDateTime.ofInstant(((Date) timestampObj).toInstant(), ZoneOffset.UTC);
+        }
+        return LocalDateTime.now();
+    }
+}
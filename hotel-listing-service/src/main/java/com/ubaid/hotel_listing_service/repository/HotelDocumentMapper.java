@@ -0,0 +1,227 @@
+package com.ubaid.hotel_listing_service.repository;
+
+import com.google.cloud.Timestamp;
+import com.ubaid.hotel_listing_service.entity.Amenity;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.entity.HotelDescription;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Converts hotels to and from Firestore document data.
+ *
+ * Reads run for every document of a full-collection query, so the field table is built
+ * once and each field is converted with a single type check instead of casts and
+ * streams. Amenity names and icons repeat across hotels and come from an intern pool,
+ * so the catalog holds one copy of each; check-in and check-out times come from a
+ * parse cache. Both pools are bounded, so unusual data only falls back to the
+ * uncached path.
+ */
+@Component
+public class HotelDocumentMapper {
+
+    private static final int MAX_POOLED_VALUES = 4096;
+
+    private final Map<String, String> internedStrings = new ConcurrentHashMap<>();
+    private final Map<String, LocalTime> parsedTimes = new ConcurrentHashMap<>();
+
+    /**
+     * One document field: how to read it into a hotel and how to write it out. Fields
+     * that are null on the hotel are written as null unless {@code omitWhenNull}.
+     */
+    private record Field(String name, boolean omitWhenNull,
+                         Reader reader, Function<Hotel, Object> writer) {
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+        void read(HotelDocumentMapper mapper, Hotel hotel, Object value);
+    }
+
+    private static final Field[] FIELDS = {
+            new Field("hotelId", false, (m, h, v) -> { }, Hotel::getHotelId), // The document id is authoritative
+            new Field("userId", false, (m, h, v) -> h.setUserId(asString(v)), Hotel::getUserId),
+            new Field("hotelName", false, (m, h, v) -> h.setHotelName(asString(v)), Hotel::getHotelName),
+            new Field("rating", false, (m, h, v) -> h.setRating(asDouble(v)), Hotel::getRating),
+            new Field("hotelLocation", false, (m, h, v) -> h.setHotelLocation(asString(v)), Hotel::getHotelLocation),
+            new Field("locationLink", false, (m, h, v) -> h.setLocationLink(asString(v)), Hotel::getLocationLink),
+            new Field("latitude", false, (m, h, v) -> h.setLatitude(asDouble(v)), Hotel::getLatitude),
+            new Field("longitude", false, (m, h, v) -> h.setLongitude(asDouble(v)), Hotel::getLongitude),
+            new Field("hotelImages", false, (m, h, v) -> h.setHotelImages(asStringList(v)), Hotel::getHotelImages),
+            new Field("googleMapScreenshot", false, (m, h, v) -> h.setGoogleMapScreenshot(asString(v)), Hotel::getGoogleMapScreenshot),
+            new Field("descriptions", true, (m, h, v) -> h.setDescriptions(readDescriptions(v)), h -> writeDescriptions(h.getDescriptions())),
+            new Field("amenities", true, (m, h, v) -> h.setAmenities(m.readAmenities(v)), h -> writeAmenities(h.getAmenities())),
+            new Field("extraBeds", false, (m, h, v) -> h.setExtraBeds(asInteger(v)), Hotel::getExtraBeds),
+            new Field("perExtraBedPrice", false, (m, h, v) -> h.setPerExtraBedPrice(asInteger(v)), Hotel::getPerExtraBedPrice),
+            new Field("checkinTime", false, (m, h, v) -> h.setCheckinTime(m.asTime(v)), h -> timeToString(h.getCheckinTime())),
+            new Field("checkoutTime", false, (m, h, v) -> h.setCheckoutTime(m.asTime(v)), h -> timeToString(h.getCheckoutTime())),
+            new Field("createdAt", false, (m, h, v) -> h.setCreatedAt(asDateTime(v)), h -> toTimestamp(h.getCreatedAt())),
+            new Field("updatedAt", false, (m, h, v) -> h.setUpdatedAt(asDateTime(v)), h -> toTimestamp(h.getUpdatedAt())),
+    };
+
+    private static final int DOCUMENT_CAPACITY = FIELDS.length * 4 / 3 + 1;
+
+    public Map<String, Object> toDocument(Hotel hotel) {
+        Map<String, Object> document = new HashMap<>(DOCUMENT_CAPACITY);
+        for (Field field : FIELDS) {
+            Object value = field.writer().apply(hotel);
+            if (value != null || !field.omitWhenNull()) {
+                document.put(field.name(), value);
+            }
+        }
+        return document;
+    }
+
+    public Hotel toHotel(Map<String, Object> data, String id) {
+        Hotel hotel = new Hotel();
+        hotel.setHotelId(id);
+        for (Field field : FIELDS) {
+            Object value = data.get(field.name());
+            if (value != null) {
+                field.reader().read(this, hotel, value);
+            }
+        }
+        // Coordinates are only meaningful as a pair
+        if (hotel.getLatitude() == null || hotel.getLongitude() == null) {
+            hotel.setLatitude(null);
+            hotel.setLongitude(null);
+        }
+        if (hotel.getCreatedAt() == null) hotel.setCreatedAt(LocalDateTime.now());
+        if (hotel.getUpdatedAt() == null) hotel.setUpdatedAt(LocalDateTime.now());
+        return hotel;
+    }
+
+    private List<Amenity> readAmenities(Object value) {
+        if (!(value instanceof List<?> items)) {
+            return null;
+        }
+        List<Amenity> amenities = new ArrayList<>(items.size());
+        for (Object item : items) {
+            if (item instanceof Map<?, ?> amenity) {
+                amenities.add(new Amenity(
+                        intern(asString(amenity.get("name"))),
+                        intern(asString(amenity.get("icon"))),
+                        Boolean.TRUE.equals(amenity.get("available"))));
+            }
+        }
+        return amenities;
+    }
+
+    private static List<HotelDescription> readDescriptions(Object value) {
+        if (!(value instanceof List<?> items)) {
+            return null;
+        }
+        List<HotelDescription> descriptions = new ArrayList<>(items.size());
+        for (Object item : items) {
+            if (item instanceof Map<?, ?> description) {
+                descriptions.add(new HotelDescription(
+                        asString(description.get("title")),
+                        asString(description.get("description"))));
+            }
+        }
+        return descriptions;
+    }
+
+    private static List<Map<String, Object>> writeAmenities(List<Amenity> amenities) {
+        if (amenities == null) {
+            return null;
+        }
+        List<Map<String, Object>> maps = new ArrayList<>(amenities.size());
+        for (Amenity amenity : amenities) {
+            Map<String, Object> map = new HashMap<>(4);
+            map.put("name", amenity.getName());
+            map.put("icon", amenity.getIcon());
+            map.put("available", amenity.isAvailable());
+            maps.add(map);
+        }
+        return maps;
+    }
+
+    private static List<Map<String, Object>> writeDescriptions(List<HotelDescription> descriptions) {
+        if (descriptions == null) {
+            return null;
+        }
+        List<Map<String, Object>> maps = new ArrayList<>(descriptions.size());
+        for (HotelDescription description : descriptions) {
+            Map<String, Object> map = new HashMap<>(4);
+            map.put("title", description.getTitle());
+            map.put("description", description.getDescription());
+            maps.add(map);
+        }
+        return maps;
+    }
+
+    private String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String pooled = internedStrings.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (internedStrings.size() >= MAX_POOLED_VALUES) {
+            return value;
+        }
+        pooled = internedStrings.putIfAbsent(value, value);
+        return pooled != null ? pooled : value;
+    }
+
+    private LocalTime asTime(Object value) {
+        if (!(value instanceof String text)) {
+            return null;
+        }
+        LocalTime time = parsedTimes.get(text);
+        if (time == null) {
+            time = LocalTime.parse(text);
+            if (parsedTimes.size() < MAX_POOLED_VALUES) {
+                parsedTimes.putIfAbsent(text, time);
+            }
+        }
+        return time;
+    }
+
+    private static String timeToString(LocalTime time) {
+        return time != null ? time.toString() : null;
+    }
+
+    private static String asString(Object value) {
+        return value instanceof String text ? text : null;
+    }
+
+    private static Double asDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : null;
+    }
+
+    private static Integer asInteger(Object value) {
+        return value instanceof Number number ? number.intValue() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> asStringList(Object value) {
+        return value instanceof List<?> list ? (List<String>) list : null;
+    }
+
+    private static LocalDateTime asDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return LocalDateTime.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos(), ZoneOffset.UTC);
+        }
+        if (value instanceof Date date) {
+            return LocalDateTime.ofInstant(date.toInstant(), ZoneOffset.UTC);
+        }
+        return null;
+    }
+
+    /**
+     * Millisecond precision, as stored so far, so versions derived from updatedAt match.
+     */
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return Timestamp.ofTimeSecondsAndNanos(dateTime.toEpochSecond(ZoneOffset.UTC),
+                dateTime.getNano() / 1_000_000 * 1_000_000);
+    }
+}
@@ -1,12 +1,17 @@
 package com.ubaid.hotel_listing_service.repository;
 
 import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
 import com.google.cloud.Timestamp;
 import com.google.cloud.firestore.*;
-import com.ubaid.hotel_listing_service.entity.Amenity;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.ubaid.hotel_listing_service.entity.Hotel;
-import com.ubaid.hotel_listing_service.entity.HotelDescription;
 import com.ubaid.hotel_listing_service.exception.HotelException;
+import com.ubaid.hotel_listing_service.index.GeoPoint;
+import com.ubaid.hotel_listing_service.index.HotelOwnerIndex;
+import com.ubaid.hotel_listing_service.index.HotelTimeIndex;
+import com.ubaid.hotel_listing_service.index.HotelTrigramIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
@@ -14,6 +19,7 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
@@ -23,22 +29,23 @@ import java.util.stream.Collectors;
 @Slf4j
 public class HotelRepository {
     private final Firestore firestore;
-    private static final String COLLECTION_NAME = "hotels";
+    private final HotelCatalog hotelCatalog;
+    private final HotelDocumentMapper hotelDocumentMapper;
+    private final HotelTrigramIndex hotelTrigramIndex;
+    private final HotelTimeIndex hotelTimeIndex;
+    private final HotelOwnerIndex hotelOwnerIndex;
+    static final String COLLECTION_NAME = "hotels";
+    private static final int GET_ALL_CHUNK_SIZE = 300;
     public Hotel save(Hotel hotel) {
         try {
+            prepareForSave(hotel);
             String id = hotel.getHotelId();
-            if (id == null || id.isEmpty()) {
-                id = UUID.randomUUID().toString();
-                hotel.setHotelId(id);
-            }
-            if (hotel.getCreatedAt() == null) {
-                hotel.setCreatedAt(LocalDateTime.now());
-            }
-            hotel.setUpdatedAt(LocalDateTime.now());
-            Map<String, Object> hotelMap = convertEntityToMap(hotel);
+            Map<String, Object> hotelMap = hotelDocumentMapper.toDocument(hotel);
             DocumentReference docRef = firestore.collection(COLLECTION_NAME).document(id);
             ApiFuture<WriteResult> result = docRef.set(hotelMap);
-            result.get();
+            WriteResult writeResult = result.get();
+            // Write through so the next read on this instance sees the change
+            hotelCatalog.upsert(HotelCatalog.copyOf(hotel), writeResult.getUpdateTime());
             log.info("Hotel saved successfully with ID: {}", id);
             return hotel;
         } catch (InterruptedException | ExecutionException e) {
@@ -47,17 +54,17 @@ public class HotelRepository {
         }
     }
     public Optional<Hotel> findById(String hotelId) {
+        if (hotelCatalog.isReady()) {
+            Hotel cached = hotelCatalog.get(hotelId);
+            if (cached != null) {
+                return Optional.of(HotelCatalog.copyOf(cached));
+            }
+        }
         try {
             DocumentReference docRef = firestore.collection(COLLECTION_NAME).document(hotelId);
             DocumentSnapshot document = docRef.get().get();
             if (document.exists()) {
-// Log what we're getting from Firestore
-                log.debug("Retrieved hotel document with fields: {}", document.getData().keySet());
-                Hotel hotel = convertMapToEntity(document.getData(), document.getId());
-// Verify critical fields
-                log.info("Converted hotel - ID: {}, Name: {}, Location: {}",
-                        hotel.getHotelId(), hotel.getHotelName(), hotel.getHotelLocation());
-                return Optional.of(hotel);
+                return Optional.of(hotelDocumentMapper.toHotel(document.getData(), document.getId()));
             }
             log.warn("Hotel not found: {}", hotelId);
             return Optional.empty();
@@ -66,13 +73,60 @@ public class HotelRepository {
             throw new HotelException("Failed to find hotel: " + e.getMessage());
         }
     }
+    /**
+     * Resolve several hotels at once: catalog first, then one Firestore getAll per
+     * chunk of misses. Ids that do not exist are absent from the returned map, which
+     * keeps the order of the requested ids.
+     */
+    public Map<String, Hotel> findAllByIds(Collection<String> hotelIds) {
+        Map<String, Hotel> found = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String hotelId : new LinkedHashSet<>(hotelIds)) {
+            Hotel cached = hotelCatalog.isReady() ? hotelCatalog.get(hotelId) : null;
+            if (cached != null) {
+                found.put(hotelId, HotelCatalog.copyOf(cached));
+            } else {
+                found.put(hotelId, null);
+                misses.add(hotelId);
+            }
+        }
+
+        try {
+            for (int from = 0; from < misses.size(); from += GET_ALL_CHUNK_SIZE) {
+                List<String> chunk = misses.subList(from, Math.min(from + GET_ALL_CHUNK_SIZE, misses.size()));
+                DocumentReference[] refs = chunk.stream()
+                        .map(id -> firestore.collection(COLLECTION_NAME).document(id))
+                        .toArray(DocumentReference[]::new);
+                for (DocumentSnapshot document : firestore.getAll(refs).get()) {
+                    if (document.exists()) {
+                        found.put(document.getId(), hotelDocumentMapper.toHotel(document.getData(), document.getId()));
+                    }
+                }
+            }
+            log.debug("Batch lookup of {} hotels: {} from catalog, {} from Firestore",
+                    found.size(), found.size() - misses.size(), misses.size());
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding hotels by IDs: {}", e.getMessage());
+            throw new HotelException("Failed to find hotels: " + e.getMessage());
+        }
+
+        found.values().removeIf(Objects::isNull);
+        return found;
+    }
     public List<Hotel> findByUserId(String userId) {
+        if (hotelCatalog.isReady()) {
+            return hotelOwnerIndex.hotelIdsOf(userId).stream()
+                    .map(hotelCatalog::get)
+                    .filter(Objects::nonNull)
+                    .map(HotelCatalog::copyOf)
+                    .collect(Collectors.toList());
+        }
         try {
             Query query = firestore.collection(COLLECTION_NAME).whereEqualTo("userId", userId);
             ApiFuture<QuerySnapshot> querySnapshot = query.get();
             List<QueryDocumentSnapshot> documents = querySnapshot.get().getDocuments();
             return documents.stream()
-                    .map(doc -> convertMapToEntity(doc.getData(), doc.getId()))
+                    .map(doc -> hotelDocumentMapper.toHotel(doc.getData(), doc.getId()))
                     .collect(Collectors.toList());
         } catch (InterruptedException | ExecutionException e) {
             log.error("Error finding hotels by user ID: {}", e.getMessage());
@@ -80,11 +134,14 @@ public class HotelRepository {
         }
     }
     public List<Hotel> findAll() {
+        if (hotelCatalog.isReady()) {
+            return new ArrayList<>(hotelCatalog.all());
+        }
         try {
             ApiFuture<QuerySnapshot> querySnapshot = firestore.collection(COLLECTION_NAME).get();
             List<QueryDocumentSnapshot> documents = querySnapshot.get().getDocuments();
             return documents.stream()
-                    .map(doc -> convertMapToEntity(doc.getData(), doc.getId()))
+                    .map(doc -> hotelDocumentMapper.toHotel(doc.getData(), doc.getId()))
                     .collect(Collectors.toList());
         } catch (InterruptedException | ExecutionException e) {
             log.error("Error finding all hotels: {}", e.getMessage());
@@ -92,13 +149,16 @@ public class HotelRepository {
         }
     }
     public List<Hotel> findByLocationContaining(String location) {
+        if (hotelCatalog.isReady()) {
+            return hotelTrigramIndex.contains(HotelTrigramIndex.Field.LOCATION, location.trim());
+        }
         try {
 // Get all hotels and filter in-memory for better partial matching
             ApiFuture<QuerySnapshot> querySnapshot = firestore.collection(COLLECTION_NAME).get();
             List<QueryDocumentSnapshot> documents = querySnapshot.get().getDocuments();
             String searchTerm = location.toLowerCase().trim();
             return documents.stream()
-                    .map(doc -> convertMapToEntity(doc.getData(), doc.getId()))
+                    .map(doc -> hotelDocumentMapper.toHotel(doc.getData(), doc.getId()))
                     .filter(hotel -> hotel.getHotelLocation() != null &&
                             hotel.getHotelLocation().toLowerCase().contains(searchTerm))
                     .collect(Collectors.toList());
@@ -108,18 +168,16 @@ public class HotelRepository {
         }
     }
     public List<Hotel> findByNameContaining(String name) {
+        String lowerCaseName = name.toLowerCase();
+        if (hotelCatalog.isReady()) {
+            return hotelTrigramIndex.contains(HotelTrigramIndex.Field.NAME, name);
+        }
         try {
-            String lowerCaseName = name.toLowerCase();
             ApiFuture<QuerySnapshot> querySnapshot = firestore.collection(COLLECTION_NAME).get();
             List<QueryDocumentSnapshot> documents = querySnapshot.get().getDocuments();
-
-            // --- DEBUG LOG START ---
-            log.info("Total Hotels Found in DB: {}", documents.size());
-            documents.forEach(doc -> log.info("DB Hotel Name: {}", doc.getString("hotelName")));
-            // --- DEBUG LOG END ---
-
+            log.debug("Name search fell back to Firestore scan of {} hotels", documents.size());
             return documents.stream()
-                    .map(doc -> convertMapToEntity(doc.getData(), doc.getId()))
+                    .map(doc -> hotelDocumentMapper.toHotel(doc.getData(), doc.getId()))
                     .filter(hotel -> hotel.getHotelName() != null &&
                             hotel.getHotelName().toLowerCase().contains(lowerCaseName))
                     .collect(Collectors.toList());
@@ -149,12 +207,15 @@ public class HotelRepository {
     public List<Hotel> findByLocationAndCheckInCheckOutTime(String location,
                                                             LocalTime requestedCheckIn,
                                                             LocalTime requestedCheckOut) {
+        if (hotelCatalog.isReady()) {
+            return hotelTimeIndex.find(location, requestedCheckIn, requestedCheckOut, null);
+        }
         try {
 // First filter by location
             List<Hotel> locationHotels = findByLocationContaining(location);
 // Then filter by time compatibility
             return locationHotels.stream()
-                    .filter(hotel -> isTimeCompatible(hotel, requestedCheckIn, requestedCheckOut))
+                    .filter(hotel -> HotelTimeIndex.isTimeCompatible(hotel, requestedCheckIn, requestedCheckOut))
                     .collect(Collectors.toList());
         } catch (Exception e) {
             log.error("Error finding hotels by location and time: {}", e.getMessage());
@@ -188,12 +249,15 @@ public class HotelRepository {
                                                                          LocalTime requestedCheckIn,
                                                                          LocalTime requestedCheckOut,
                                                                          int toleranceMinutes) {
+        if (hotelCatalog.isReady()) {
+            return hotelTimeIndex.find(location, requestedCheckIn, requestedCheckOut, toleranceMinutes);
+        }
         try {
 // First filter by location
             List<Hotel> locationHotels = findByLocationContaining(location);
 // Then filter by time compatibility with tolerance
             return locationHotels.stream()
-                    .filter(hotel -> isTimeCompatibleWithTolerance(hotel, requestedCheckIn, requestedCheckOut, toleranceMinutes))
+                    .filter(hotel -> HotelTimeIndex.isTimeCompatibleWithTolerance(hotel, requestedCheckIn, requestedCheckOut, toleranceMinutes))
                     .collect(Collectors.toList());
         } catch (Exception e) {
             log.error("Error finding hotels by location and time with tolerance: {}", e.getMessage());
@@ -202,176 +266,118 @@ public class HotelRepository {
     }
 
 
+    public BulkWriter newBulkWriter() {
+        return firestore.bulkWriter();
+    }
+
     /**
+     * Queue a new hotel on a bulk writer. The future completes once the hotel is written;
+     * the catalog is updated at that point, as in {@link #save}.
+     */
+    public ApiFuture<WriteResult> createAsync(BulkWriter writer, Hotel hotel) {
+        prepareForSave(hotel);
+        DocumentReference docRef = firestore.collection(COLLECTION_NAME).document(hotel.getHotelId());
+        ApiFuture<WriteResult> result = writer.create(docRef, hotelDocumentMapper.toDocument(hotel));
+        ApiFutures.addCallback(result, new ApiFutureCallback<>() {
+            @Override
+            public void onSuccess(WriteResult writeResult) {
+                hotelCatalog.upsert(HotelCatalog.copyOf(hotel), writeResult.getUpdateTime());
+            }
 
+            @Override
+            public void onFailure(Throwable t) {
+                log.warn("Bulk write of hotel {} failed: {}", hotel.getHotelId(), t.getMessage());
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
 
-     Check if hotel's check-in and check-out times are compatible with requested times.
-     */
-    private boolean isTimeCompatible(Hotel hotel, LocalTime requestedCheckIn, LocalTime requestedCheckOut) {
-        boolean checkInCompatible = true;
-        boolean checkOutCompatible = true;
-        if (requestedCheckIn != null && hotel.getCheckinTime() != null) {
-// Allow check-in from hotel's check-in time up to 2 hours after
-            checkInCompatible = !requestedCheckIn.isBefore(hotel.getCheckinTime()) &&
-                    !requestedCheckIn.isAfter(hotel.getCheckinTime().plusHours(2));
+    private void prepareForSave(Hotel hotel) {
+        if (hotel.getHotelId() == null || hotel.getHotelId().isEmpty()) {
+            hotel.setHotelId(UUID.randomUUID().toString());
         }
-        if (requestedCheckOut != null && hotel.getCheckoutTime() != null) {
-// Allow check-out up to hotel's check-out time, from 1 hour before
-            checkOutCompatible = !requestedCheckOut.isBefore(hotel.getCheckoutTime().minusHours(1)) &&
-                    !requestedCheckOut.isAfter(hotel.getCheckoutTime());
+        // Firestore keeps millis; the write-through copy must match what other instances
+        // read back, or their ETags differ from this instance's
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        hotel.setCreatedAt(hotel.getCreatedAt() != null ? hotel.getCreatedAt().truncatedTo(ChronoUnit.MILLIS) : now);
+        hotel.setUpdatedAt(now);
+        if (hotel.getLatitude() == null || hotel.getLongitude() == null) {
+            GeoPoint point = GeoPoint.fromLocationLink(hotel.getLocationLink());
+            hotel.setLatitude(point != null ? point.latitude() : null);
+            hotel.setLongitude(point != null ? point.longitude() : null);
         }
-        return checkInCompatible && checkOutCompatible;
     }
 
-
     /**
-
-
-     Check time compatibility with tolerance.
+     * Set coordinates on existing hotels without touching other fields. Used by the
+     * geo backfill; the snapshot listener carries the change into the catalog.
      */
-    private boolean isTimeCompatibleWithTolerance(Hotel hotel,
-                                                  LocalTime requestedCheckIn,
-                                                  LocalTime requestedCheckOut,
-                                                  int toleranceMinutes) {
-        boolean checkInCompatible = true;
-        boolean checkOutCompatible = true;
-// Check check-in time with tolerance
-        if (requestedCheckIn != null && hotel.getCheckinTime() != null) {
-            LocalTime earliestAcceptableCheckIn = hotel.getCheckinTime().minusMinutes(toleranceMinutes);
-            LocalTime latestAcceptableCheckIn = hotel.getCheckinTime().plusMinutes(toleranceMinutes);
-            checkInCompatible = !requestedCheckIn.isBefore(earliestAcceptableCheckIn) &&
-                    !requestedCheckIn.isAfter(latestAcceptableCheckIn.plusHours(2)); // Allow 2 hours late check-in
+    public void updateCoordinates(Map<String, GeoPoint> coordinatesByHotelId) {
+        try {
+            WriteBatch batch = firestore.batch();
+            int pending = 0;
+            for (Map.Entry<String, GeoPoint> entry : coordinatesByHotelId.entrySet()) {
+                Map<String, Object> updates = new HashMap<>();
+                updates.put("latitude", entry.getValue().latitude());
+                updates.put("longitude", entry.getValue().longitude());
+                batch.update(firestore.collection(COLLECTION_NAME).document(entry.getKey()), updates);
+                if (++pending == 400) {
+                    batch.commit().get();
+                    batch = firestore.batch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                batch.commit().get();
+            }
+            log.info("Updated coordinates for {} hotels", coordinatesByHotelId.size());
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error updating hotel coordinates: {}", e.getMessage());
+            throw new HotelException("Failed to update hotel coordinates: " + e.getMessage());
         }
-// Check check-out time with tolerance
-        if (requestedCheckOut != null && hotel.getCheckoutTime() != null) {
-            LocalTime earliestAcceptableCheckOut = hotel.getCheckoutTime().minusMinutes(toleranceMinutes + 60); // Allow 1 hour early checkout
-            LocalTime latestAcceptableCheckOut = hotel.getCheckoutTime().plusMinutes(toleranceMinutes);
-            checkOutCompatible = !requestedCheckOut.isBefore(earliestAcceptableCheckOut) &&
-                    !requestedCheckOut.isAfter(latestAcceptableCheckOut);
+    }
+    /**
+     * Set image URLs on an existing hotel without rewriting the rest of the document.
+     * Used by background image jobs; fails if the hotel was deleted in the meantime.
+     * A null argument leaves that field unchanged.
+     */
+    public void updateImages(String hotelId, List<String> hotelImages, String googleMapScreenshot) {
+        try {
+            // Millis, as stored, so the catalog copy versions like a snapshot read
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+            Map<String, Object> updates = new HashMap<>();
+            if (hotelImages != null) updates.put("hotelImages", hotelImages);
+            if (googleMapScreenshot != null) updates.put("googleMapScreenshot", googleMapScreenshot);
+            updates.put("updatedAt", Timestamp.of(Date.from(now.toInstant(ZoneOffset.UTC))));
+            WriteResult writeResult = firestore.collection(COLLECTION_NAME).document(hotelId).update(updates).get();
+
+            Hotel cached = hotelCatalog.get(hotelId);
+            if (cached != null) {
+                Hotel updated = HotelCatalog.copyOf(cached);
+                if (hotelImages != null) updated.setHotelImages(new ArrayList<>(hotelImages));
+                if (googleMapScreenshot != null) updated.setGoogleMapScreenshot(googleMapScreenshot);
+                updated.setUpdatedAt(now);
+                hotelCatalog.upsert(updated, writeResult.getUpdateTime());
+            }
+            log.info("Updated images for hotel {}", hotelId);
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error updating images for hotel {}: {}", hotelId, e.getMessage());
+            throw new HotelException("Failed to update hotel images: " + e.getMessage());
         }
-        return checkInCompatible && checkOutCompatible;
     }
-
-
     public void delete(Hotel hotel) {
         try {
             DocumentReference docRef = firestore.collection(COLLECTION_NAME).document(hotel.getHotelId());
             ApiFuture<WriteResult> result = docRef.delete();
-            result.get();
+            WriteResult writeResult = result.get();
+            hotelCatalog.remove(hotel.getHotelId(), writeResult.getUpdateTime());
             log.info("Hotel deleted successfully: {}", hotel.getHotelId());
         } catch (InterruptedException | ExecutionException e) {
             log.error("Error deleting hotel: {}", e.getMessage());
             throw new RuntimeException("Failed to delete hotel", e);
         }
     }
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> convertEntityToMap(Hotel hotel) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("hotelId", hotel.getHotelId());
-        map.put("userId", hotel.getUserId());
-        map.put("hotelName", hotel.getHotelName());
-        map.put("rating", hotel.getRating());
-        map.put("hotelLocation", hotel.getHotelLocation());
-        map.put("locationLink", hotel.getLocationLink());
-        map.put("hotelImages", hotel.getHotelImages());
-        map.put("googleMapScreenshot", hotel.getGoogleMapScreenshot());
-// Convert descriptions to Map format
-        if (hotel.getDescriptions() != null) {
-            List<Map<String, Object>> descriptions = hotel.getDescriptions().stream()
-                    .map(desc -> {
-                        Map<String, Object> descMap = new HashMap<>();
-                        descMap.put("title", desc.getTitle());
-                        descMap.put("description", desc.getDescription());
-                        return descMap;
-                    })
-                    .collect(Collectors.toList());
-            map.put("descriptions", descriptions);
-        }
-// Convert amenities to Map format
-        if (hotel.getAmenities() != null) {
-            List<Map<String, Object>> amenities = hotel.getAmenities().stream()
-                    .map(amenity -> {
-                        Map<String, Object> amenityMap = new HashMap<>();
-                        amenityMap.put("name", amenity.getName());
-                        amenityMap.put("icon", amenity.getIcon());
-                        amenityMap.put("available", amenity.isAvailable());
-                        return amenityMap;
-                    })
-                    .collect(Collectors.toList());
-            map.put("amenities", amenities);
-        }
-        map.put("extraBeds", hotel.getExtraBeds());
-        map.put("perExtraBedPrice", hotel.getPerExtraBedPrice());
-        map.put("checkinTime", hotel.getCheckinTime() != null ? hotel.getCheckinTime().toString() : null);
-        map.put("checkoutTime", hotel.getCheckoutTime() != null ? hotel.getCheckoutTime().toString() : null);
-        map.put("createdAt", Timestamp.of(Date.from(hotel.getCreatedAt().toInstant(ZoneOffset.UTC))));
-        map.put("updatedAt", Timestamp.of(Date.from(hotel.getUpdatedAt().toInstant(ZoneOffset.UTC))));
-        return map;
-    }
-    @SuppressWarnings("unchecked")
-    private Hotel convertMapToEntity(Map<String, Object> data, String id) {
-        Hotel hotel = new Hotel();
-        hotel.setHotelId(id);
-        hotel.setUserId((String) data.get("userId"));
-        hotel.setHotelName((String) data.get("hotelName"));
-        hotel.setRating((Double) data.get("rating"));
-        hotel.setHotelLocation((String) data.get("hotelLocation"));
-        hotel.setLocationLink((String) data.get("locationLink"));
-        hotel.setHotelImages((List<String>) data.get("hotelImages"));
-        hotel.setGoogleMapScreenshot((String) data.get("googleMapScreenshot"));
-// Convert descriptions from Map format
-        if (data.get("descriptions") != null) {
-            List<Map<String, Object>> descMaps = (List<Map<String, Object>>) data.get("descriptions");
-            List<HotelDescription> descriptions = descMaps.stream()
-                    .map(descMap -> new HotelDescription(
-                            (String) descMap.get("title"),
-                            (String) descMap.get("description")
-                    ))
-                    .collect(Collectors.toList());
-            hotel.setDescriptions(descriptions);
-        }
-// Convert amenities from Map format
-        if (data.get("amenities") != null) {
-            List<Map<String, Object>> amenityMaps = (List<Map<String, Object>>) data.get("amenities");
-            List<Amenity> amenities = amenityMaps.stream()
-                    .map(amenityMap -> new Amenity(
-                            (String) amenityMap.get("name"),
-                            (String) amenityMap.get("icon"),
-                            (Boolean) amenityMap.getOrDefault("available", false)
-                    ))
-                    .collect(Collectors.toList());
-            hotel.setAmenities(amenities);
-        }
-// Set extraBeds
-        if (data.get("extraBeds") != null) {
-            hotel.setExtraBeds(((Long) data.get("extraBeds")).intValue());
-        }
-// Set perExtraBedPrice
-        if (data.get("perExtraBedPrice") != null) {
-            hotel.setPerExtraBedPrice(((Long) data.get("perExtraBedPrice")).intValue());
-        }
-// Convert time strings back to LocalTime
-        if (data.get("checkinTime") != null) {
-            hotel.setCheckinTime(LocalTime.parse((String) data.get("checkinTime")));
-        }
-        if (data.get("checkoutTime") != null) {
-            hotel.setCheckoutTime(LocalTime.parse((String) data.get("checkoutTime")));
-        }
-// Convert Timestamp to LocalDateTime
-        hotel.setCreatedAt(convertTimestampToLocalDateTime(data.get("createdAt")));
-        hotel.setUpdatedAt(convertTimestampToLocalDateTime(data.get("updatedAt")));
-        return hotel;
-    }
-    private LocalDateTime convertTimestampToLocalDateTime(Object timestampObj) {
-        if (timestampObj == null) {
-            return LocalDateTime.now();
-        }
-        if (timestampObj instanceof Timestamp) {
-            return LocalDateTime.ofInstant(((Timestamp) timestampObj).toDate().toInstant(), ZoneOffset.UTC);
-        } else if (timestampObj instanceof Date) {
-            return LocalDateTime.ofInstant(((Date) timestampObj).toInstant(), ZoneOffset.UTC);
-        } else {
-            return LocalDateTime.now();
-        }
+    Hotel toEntity(DocumentSnapshot document) {
+        return hotelDocumentMapper.toHotel(document.getData(), document.getId());
     }
 }
\ No newline at end of file
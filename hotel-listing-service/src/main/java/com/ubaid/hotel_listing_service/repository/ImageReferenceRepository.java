@@ -0,0 +1,78 @@
+package com.ubaid.hotel_listing_service.repository;
+
+import com.google.cloud.firestore.*;
+import com.ubaid.hotel_listing_service.exception.HotelException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Reads the image URLs stored by every service sharing this Firestore project, for the
+ * orphan image collector. Only the image fields are fetched, a page at a time.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ImageReferenceRepository {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final Firestore firestore;
+
+    /**
+     * Pass every image URL on hotels, rooms and user profiles to the consumer and return
+     * the number of documents read.
+     */
+    public long forEachImageUrl(Consumer<String> consumer) {
+        long documents = 0;
+        documents += scan(HotelRepository.COLLECTION_NAME, consumer, "hotelImages", "googleMapScreenshot");
+        documents += scan("rooms", consumer, "roomImages");
+        documents += scan("users", consumer, "profilePhotoUrl");
+        return documents;
+    }
+
+    private long scan(String collection, Consumer<String> consumer, String... fields) {
+        try {
+            long documents = 0;
+            DocumentSnapshot last = null;
+            while (true) {
+                Query query = firestore.collection(collection)
+                        .select(fields)
+                        .orderBy(FieldPath.documentId())
+                        .limit(PAGE_SIZE);
+                if (last != null) {
+                    query = query.startAfter(last);
+                }
+                List<QueryDocumentSnapshot> page = query.get().get().getDocuments();
+                for (QueryDocumentSnapshot document : page) {
+                    for (String field : fields) {
+                        emit(document.get(field), consumer);
+                    }
+                }
+                documents += page.size();
+                if (page.size() < PAGE_SIZE) {
+                    log.debug("Read image references from {} {} documents", documents, collection);
+                    return documents;
+                }
+                last = page.get(page.size() - 1);
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error reading image references from {}: {}", collection, e.getMessage());
+            throw new HotelException("Failed to read image references from " + collection + ": " + e.getMessage());
+        }
+    }
+
+    private void emit(Object value, Consumer<String> consumer) {
+        if (value instanceof String url) {
+            consumer.accept(url);
+        } else if (value instanceof List<?> urls) {
+            for (Object url : urls) {
+                if (url instanceof String s) consumer.accept(s);
+            }
+        }
+    }
+}
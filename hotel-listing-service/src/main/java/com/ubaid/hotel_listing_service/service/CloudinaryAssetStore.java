@@ -0,0 +1,72 @@
+package com.ubaid.hotel_listing_service.service;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * {@link ImageAssetStore} backed by the Cloudinary Admin API. Set {@code image-gc.store}
+ * to another value and provide a different ImageAssetStore bean to stub it out locally.
+ */
+@Service
+@ConditionalOnProperty(name = "image-gc.store", havingValue = "cloudinary", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class CloudinaryAssetStore implements ImageAssetStore {
+
+    private final Cloudinary cloudinary;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public AssetPage list(String prefix, String cursor, int pageSize) throws IOException {
+        Map<String, Object> options = ObjectUtils.asMap(
+                "type", "upload",
+                "prefix", prefix,
+                "max_results", pageSize
+        );
+        if (cursor != null) {
+            options.put("next_cursor", cursor);
+        }
+
+        try {
+            Map<String, Object> response = cloudinary.api().resources(options);
+            List<Asset> assets = new ArrayList<>();
+            for (Map<String, Object> resource : (List<Map<String, Object>>) response.getOrDefault("resources", List.of())) {
+                Object bytes = resource.get("bytes");
+                Object createdAt = resource.get("created_at");
+                assets.add(new Asset(
+                        (String) resource.get("public_id"),
+                        bytes instanceof Number number ? number.longValue() : 0L,
+                        createdAt != null ? Instant.parse(createdAt.toString()) : null));
+            }
+            return new AssetPage(assets, (String) response.get("next_cursor"));
+        } catch (Exception e) {
+            log.error("Error listing Cloudinary assets under {}: {}", prefix, e.getMessage());
+            throw new IOException("Failed to list Cloudinary assets: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<String> delete(List<String> publicIds) throws IOException {
+        try {
+            Map<String, Object> response = cloudinary.api().deleteResources(publicIds, ObjectUtils.emptyMap());
+            Map<String, Object> results = (Map<String, Object>) response.getOrDefault("deleted", Map.of());
+            Set<String> deleted = new HashSet<>();
+            results.forEach((publicId, result) -> {
+                if ("deleted".equals(result)) deleted.add(publicId);
+            });
+            return deleted;
+        } catch (Exception e) {
+            log.error("Error deleting {} Cloudinary assets: {}", publicIds.size(), e.getMessage());
+            throw new IOException("Failed to delete Cloudinary assets: " + e.getMessage(), e);
+        }
+    }
+}
@@ -1,13 +1,27 @@
 package com.ubaid.hotel_listing_service.service;
 
 import com.cloudinary.Cloudinary;
+import com.cloudinary.Util;
 import com.cloudinary.utils.ObjectUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.HttpMultipartMode;
+import org.apache.http.entity.mime.MultipartEntityBuilder;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -18,9 +32,66 @@ import java.util.UUID;
 @Slf4j
 public class CloudinaryService {
 
-    private final Cloudinary cloudinary;
+    private static final TypeReference<Map<String, Object>> UPLOAD_RESULT = new TypeReference<>() {};
+
+    // Enough connections for every upload worker to stream at once; the client default is 2 per host
+    private static final int MAX_UPLOAD_CONNECTIONS = 32;
 
+    private final Cloudinary cloudinary;
+    private final ObjectMapper objectMapper;
+    private final CloseableHttpClient httpClient = HttpClients.custom()
+            .setMaxConnPerRoute(MAX_UPLOAD_CONNECTIONS)
+            .setMaxConnTotal(MAX_UPLOAD_CONNECTIONS)
+            .build();
+
+    /**
+     * Upload a multipart part straight from its own input stream. The SDK only streams
+     * {@code File} sources, so the signed request is sent here and the part is never
+     * read onto the heap or copied to a second file.
+     */
     public String uploadImage(MultipartFile file, String folder) throws IOException {
+        validateImage(file);
+
+        Map<String, Object> uploadOptions = uploadOptions(folder);
+        Map<String, Object> params = Util.buildUploadParams(uploadOptions);
+        cloudinary.signRequest(params, uploadOptions);
+
+        MultipartEntityBuilder multipart = MultipartEntityBuilder.create()
+                .setMode(HttpMultipartMode.BROWSER_COMPATIBLE);
+        ContentType text = ContentType.TEXT_PLAIN.withCharset(StandardCharsets.UTF_8);
+        params.forEach((name, value) -> {
+            if (value != null) {
+                multipart.addTextBody(name, value.toString(), text);
+            }
+        });
+
+        HttpPost post = new HttpPost(cloudinary.cloudinaryApiUrl("upload", uploadOptions));
+        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename() : "file";
+        try (InputStream content = file.getInputStream()) {
+            multipart.addBinaryBody("file", content, ContentType.APPLICATION_OCTET_STREAM, filename);
+            post.setEntity(multipart.build());
+            try (CloseableHttpResponse response = httpClient.execute(post)) {
+                Map<String, Object> uploadResult = objectMapper.readValue(response.getEntity().getContent(), UPLOAD_RESULT);
+                if (response.getStatusLine().getStatusCode() != 200 || uploadResult.get("secure_url") == null) {
+                    throw new IOException("Cloudinary responded " + response.getStatusLine().getStatusCode()
+                            + ": " + uploadResult.get("error"));
+                }
+                String imageUrl = uploadResult.get("secure_url").toString();
+                log.info("Image uploaded successfully to Cloudinary. Folder: {}, URL: {}", folder, imageUrl);
+                return imageUrl;
+            }
+        } catch (IOException e) {
+            log.error("Failed to upload image to Cloudinary. Folder: {}, Error: {}", folder, e.getMessage());
+            throw new IOException("Failed to upload image to Cloudinary: " + e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    void closeHttpClient() throws IOException {
+        httpClient.close();
+    }
+
+    public void validateImage(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("File cannot be null or empty");
         }
@@ -28,19 +99,42 @@ public class CloudinaryService {
         if (file.getSize() > 5 * 1024 * 1024) {
             throw new IllegalArgumentException("File size too large. Maximum allowed size is 5MB.");
         }
+    }
+
+    /**
+     * Upload a file that is already on local disk, e.g. one spooled for a background
+     * image job. The caller owns the file and deletes it afterwards.
+     */
+    public String uploadImage(Path file, String folder) throws IOException {
+        return upload(file.toFile(), folder);
+    }
+
+    /**
+     * Let Cloudinary fetch an image from a public http(s) URL, e.g. for a bulk import.
+     * The image never passes through this service.
+     */
+    public String uploadImageFromUrl(String imageUrl, String folder) throws IOException {
+        if (imageUrl == null || !(imageUrl.startsWith("https://") || imageUrl.startsWith("http://"))) {
+            throw new IllegalArgumentException("Image URL must be an http(s) URL: " + imageUrl);
+        }
+        return upload(imageUrl, folder);
+    }
 
+    private Map<String, Object> uploadOptions(String folder) {
         String publicId = folder + "/" + UUID.randomUUID().toString();
 
-        Map<String, Object> uploadOptions = ObjectUtils.asMap(
+        return ObjectUtils.asMap(
                 "public_id", publicId,
                 "folder", folder,
                 "resource_type", "image",
                 "quality", "auto:good",
                 "fetch_format", "auto"
         );
+    }
 
+    private String upload(Object source, String folder) throws IOException {
         try {
-            Map uploadResult = cloudinary.uploader().upload(file.getBytes(), uploadOptions);
+            Map uploadResult = cloudinary.uploader().upload(source, uploadOptions(folder));
             String imageUrl = uploadResult.get("secure_url").toString();
             log.info("Image uploaded successfully to Cloudinary. Folder: {}, URL: {}", folder, imageUrl);
             return imageUrl;
@@ -83,7 +177,7 @@ public class CloudinaryService {
         }
     }
 
-    private String extractPublicIdFromUrl(String imageUrl) {
+    public String extractPublicIdFromUrl(String imageUrl) {
         try {
             String[] urlParts = imageUrl.split("/");
             if (urlParts.length < 8) {
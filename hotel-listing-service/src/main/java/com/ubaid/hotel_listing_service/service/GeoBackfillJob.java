@@ -0,0 +1,70 @@
+package com.ubaid.hotel_listing_service.service;
+
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.index.GeoPoint;
+import com.ubaid.hotel_listing_service.repository.HotelRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fills in latitude/longitude for hotels saved before coordinates were extracted
+ * from their location links. Runs once in the background after startup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GeoBackfillJob {
+
+    private final HotelRepository hotelRepository;
+
+    @Value("${hotel-geo.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        Thread thread = new Thread(this::backfill, "hotel-geo-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public int backfill() {
+        try {
+            List<Hotel> hotels = hotelRepository.findAll();
+            Map<String, GeoPoint> updates = new HashMap<>();
+            int unresolved = 0;
+
+            for (Hotel hotel : hotels) {
+                if (hotel.getLatitude() != null && hotel.getLongitude() != null) {
+                    continue;
+                }
+                GeoPoint point = GeoPoint.fromLocationLink(hotel.getLocationLink());
+                if (point != null) {
+                    updates.put(hotel.getHotelId(), point);
+                } else {
+                    unresolved++;
+                }
+            }
+
+            if (!updates.isEmpty()) {
+                hotelRepository.updateCoordinates(updates);
+            }
+            log.info("Geo backfill complete: {} hotels updated, {} without usable location links",
+                    updates.size(), unresolved);
+            return updates.size();
+        } catch (Exception e) {
+            log.error("Geo backfill failed: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.ubaid.hotel_listing_service.service;
+
+import com.ubaid.hotel_listing_service.dto.HotelChangeDTO;
+import com.ubaid.hotel_listing_service.dto.HotelChangePage;
+import com.ubaid.hotel_listing_service.exception.HotelException;
+import com.ubaid.hotel_listing_service.index.HotelChangeFeed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes {@link HotelChangeFeed} entries to Server-Sent Events subscribers and
+ * completes waiting long polls.
+ *
+ * The feed's buffer is the only queue: a change only wakes subscribers, and each one
+ * reads onward from its own cursor on the sender pool. A subscriber is drained by at
+ * most one task at a time, and the pool grows past sender-threads when its threads are
+ * blocked on slow sockets, so a slow client holds back nobody else. A subscriber whose
+ * send has been blocked for send-timeout-seconds is dropped; its thread is released
+ * when the container's write timeout fails the write. Heartbeats go through the same
+ * per-subscriber task.
+ *
+ * A subscriber that falls behind the buffer gets a {@code reset} event and continues
+ * from the end of the feed. Event ids are {@code epoch:sequence}, so a reconnecting
+ * EventSource resumes through Last-Event-ID. Epoch and sequence belong to this
+ * instance: behind a load balancer, a client that reconnects or polls on another
+ * instance gets a reset, so change-feed routes need session affinity to resume
+ * without reloading.
+ */
+@Service
+@Slf4j
+public class HotelChangeService {
+
+    private static final int READ_BATCH = 500;
+
+    private final HotelChangeFeed hotelChangeFeed;
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeats;
+    private final int maxSubscribers;
+    private final long sseTimeoutMillis;
+    private final long heartbeatSeconds;
+    private final long sendTimeoutMillis;
+    private final int maxPollSeconds;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean waitersScheduled = new AtomicBoolean();
+
+    public HotelChangeService(HotelChangeFeed hotelChangeFeed,
+                              @Value("${hotel-changes.sender-threads:4}") int senderThreads,
+                              @Value("${hotel-changes.max-subscribers:500}") int maxSubscribers,
+                              @Value("${hotel-changes.sse-timeout-minutes:30}") long sseTimeoutMinutes,
+                              @Value("${hotel-changes.heartbeat-seconds:15}") long heartbeatSeconds,
+                              @Value("${hotel-changes.send-timeout-seconds:10}") long sendTimeoutSeconds,
+                              @Value("${hotel-changes.max-poll-seconds:25}") int maxPollSeconds) {
+        this.hotelChangeFeed = hotelChangeFeed;
+        this.maxSubscribers = maxSubscribers;
+        this.sseTimeoutMillis = TimeUnit.MINUTES.toMillis(sseTimeoutMinutes);
+        this.heartbeatSeconds = Math.max(1, heartbeatSeconds);
+        this.sendTimeoutMillis = TimeUnit.SECONDS.toMillis(Math.max(1, sendTimeoutSeconds));
+        this.maxPollSeconds = Math.max(1, maxPollSeconds);
+        AtomicInteger threadNumber = new AtomicInteger();
+        // One task per subscriber at most, plus the waiter sweep, so the pool never
+        // needs more threads than that; extra threads only exist while others block
+        int coreThreads = Math.max(1, senderThreads);
+        this.senders = new ThreadPoolExecutor(coreThreads, Math.max(coreThreads, maxSubscribers + 1),
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "hotel-changes-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hotel-changes-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        hotelChangeFeed.addSignalListener(this::signal);
+        heartbeats.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        heartbeats.scheduleWithFixedDelay(this::dropStalledSubscribers, 1, 1, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * Open a change stream. Resumes after {@code lastEventId} ({@code epoch:sequence})
+     * or after {@code since} in {@code epoch}; with neither it starts at the end of the
+     * feed.
+     */
+    public SseEmitter subscribe(String lastEventId, String epoch, Long since) {
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            int separator = lastEventId.lastIndexOf(':');
+            try {
+                epoch = separator > 0 ? lastEventId.substring(0, separator) : null;
+                since = Long.parseLong(lastEventId.substring(separator + 1));
+            } catch (NumberFormatException e) {
+                throw new HotelException("Invalid Last-Event-ID: " + lastEventId);
+            }
+        }
+        reserveSlot();
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, epoch, since);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        subscriber.schedule();
+        return emitter;
+    }
+
+    /**
+     * Changes after {@code since}, returned as soon as there is at least one, or an
+     * empty page once the timeout passes.
+     */
+    public CompletableFuture<HotelChangePage> poll(String epoch, Long since, int timeoutSeconds) {
+        HotelChangePage page = hotelChangeFeed.read(epoch, since, READ_BATCH);
+        if (since == null || page.isReset() || !page.getChanges().isEmpty()) {
+            return CompletableFuture.completedFuture(page);
+        }
+        reserveSlot();
+
+        CompletableFuture<HotelChangePage> result = new CompletableFuture<>();
+        Waiter waiter = new Waiter(result, epoch, since);
+        waiters.add(waiter);
+        result.whenComplete((completed, error) -> waiters.remove(waiter));
+        result.completeOnTimeout(page, Math.min(Math.max(timeoutSeconds, 1), maxPollSeconds), TimeUnit.SECONDS);
+        // A change recorded before the waiter was queued did not signal it
+        waiter.tryComplete();
+        return result;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size() + waiters.size();
+    }
+
+    private void reserveSlot() {
+        if (subscriberCount() >= maxSubscribers) {
+            throw new HotelException("Too many change subscribers, please try again later");
+        }
+    }
+
+    /**
+     * Called by the feed under the catalog's write lock; only schedules work.
+     */
+    private void signal() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.schedule();
+        }
+        if (!waiters.isEmpty() && waitersScheduled.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> {
+                    waitersScheduled.set(false);
+                    waiters.forEach(Waiter::tryComplete);
+                });
+            } catch (RejectedExecutionException e) {
+                waitersScheduled.set(false); // Waiters still time out with an empty page
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            subscriber.schedule();
+        }
+    }
+
+    private void dropStalledSubscribers() {
+        long now = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers) {
+            long sendingSince = subscriber.sendingSince;
+            if (sendingSince > 0 && now - sendingSince > sendTimeoutMillis) {
+                subscriber.close(new IOException("Send blocked for more than " + sendTimeoutMillis + " ms"));
+            }
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        // Set while a drain task is queued or running, so there is never more than one
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean pending;
+        private volatile boolean heartbeatDue;
+        private volatile long sendingSince; // 0 when no send is in progress
+        private String epoch; // Only touched by the drain task, like cursor
+        private Long cursor;
+        private boolean started;
+
+        private Subscriber(SseEmitter emitter, String epoch, Long cursor) {
+            this.emitter = emitter;
+            this.epoch = epoch;
+            this.cursor = cursor;
+        }
+
+        private void schedule() {
+            pending = true;
+            if (subscribers.contains(this) && scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    pending = false;
+                    drainOnce();
+                    scheduled.set(false);
+                    // Work signalled while draining is picked up here rather than by a second task
+                } while (pending && subscribers.contains(this) && scheduled.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                scheduled.set(false);
+                close(e);
+            } catch (RuntimeException e) {
+                scheduled.set(false);
+                log.warn("Hotel change subscriber failed: {}", e.getMessage());
+                close(e);
+            }
+        }
+
+        private void drainOnce() throws IOException {
+            boolean sent = false;
+            HotelChangePage page;
+            do {
+                page = hotelChangeFeed.read(epoch, cursor, READ_BATCH);
+                String currentEpoch = page.getEpoch();
+                if (!started || page.isReset()) {
+                    // Tells the client where it stands; reset means drop cached hotels
+                    send(SseEmitter.event()
+                            .name(page.isReset() ? "reset" : "ready")
+                            .id(currentEpoch + ":" + page.getNextSequence())
+                            .data(page, MediaType.APPLICATION_JSON));
+                    started = true;
+                    sent = true;
+                }
+                for (HotelChangeDTO change : page.getChanges()) {
+                    send(SseEmitter.event()
+                            .name("change")
+                            .id(currentEpoch + ":" + change.getSequence())
+                            .data(change, MediaType.APPLICATION_JSON));
+                    sent = true;
+                }
+                epoch = currentEpoch;
+                cursor = page.getNextSequence();
+            } while (page.getChanges().size() == READ_BATCH);
+
+            if (heartbeatDue) {
+                heartbeatDue = false;
+                if (!sent) {
+                    // A comment line keeps proxies from closing an idle stream
+                    send(SseEmitter.event().comment("keepalive"));
+                }
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            sendingSince = System.currentTimeMillis();
+            try {
+                emitter.send(event);
+            } finally {
+                sendingSince = 0;
+            }
+        }
+
+        private void close(Exception e) {
+            if (subscribers.remove(this)) {
+                log.debug("Hotel change subscriber disconnected: {}", e.getMessage());
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private final class Waiter {
+        private final CompletableFuture<HotelChangePage> result;
+        private final String epoch;
+        private final long since;
+
+        private Waiter(CompletableFuture<HotelChangePage> result, String epoch, long since) {
+            this.result = result;
+            this.epoch = epoch;
+            this.since = since;
+        }
+
+        private void tryComplete() {
+            HotelChangePage page = hotelChangeFeed.read(epoch, since, READ_BATCH);
+            if (page.isReset() || !page.getChanges().isEmpty()) {
+                result.complete(page);
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.ubaid.hotel_listing_service.service;
+
+import com.ubaid.hotel_listing_service.client.BookingServiceInternalClient;
+import com.ubaid.hotel_listing_service.client.RoomServiceInternalClient;
+import com.ubaid.hotel_listing_service.dto.ApiResponse;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.entity.HotelDeletion;
+import com.ubaid.hotel_listing_service.exception.HotelException;
+import com.ubaid.hotel_listing_service.repository.HotelDeletionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Removes what belongs to a deleted hotel after the owner's request has returned.
+ *
+ * Deleting a hotel only writes a tombstone and drops the hotel document in the same
+ * batch, so reads stop seeing it at once. This saga then purges, a batch of rooms at a
+ * time, the availability ledgers in booking-service and the rooms (with their images)
+ * in room-listing-service, and finally the hotel's own images. Progress is saved on
+ * the tombstone after every step. Steps are idempotent: a failed step is retried with
+ * backoff, and unfinished deletions resume after a restart.
+ *
+ * Every instance looks for unfinished deletions at startup and then every
+ * resume-interval-minutes, so a run has to claim the tombstone's lease first (a
+ * Firestore transaction). Progress saves renew the lease and fail once another
+ * instance holds it; a failed step releases it until its retry. A deletion whose
+ * instance died is taken over after lease-seconds.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HotelDeletionSaga {
+
+    private final HotelDeletionRepository hotelDeletionRepository;
+    private final RoomServiceInternalClient roomServiceClient;
+    private final BookingServiceInternalClient bookingServiceClient;
+    private final CloudinaryService cloudinaryService;
+
+    @Value("${hotel-deletion.room-batch-size:100}")
+    private int roomBatchSize;
+
+    @Value("${hotel-deletion.max-retry-delay-minutes:30}")
+    private long maxRetryDelayMinutes;
+
+    @Value("${hotel-deletion.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${hotel-deletion.resume-interval-minutes:10}")
+    private long resumeIntervalMinutes;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "hotel-deletion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Hotels with a run queued or retry scheduled on this instance
+    private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Tombstone the hotel and start removing its dependents in the background.
+     */
+    public HotelDeletion begin(Hotel hotel) {
+        List<String> imageUrls = new ArrayList<>();
+        if (hotel.getHotelImages() != null) imageUrls.addAll(hotel.getHotelImages());
+        if (hotel.getGoogleMapScreenshot() != null) imageUrls.add(hotel.getGoogleMapScreenshot());
+
+        LocalDateTime now = LocalDateTime.now();
+        HotelDeletion deletion = HotelDeletion.builder()
+                .hotelId(hotel.getHotelId())
+                .userId(hotel.getUserId())
+                .hotelName(hotel.getHotelName())
+                .imageUrls(imageUrls)
+                .state(HotelDeletion.State.PURGING_ROOMS)
+                .roomsDeleted(0)
+                .imagesDeleted(0)
+                .attempts(0)
+                .leaseOwner(instanceId)
+                .leaseExpiresAt(now.plus(lease()))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        hotelDeletionRepository.tombstone(deletion);
+        schedule(deletion.getHotelId(), 0);
+        return deletion;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        executor.scheduleWithFixedDelay(this::resumeScan, 0, Math.max(1, resumeIntervalMinutes), TimeUnit.MINUTES);
+    }
+
+    private void resumeScan() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int resumed = 0;
+            for (HotelDeletion deletion : hotelDeletionRepository.findUnfinished()) {
+                boolean leased = deletion.getLeaseOwner() != null && deletion.getLeaseExpiresAt() != null
+                        && deletion.getLeaseExpiresAt().isAfter(now);
+                if (!leased && schedule(deletion.getHotelId(), 0)) {
+                    resumed++;
+                }
+            }
+            if (resumed > 0) {
+                log.info("Resuming {} unfinished hotel deletions", resumed);
+            }
+        } catch (Exception e) {
+            log.error("Could not resume unfinished hotel deletions: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private boolean schedule(String hotelId, long delayMinutes) {
+        if (!scheduled.add(hotelId)) {
+            return false;
+        }
+        executor.schedule(() -> run(hotelId), delayMinutes, TimeUnit.MINUTES);
+        return true;
+    }
+
+    private void run(String hotelId) {
+        HotelDeletion deletion;
+        try {
+            Optional<HotelDeletion> claimed = hotelDeletionRepository.claim(hotelId, instanceId, lease());
+            if (claimed.isEmpty()) {
+                scheduled.remove(hotelId);
+                log.debug("Hotel {} deletion is finished or run by another instance", hotelId);
+                return;
+            }
+            deletion = claimed.get();
+        } catch (Exception e) {
+            log.warn("Could not claim hotel {} deletion, retrying in 1 min: {}", hotelId, e.getMessage());
+            executor.schedule(() -> run(hotelId), 1, TimeUnit.MINUTES);
+            return;
+        }
+
+        try {
+            if (deletion.getState() == HotelDeletion.State.PURGING_ROOMS) {
+                purgeRooms(deletion);
+                advance(deletion, HotelDeletion.State.DELETING_IMAGES);
+            }
+            if (deletion.getState() == HotelDeletion.State.DELETING_IMAGES) {
+                deleteImages(deletion);
+                advance(deletion, HotelDeletion.State.COMPLETED);
+            }
+            scheduled.remove(deletion.getHotelId());
+            log.info("Hotel {} deletion completed: {} rooms and {} images removed",
+                    deletion.getHotelId(), deletion.getRoomsDeleted(), deletion.getImagesDeleted());
+        } catch (Exception e) {
+            int attempts = deletion.getAttempts() + 1;
+            deletion.setAttempts(attempts);
+            deletion.setLastError(e.getMessage());
+            deletion.setUpdatedAt(LocalDateTime.now());
+            try {
+                // Released until the retry, which claims it again
+                hotelDeletionRepository.save(deletion, null);
+            } catch (Exception saveError) {
+                log.warn("Could not record failed deletion step for hotel {}: {}", deletion.getHotelId(), saveError.getMessage());
+            }
+            long delay = Math.min(maxRetryDelayMinutes, 1L << Math.min(attempts - 1, 10));
+            log.warn("Hotel {} deletion step {} failed (attempt {}), retrying in {} min: {}",
+                    deletion.getHotelId(), deletion.getState(), attempts, delay, e.getMessage());
+            executor.schedule(() -> run(hotelId), delay, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Ledgers go before rooms: while a room still exists, a retry can find its id again.
+     */
+    private void purgeRooms(HotelDeletion deletion) {
+        String hotelId = deletion.getHotelId();
+        while (true) {
+            List<String> roomIds = dataOf(roomServiceClient.getRoomIdsOfDeletedHotel(hotelId, roomBatchSize));
+            // An empty batch still clears hotel-level ledgers such as extra beds
+            dataOf(bookingServiceClient.purgeAvailabilityOfDeletedHotel(hotelId, roomIds));
+            if (roomIds.isEmpty()) {
+                return;
+            }
+
+            int deleted = dataOf(roomServiceClient.purgeRoomsOfDeletedHotel(hotelId, roomIds));
+            if (deleted == 0) {
+                throw new HotelException("Room service deleted none of " + roomIds.size() + " rooms");
+            }
+            deletion.setRoomsDeleted(deletion.getRoomsDeleted() + deleted);
+            deletion.setUpdatedAt(LocalDateTime.now());
+            hotelDeletionRepository.save(deletion, lease());
+        }
+    }
+
+    private void deleteImages(HotelDeletion deletion) {
+        for (String imageUrl : new ArrayList<>(deletion.getImageUrls())) {
+            if (cloudinaryService.deleteImage(imageUrl)) {
+                deletion.setImagesDeleted(deletion.getImagesDeleted() + 1);
+            } else {
+                // Not retried; the orphan image collector picks up anything left behind
+                log.warn("Could not delete image {} of deleted hotel {}", imageUrl, deletion.getHotelId());
+            }
+            deletion.getImageUrls().remove(imageUrl);
+        }
+    }
+
+    private void advance(HotelDeletion deletion, HotelDeletion.State state) {
+        deletion.setState(state);
+        deletion.setAttempts(0);
+        deletion.setLastError(null);
+        deletion.setUpdatedAt(LocalDateTime.now());
+        // A finished deletion needs no lease
+        hotelDeletionRepository.save(deletion, state == HotelDeletion.State.COMPLETED ? null : lease());
+    }
+
+    private Duration lease() {
+        return Duration.ofSeconds(leaseSeconds);
+    }
+
+    private static <T> T dataOf(ApiResponse<T> response) {
+        if (response == null || !response.isSuccess() || response.getData() == null) {
+            throw new HotelException(response != null ? response.getMessage() : "Empty response");
+        }
+        return response.getData();
+    }
+}
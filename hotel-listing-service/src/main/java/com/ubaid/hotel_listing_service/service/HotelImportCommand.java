@@ -0,0 +1,84 @@
+package com.ubaid.hotel_listing_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ubaid.hotel_listing_service.dto.HotelImportReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Runs one import from a local file and exits, for loading data without going through
+ * the HTTP endpoint:
+ *
+ * <pre>
+ * java -jar hotel-listing-service.jar --spring.main.web-application-type=none \
+ *     --hotel-import.file=hotels.ndjson --hotel-import.user-id=OWNER_ID [--hotel-import.dry-run=true]
+ * </pre>
+ *
+ * A {@code .csv} file is read as CSV, anything else as NDJSON. The report is written to
+ * {@code hotel-import.report-file} if set, otherwise to the log. The exit code is 0
+ * only if every row was imported.
+ */
+@Component
+@ConditionalOnProperty(name = "hotel-import.file")
+@RequiredArgsConstructor
+@Slf4j
+public class HotelImportCommand implements ApplicationRunner {
+
+    private final HotelImportService hotelImportService;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${hotel-import.file}")
+    private String file;
+
+    @Value("${hotel-import.user-id:}")
+    private String userId;
+
+    @Value("${hotel-import.dry-run:false}")
+    private boolean dryRun;
+
+    @Value("${hotel-import.report-file:}")
+    private String reportFile;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode;
+        try {
+            if (userId.isBlank()) {
+                throw new IllegalArgumentException("hotel-import.user-id is required");
+            }
+            Path path = Paths.get(file);
+            HotelImportReport report;
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                report = hotelImportService.importHotels(userId, reader,
+                        HotelImportParser.Format.fromFileName(path.getFileName().toString()), dryRun);
+            }
+            String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+            if (reportFile.isBlank()) {
+                log.info("Import report:\n{}", json);
+            } else {
+                Files.writeString(Paths.get(reportFile), json);
+                log.info("Import report written to {}", reportFile);
+            }
+            exitCode = report.getFailed() == 0 ? 0 : 1;
+        } catch (Exception e) {
+            log.error("Hotel import from {} failed: {}", file, e.getMessage());
+            exitCode = 2;
+        }
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+}
@@ -0,0 +1,266 @@
+package com.ubaid.hotel_listing_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ubaid.hotel_listing_service.dto.HotelImportRow;
+import com.ubaid.hotel_listing_service.exception.HotelException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads import rows one at a time, so a file of any size is never held in memory.
+ *
+ * NDJSON has one create request per line, with {@code imageUrls} and
+ * {@code googleMapScreenshotUrl} for the images. CSV has a header row naming the same
+ * fields; {@code imageUrls} and {@code amenities} hold {@code |}-separated values and
+ * {@code descriptions} holds {@code title::text} pairs separated by {@code |}. A row
+ * that cannot be parsed is reported to the handler with an error and reading goes on.
+ * A line or CSV record longer than {@code maxRecordChars}, e.g. a quoted field that is
+ * never closed, is reported the same way but ends the read, since the next record
+ * boundary cannot be trusted.
+ */
+final class HotelImportParser {
+
+    enum Format {
+        NDJSON, CSV;
+
+        static Format fromContentType(String contentType) {
+            return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("text/csv") ? CSV : NDJSON;
+        }
+
+        static Format fromFileName(String fileName) {
+            return fileName.toLowerCase(Locale.ROOT).endsWith(".csv") ? CSV : NDJSON;
+        }
+    }
+
+    @FunctionalInterface
+    interface RowHandler {
+        /**
+         * Exactly one of row and parseError is set. May block to slow the reader down.
+         * Returns false to stop reading.
+         */
+        boolean accept(int rowNumber, HotelImportRow row, String parseError) throws InterruptedException;
+    }
+
+    /**
+     * A line or record over the length limit; the rest of the input is not read.
+     */
+    static final class RecordTooLongException extends IOException {
+        RecordTooLongException(int maxRecordChars) {
+            super("Record exceeds " + maxRecordChars + " characters; the rest of the file was not read");
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final int maxRecordChars;
+
+    HotelImportParser(ObjectMapper objectMapper, int maxRecordChars) {
+        this.objectMapper = objectMapper;
+        this.maxRecordChars = maxRecordChars;
+    }
+
+    /**
+     * Hand rows to the handler in file order until the input ends or the handler asks to
+     * stop, and return the number of rows read.
+     */
+    int parse(BufferedReader reader, Format format, RowHandler handler) throws IOException, InterruptedException {
+        return format == Format.CSV ? parseCsv(reader, handler) : parseNdjson(reader, handler);
+    }
+
+    private int parseNdjson(BufferedReader reader, RowHandler handler) throws IOException, InterruptedException {
+        int rowNumber = 0;
+        while (true) {
+            String line;
+            try {
+                line = readLine(reader, maxRecordChars);
+            } catch (RecordTooLongException e) {
+                handler.accept(rowNumber + 1, null, e.getMessage());
+                return rowNumber + 1;
+            }
+            if (line == null) {
+                return rowNumber;
+            }
+            if (line.isBlank()) continue;
+            rowNumber++;
+            boolean more;
+            try {
+                more = handler.accept(rowNumber, objectMapper.readValue(line, HotelImportRow.class), null);
+            } catch (JsonProcessingException e) {
+                more = handler.accept(rowNumber, null, "Invalid JSON: " + e.getOriginalMessage());
+            }
+            if (!more) {
+                return rowNumber;
+            }
+        }
+    }
+
+    private int parseCsv(BufferedReader reader, RowHandler handler) throws IOException, InterruptedException {
+        List<String> header = readCsvRecord(reader, maxRecordChars);
+        if (header == null) {
+            return 0;
+        }
+        header.replaceAll(String::trim);
+        if (!header.contains("hotelName")) {
+            throw new HotelException("CSV header must name the hotel fields, e.g. hotelName,hotelLocation,...");
+        }
+
+        int rowNumber = 0;
+        while (true) {
+            List<String> record;
+            try {
+                record = readCsvRecord(reader, maxRecordChars);
+            } catch (RecordTooLongException e) {
+                handler.accept(rowNumber + 1, null, e.getMessage());
+                return rowNumber + 1;
+            }
+            if (record == null) {
+                return rowNumber;
+            }
+            if (record.size() == 1 && record.get(0).isBlank()) continue;
+            rowNumber++;
+            boolean more;
+            if (record.size() > header.size()) {
+                more = handler.accept(rowNumber, null, "Row has " + record.size() + " columns, header has " + header.size());
+            } else {
+                try {
+                    more = handler.accept(rowNumber, objectMapper.treeToValue(toJson(header, record), HotelImportRow.class), null);
+                } catch (JsonProcessingException e) {
+                    more = handler.accept(rowNumber, null, "Invalid value: " + e.getOriginalMessage());
+                }
+            }
+            if (!more) {
+                return rowNumber;
+            }
+        }
+    }
+
+    /**
+     * Build the same JSON an NDJSON line would carry, so both formats bind alike.
+     * Empty cells are left out.
+     */
+    private ObjectNode toJson(List<String> header, List<String> record) {
+        ObjectNode node = objectMapper.createObjectNode();
+        for (int i = 0; i < record.size(); i++) {
+            String column = header.get(i);
+            String value = record.get(i).trim();
+            if (value.isEmpty()) continue;
+            switch (column) {
+                case "imageUrls" -> {
+                    ArrayNode urls = node.putArray(column);
+                    for (String url : splitList(value)) urls.add(url);
+                }
+                case "amenities" -> {
+                    ArrayNode amenities = node.putArray(column);
+                    for (String name : splitList(value)) {
+                        amenities.addObject().put("name", name).put("available", true);
+                    }
+                }
+                case "descriptions" -> {
+                    ArrayNode descriptions = node.putArray(column);
+                    for (String entry : splitList(value)) {
+                        int separator = entry.indexOf("::");
+                        ObjectNode description = descriptions.addObject();
+                        if (separator < 0) {
+                            description.put("description", entry);
+                        } else {
+                            description.put("title", entry.substring(0, separator).trim());
+                            description.put("description", entry.substring(separator + 2).trim());
+                        }
+                    }
+                }
+                default -> node.put(column, value);
+            }
+        }
+        return node;
+    }
+
+    private static List<String> splitList(String value) {
+        List<String> items = new ArrayList<>();
+        for (String item : value.split("\\|")) {
+            if (!item.isBlank()) items.add(item.trim());
+        }
+        return items;
+    }
+
+    /**
+     * Read one RFC 4180 record: fields separated by commas, optionally quoted, with
+     * {@code ""} for a quote inside a quoted field and line breaks allowed in quotes.
+     * Returns null at end of input and throws {@link RecordTooLongException} once the
+     * record passes {@code maxChars}.
+     */
+    static List<String> readCsvRecord(BufferedReader reader, int maxChars) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+        int chars = 0;
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (++chars > maxChars) {
+                throw new RecordTooLongException(maxChars);
+            }
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                    continue;
+                }
+                reader.mark(1);
+                if (reader.read() == '"') {
+                    field.append('"');
+                } else {
+                    reader.reset();
+                    quoted = false;
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Like {@link BufferedReader#readLine()}, but throws {@link RecordTooLongException}
+     * instead of buffering a line longer than {@code maxChars}.
+     */
+    static String readLine(BufferedReader reader, int maxChars) throws IOException {
+        StringBuilder line = new StringBuilder();
+        boolean read = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (c == '\n') {
+                break;
+            }
+            if (line.length() >= maxChars) {
+                throw new RecordTooLongException(maxChars);
+            }
+            line.append((char) c);
+        }
+        if (!read) {
+            return null;
+        }
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+}
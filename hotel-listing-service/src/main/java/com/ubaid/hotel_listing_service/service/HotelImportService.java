@@ -0,0 +1,266 @@
+package com.ubaid.hotel_listing_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.BulkWriter;
+import com.google.cloud.firestore.WriteResult;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.ubaid.hotel_listing_service.dto.HotelImportReport;
+import com.ubaid.hotel_listing_service.dto.HotelImportRow;
+import com.ubaid.hotel_listing_service.dto.HotelRequestDTO;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.exception.HotelException;
+import com.ubaid.hotel_listing_service.repository.HotelRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Loads many hotels for one owner from an NDJSON or CSV stream.
+ *
+ * The reader hands rows to a worker pool that validates them, has Cloudinary fetch
+ * their images through {@link ImageUploadExecutor} and queues the hotel on a Firestore
+ * {@link BulkWriter}. A row keeps its permit until its write has completed, so at most
+ * {@code max-in-flight-rows} rows are between the reader and Firestore; when uploads or
+ * writes fall behind, reading simply waits. A failed row does not stop the import: it
+ * is recorded in the report and the images it uploaded are deleted again.
+ */
+@Service
+@Slf4j
+public class HotelImportService {
+
+    private final HotelRepository hotelRepository;
+    private final ImageUploadExecutor imageUploadExecutor;
+    private final Validator validator;
+    private final HotelImportParser parser;
+    private final ExecutorService workers;
+    private final int maxInFlightRows;
+    private final int maxRows;
+    private final int maxReportedErrors;
+
+    public HotelImportService(HotelRepository hotelRepository,
+                              ImageUploadExecutor imageUploadExecutor,
+                              Validator validator,
+                              ObjectMapper objectMapper,
+                              @Value("${hotel-import.workers:8}") int workerCount,
+                              @Value("${hotel-import.max-in-flight-rows:500}") int maxInFlightRows,
+                              @Value("${hotel-import.max-rows:50000}") int maxRows,
+                              @Value("${hotel-import.max-reported-errors:1000}") int maxReportedErrors,
+                              @Value("${hotel-import.max-record-chars:262144}") int maxRecordChars) {
+        this.hotelRepository = hotelRepository;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.validator = validator;
+        this.parser = new HotelImportParser(objectMapper, maxRecordChars);
+        // BulkWriter sends full batches of 20; fewer permits could leave a partial batch waiting
+        this.maxInFlightRows = Math.max(50, maxInFlightRows);
+        this.maxRows = maxRows;
+        this.maxReportedErrors = maxReportedErrors;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, workerCount), runnable -> {
+            Thread thread = new Thread(runnable, "hotel-import-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    public HotelImportReport importHotels(String userId, BufferedReader reader, String contentType, boolean dryRun) {
+        return importHotels(userId, reader, HotelImportParser.Format.fromContentType(contentType), dryRun);
+    }
+
+    HotelImportReport importHotels(String userId, BufferedReader reader, HotelImportParser.Format format, boolean dryRun) {
+        long start = System.nanoTime();
+        Run run = new Run(userId, dryRun, dryRun ? null : hotelRepository.newBulkWriter());
+        try {
+            int totalRows = parser.parse(reader, format, (rowNumber, row, parseError) -> {
+                run.permits.acquire();
+                if (rowNumber > maxRows) {
+                    // One error for the whole remainder; the rest of the file is not read
+                    run.fail(rowNumber, null, "Import is limited to " + maxRows + " rows; the rest of the file was not read");
+                    return false;
+                }
+                run.processing.register();
+                workers.execute(() -> {
+                    try {
+                        process(run, rowNumber, row, parseError);
+                    } catch (RuntimeException e) {
+                        log.error("Unexpected error importing row {}: {}", rowNumber, e.getMessage(), e);
+                        run.fail(rowNumber, null, e.getMessage());
+                    } finally {
+                        run.processing.arriveAndDeregister();
+                    }
+                });
+                return true;
+            });
+
+            // Every row is now failed or queued; send the last partial batch and wait for all writes
+            run.processing.arriveAndAwaitAdvance();
+            if (run.writer != null) {
+                run.writer.flush();
+            }
+            run.permits.acquire(maxInFlightRows);
+
+            List<HotelImportReport.RowError> errors = new ArrayList<>(run.errors);
+            errors.sort(Comparator.comparingInt(HotelImportReport.RowError::getRow));
+            HotelImportReport report = HotelImportReport.builder()
+                    .totalRows(totalRows)
+                    .created(run.created.get())
+                    .failed(run.failed.get())
+                    .dryRun(dryRun)
+                    .durationMillis((System.nanoTime() - start) / 1_000_000)
+                    .errors(errors)
+                    .build();
+            log.info("Hotel import for user {}{}: {} rows, {} created, {} failed in {} ms", userId,
+                    dryRun ? " (dry run)" : "", totalRows, report.getCreated(), report.getFailed(), report.getDurationMillis());
+            return report;
+        } catch (IOException e) {
+            log.error("Error reading hotel import: {}", e.getMessage());
+            throw new HotelException("Failed to read import: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HotelException("Hotel import interrupted");
+        } finally {
+            if (run.writer != null) {
+                run.writer.close();
+            }
+        }
+    }
+
+    /**
+     * Validate, upload and queue one row. The permit is released here when the row
+     * fails early, otherwise once its write completes.
+     */
+    private void process(Run run, int rowNumber, HotelImportRow row, String parseError) {
+        String hotelName = row != null ? row.getHotel().getHotelName() : null;
+        if (parseError != null) {
+            run.fail(rowNumber, hotelName, parseError);
+            return;
+        }
+        Set<ConstraintViolation<HotelImportRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            run.fail(rowNumber, hotelName, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return;
+        }
+        if (run.dryRun) {
+            run.created.incrementAndGet();
+            run.permits.release();
+            return;
+        }
+
+        Hotel hotel = toHotel(run.userId, row.getHotel());
+        List<String> uploadedUrls;
+        try {
+            uploadedUrls = uploadImages(hotel, row);
+        } catch (IOException | RuntimeException e) {
+            run.fail(rowNumber, hotelName, e.getMessage());
+            return;
+        }
+
+        ApiFuture<WriteResult> write;
+        try {
+            write = hotelRepository.createAsync(run.writer, hotel);
+        } catch (RuntimeException e) {
+            imageUploadExecutor.rollback(uploadedUrls);
+            run.fail(rowNumber, hotelName, "Failed to save hotel: " + e.getMessage());
+            return;
+        }
+        ApiFutures.addCallback(write, new ApiFutureCallback<>() {
+            @Override
+            public void onSuccess(WriteResult result) {
+                run.created.incrementAndGet();
+                run.permits.release();
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                imageUploadExecutor.rollback(uploadedUrls);
+                run.fail(rowNumber, hotelName, "Failed to save hotel: " + t.getMessage());
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private List<String> uploadImages(Hotel hotel, HotelImportRow row) throws IOException {
+        List<ImageUploadExecutor.Upload> uploads = new ArrayList<>();
+        if (row.getImageUrls() != null) {
+            for (String url : row.getImageUrls()) {
+                uploads.add(ImageUploadExecutor.Upload.fromUrl(url, "hotels/" + hotel.getHotelId() + "/images"));
+            }
+        }
+        int imageCount = uploads.size();
+        boolean hasMap = row.getGoogleMapScreenshotUrl() != null && !row.getGoogleMapScreenshotUrl().isBlank();
+        if (hasMap) uploads.add(ImageUploadExecutor.Upload.fromUrl(row.getGoogleMapScreenshotUrl(), "hotels/" + hotel.getHotelId() + "/map"));
+
+        List<String> urls = imageUploadExecutor.uploadAll(uploads);
+        if (imageCount > 0) hotel.setHotelImages(new ArrayList<>(urls.subList(0, imageCount)));
+        if (hasMap) hotel.setGoogleMapScreenshot(urls.get(imageCount));
+        return urls;
+    }
+
+    private static Hotel toHotel(String userId, HotelRequestDTO hotelRequest) {
+        return Hotel.builder()
+                .hotelId(UUID.randomUUID().toString())
+                .userId(userId)
+                .hotelName(hotelRequest.getHotelName())
+                .rating(hotelRequest.getRating())
+                .hotelLocation(hotelRequest.getHotelLocation())
+                .locationLink(hotelRequest.getLocationLink())
+                .latitude(hotelRequest.getLatitude())
+                .longitude(hotelRequest.getLongitude())
+                .descriptions(hotelRequest.getDescriptions())
+                .amenities(hotelRequest.getAmenities())
+                .extraBeds(hotelRequest.getExtraBeds())
+                .perExtraBedPrice(hotelRequest.getPerExtraBedPrice())
+                .checkinTime(hotelRequest.getCheckinTime())
+                .checkoutTime(hotelRequest.getCheckoutTime())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * State of one import, shared by the reader, the workers and write callbacks.
+     */
+    private final class Run {
+        private final String userId;
+        private final boolean dryRun;
+        private final BulkWriter writer;
+        private final Semaphore permits = new Semaphore(maxInFlightRows);
+        private final Phaser processing = new Phaser(1);
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final Queue<HotelImportReport.RowError> errors = new ConcurrentLinkedQueue<>();
+
+        private Run(String userId, boolean dryRun, BulkWriter writer) {
+            this.userId = userId;
+            this.dryRun = dryRun;
+            this.writer = writer;
+        }
+
+        private void fail(int rowNumber, String hotelName, String message) {
+            if (failed.incrementAndGet() <= maxReportedErrors) {
+                errors.add(new HotelImportReport.RowError(rowNumber, hotelName, message));
+            }
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.ubaid.hotel_listing_service.service;
+
+import com.ubaid.hotel_listing_service.dto.HotelPageRequest;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.exception.HotelException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Sorting and keyset pagination for hotel listings.
+ *
+ * A page is picked with a bounded heap of {@code limit} entries over the candidates that
+ * sort after the cursor, so only the returned page is ever fully sorted. The cursor
+ * carries the sort key and id of the last hotel on the page, which keeps paging stable
+ * while hotels are added or removed.
+ */
+final class HotelRanking {
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    private static final Comparator<String> NULLS_LAST_STRING = Comparator.nullsLast(Comparator.naturalOrder());
+
+    enum Sort {
+        RATING(Comparator.comparing(Hotel::getRating, Comparator.nullsLast(Comparator.<Double>reverseOrder()))),
+        NAME(Comparator.comparing((Hotel hotel) -> hotel.getHotelName() != null ? hotel.getHotelName().toLowerCase() : null,
+                NULLS_LAST_STRING)),
+        NEWEST(Comparator.comparing(Hotel::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder())));
+
+        // Hotel id breaks ties so that every hotel has exactly one position
+        private final Comparator<Hotel> comparator;
+
+        Sort(Comparator<Hotel> byKey) {
+            this.comparator = byKey.thenComparing(Hotel::getHotelId, NULLS_LAST_STRING);
+        }
+
+        static Sort from(String value) {
+            if (value == null || value.isBlank()) return NEWEST;
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new HotelException("Unsupported sort: " + value + " (use rating, name or newest)");
+            }
+        }
+    }
+
+    record Slice(List<Hotel> hotels, String nextCursor, int totalMatches) {
+    }
+
+    private HotelRanking() {
+    }
+
+    static Slice page(Collection<Hotel> candidates, HotelPageRequest request) {
+        Sort sort = Sort.from(request.getSort());
+        int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_LIMIT;
+        if (limit < 1 || limit > MAX_LIMIT) throw new HotelException("Limit must be between 1 and " + MAX_LIMIT);
+
+        Comparator<Hotel> order = sort.comparator;
+        Hotel after = request.getCursor() != null ? decodeCursor(request.getCursor(), sort) : null;
+
+        // Max-heap on the sort order: the head is the worst hotel kept so far
+        PriorityQueue<Hotel> heap = new PriorityQueue<>(limit + 1, order.reversed());
+        int remaining = 0;
+        for (Hotel hotel : candidates) {
+            if (after != null && order.compare(hotel, after) <= 0) continue;
+            remaining++;
+            if (heap.size() < limit) {
+                heap.add(hotel);
+            } else if (order.compare(hotel, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(hotel);
+            }
+        }
+
+        List<Hotel> page = new ArrayList<>(heap);
+        page.sort(order);
+        String nextCursor = remaining > page.size() ? encodeCursor(page.get(page.size() - 1), sort) : null;
+        return new Slice(page, nextCursor, candidates.size());
+    }
+
+    private static String encodeCursor(Hotel last, Sort sort) {
+        String key = switch (sort) {
+            case RATING -> last.getRating() != null ? last.getRating().toString() : "";
+            case NAME -> last.getHotelName() != null ? last.getHotelName() : "";
+            case NEWEST -> last.getCreatedAt() != null ? last.getCreatedAt().toString() : "";
+        };
+        String raw = sort.name() + "\n" + (last.getHotelId() != null ? last.getHotelId() : "") + "\n" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Hotel decodeCursor(String cursor, Sort sort) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\n", 3);
+        } catch (IllegalArgumentException e) {
+            throw new HotelException("Invalid cursor");
+        }
+        if (parts.length != 3) throw new HotelException("Invalid cursor");
+        if (!sort.name().equals(parts[0])) throw new HotelException("Cursor was issued for a different sort order");
+
+        Hotel position = new Hotel();
+        position.setHotelId(parts[1]);
+        String key = parts[2];
+        try {
+            switch (sort) {
+                case RATING -> position.setRating(key.isEmpty() ? null : Double.valueOf(key));
+                case NAME -> position.setHotelName(key.isEmpty() ? null : key);
+                case NEWEST -> position.setCreatedAt(key.isEmpty() ? null : LocalDateTime.parse(key));
+            }
+        } catch (RuntimeException e) {
+            throw new HotelException("Invalid cursor");
+        }
+        return position;
+    }
+}
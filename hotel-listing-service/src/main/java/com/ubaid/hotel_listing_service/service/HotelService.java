@@ -1,15 +1,39 @@
 package com.ubaid.hotel_listing_service.service;
 
+import com.ubaid.hotel_listing_service.dto.HotelBatchRequest;
+import com.ubaid.hotel_listing_service.dto.HotelBatchResponse;
+import com.ubaid.hotel_listing_service.dto.HotelDeletionDTO;
+import com.ubaid.hotel_listing_service.dto.HotelDistanceDTO;
+import com.ubaid.hotel_listing_service.dto.HotelOwnershipRequest;
+import com.ubaid.hotel_listing_service.dto.HotelOwnershipResponse;
+import com.ubaid.hotel_listing_service.dto.HotelPage;
+import com.ubaid.hotel_listing_service.dto.HotelPageRequest;
 import com.ubaid.hotel_listing_service.dto.HotelRequestDTO;
 import com.ubaid.hotel_listing_service.dto.HotelResponseDTO;
+import com.ubaid.hotel_listing_service.dto.ImageJobDTO;
+import com.ubaid.hotel_listing_service.dto.SuggestionDTO;
+import com.ubaid.hotel_listing_service.dto.TimeSlotResponse;
+import com.ubaid.hotel_listing_service.dto.VersionedHotel;
 import com.ubaid.hotel_listing_service.entity.Amenity;
 import com.ubaid.hotel_listing_service.entity.Hotel;
 import com.ubaid.hotel_listing_service.exception.HotelException;
+import com.ubaid.hotel_listing_service.index.GeoPoint;
+import com.ubaid.hotel_listing_service.index.HotelAmenityIndex;
+import com.ubaid.hotel_listing_service.index.HotelGeoIndex;
+import com.ubaid.hotel_listing_service.index.HotelLeaderboardIndex;
+import com.ubaid.hotel_listing_service.index.HotelOwnerIndex;
+import com.ubaid.hotel_listing_service.index.HotelSuggestIndex;
+import com.ubaid.hotel_listing_service.index.HotelSummaryCache;
+import com.ubaid.hotel_listing_service.index.HotelTimeIndex;
+import com.ubaid.hotel_listing_service.index.HotelVersionIndex;
+import com.ubaid.hotel_listing_service.repository.HotelCatalog;
+import com.ubaid.hotel_listing_service.repository.HotelDeletionRepository;
 import com.ubaid.hotel_listing_service.repository.HotelRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
@@ -21,13 +45,28 @@ import java.util.stream.Stream;
 @Slf4j
 public class HotelService {
     private final HotelRepository hotelRepository;
-    private final CloudinaryService cloudinaryService;
+    private final ImageUploadExecutor imageUploadExecutor;
+    private final ImageJobService imageJobService;
+    private final HotelDeletionSaga hotelDeletionSaga;
+    private final HotelDeletionRepository hotelDeletionRepository;
+    private final HotelSuggestIndex hotelSuggestIndex;
+    private final HotelGeoIndex hotelGeoIndex;
+    private final HotelLeaderboardIndex hotelLeaderboardIndex;
+    private final HotelAmenityIndex hotelAmenityIndex;
+    private final HotelTimeIndex hotelTimeIndex;
+    private final HotelSummaryCache hotelSummaryCache;
+    private final HotelVersionIndex hotelVersionIndex;
+    private final HotelOwnerIndex hotelOwnerIndex;
+    private final HotelCatalog hotelCatalog;
+
+    private static final int MAX_BATCH_IDS = 300;
 
     // ... [createHotel, getMyHotels, updateHotel, deleteHotel, getAllHotels, getHotelById remain unchanged] ...
 
     public HotelResponseDTO createHotel(String userId, HotelRequestDTO hotelRequest,
                                         List<MultipartFile> hotelImages,
-                                        MultipartFile googleMapScreenshot) {
+                                        MultipartFile googleMapScreenshot,
+                                        boolean asyncImages) {
         try {
             if (hotelImages != null && hotelImages.size() > 12) throw new HotelException("Maximum 12 hotel images are allowed");
             if (hotelRequest.getDescriptions() != null && hotelRequest.getDescriptions().size() > 5) throw new HotelException("Maximum 5 descriptions are allowed");
@@ -40,6 +79,8 @@ public class HotelService {
                     .rating(hotelRequest.getRating())
                     .hotelLocation(hotelRequest.getHotelLocation())
                     .locationLink(hotelRequest.getLocationLink())
+                    .latitude(hotelRequest.getLatitude())
+                    .longitude(hotelRequest.getLongitude())
                     .descriptions(hotelRequest.getDescriptions())
                     .amenities(hotelRequest.getAmenities())
                     .extraBeds(hotelRequest.getExtraBeds())
@@ -50,21 +91,12 @@ public class HotelService {
                     .updatedAt(LocalDateTime.now())
                     .build();
 
-            if (hotelImages != null && !hotelImages.isEmpty()) {
-                List<String> uploadedImageUrls = new ArrayList<>();
-                for (MultipartFile file : hotelImages) {
-                    if (!file.isEmpty()) {
-                        String imageUrl = cloudinaryService.uploadImage(file, "hotels/" + hotel.getHotelId() + "/images");
-                        uploadedImageUrls.add(imageUrl);
-                    }
-                }
-                hotel.setHotelImages(uploadedImageUrls);
-            }
-            if (googleMapScreenshot != null && !googleMapScreenshot.isEmpty()) {
-                String mapUrl = cloudinaryService.uploadImage(googleMapScreenshot, "hotels/" + hotel.getHotelId() + "/map");
-                hotel.setGoogleMapScreenshot(mapUrl);
+            if (asyncImages && hasAnyImage(hotelImages, googleMapScreenshot)) {
+                return createWithImageJob(userId, hotel, hotelImages, googleMapScreenshot);
             }
-            Hotel savedHotel = hotelRepository.save(hotel);
+
+            List<String> uploadedUrls = uploadHotelImages(hotel, hotelImages, googleMapScreenshot);
+            Hotel savedHotel = saveOrRollback(hotel, uploadedUrls);
             log.info("Hotel created successfully: {}", savedHotel.getHotelId());
             return convertToResponseDTO(savedHotel);
         } catch (Exception e) {
@@ -73,6 +105,66 @@ public class HotelService {
         }
     }
 
+    /**
+     * Upload the hotel images and map screenshot in parallel and set their URLs on the
+     * hotel. Returns every URL uploaded so the caller can roll back if saving fails.
+     */
+    private List<String> uploadHotelImages(Hotel hotel, List<MultipartFile> hotelImages,
+                                           MultipartFile googleMapScreenshot) throws IOException {
+        List<ImageUploadExecutor.Upload> uploads = new ArrayList<>();
+        if (hotelImages != null) {
+            for (MultipartFile file : hotelImages) {
+                if (!file.isEmpty()) uploads.add(new ImageUploadExecutor.Upload(file, "hotels/" + hotel.getHotelId() + "/images"));
+            }
+        }
+        int imageCount = uploads.size();
+        boolean hasMap = googleMapScreenshot != null && !googleMapScreenshot.isEmpty();
+        if (hasMap) uploads.add(new ImageUploadExecutor.Upload(googleMapScreenshot, "hotels/" + hotel.getHotelId() + "/map"));
+
+        List<String> urls = imageUploadExecutor.uploadAll(uploads);
+        if (hotelImages != null && !hotelImages.isEmpty()) hotel.setHotelImages(new ArrayList<>(urls.subList(0, imageCount)));
+        if (hasMap) hotel.setGoogleMapScreenshot(urls.get(imageCount));
+        return urls;
+    }
+
+    /**
+     * Save the hotel without images and hand the spooled files to a background job,
+     * which fills in hotelImages and googleMapScreenshot once the uploads finish.
+     */
+    private HotelResponseDTO createWithImageJob(String userId, Hotel hotel, List<MultipartFile> hotelImages,
+                                                MultipartFile googleMapScreenshot) throws IOException {
+        ImageJobService.ImageJob job = imageJobService.spool(userId, hotel.getHotelId(), hotelImages, googleMapScreenshot);
+        Hotel savedHotel;
+        try {
+            savedHotel = hotelRepository.save(hotel);
+        } catch (RuntimeException e) {
+            imageJobService.discard(job);
+            throw e;
+        }
+        HotelResponseDTO response = convertToResponseDTO(savedHotel);
+        response.setImageJob(imageJobService.start(job));
+        log.info("Hotel created successfully: {}, images uploading in job {}", savedHotel.getHotelId(), response.getImageJob().getJobId());
+        return response;
+    }
+
+    private static boolean hasAnyImage(List<MultipartFile> hotelImages, MultipartFile googleMapScreenshot) {
+        if (googleMapScreenshot != null && !googleMapScreenshot.isEmpty()) return true;
+        return hotelImages != null && hotelImages.stream().anyMatch(file -> !file.isEmpty());
+    }
+
+    public Optional<ImageJobDTO> findImageJob(String userId, String jobId) {
+        return imageJobService.find(userId, jobId);
+    }
+
+    private Hotel saveOrRollback(Hotel hotel, List<String> uploadedUrls) {
+        try {
+            return hotelRepository.save(hotel);
+        } catch (RuntimeException e) {
+            imageUploadExecutor.rollback(uploadedUrls);
+            throw e;
+        }
+    }
+
     public List<HotelResponseDTO> getMyHotels(String userId) {
         try {
             List<Hotel> hotels = hotelRepository.findByUserId(userId);
@@ -103,6 +195,9 @@ public class HotelService {
                 existingHotel.setRating(hotelRequest.getRating());
                 existingHotel.setHotelLocation(hotelRequest.getHotelLocation());
                 existingHotel.setLocationLink(hotelRequest.getLocationLink());
+                // Cleared coordinates are re-extracted from the link on save
+                existingHotel.setLatitude(hotelRequest.getLatitude());
+                existingHotel.setLongitude(hotelRequest.getLongitude());
                 if (hotelRequest.getDescriptions() != null) existingHotel.setDescriptions(hotelRequest.getDescriptions());
                 if (hotelRequest.getAmenities() != null) existingHotel.setAmenities(hotelRequest.getAmenities());
                 if (hotelRequest.getExtraBeds() != null) existingHotel.setExtraBeds(hotelRequest.getExtraBeds());
@@ -110,22 +205,9 @@ public class HotelService {
                 existingHotel.setCheckinTime(hotelRequest.getCheckinTime());
                 existingHotel.setCheckoutTime(hotelRequest.getCheckoutTime());
             }
-            if (hotelImages != null && !hotelImages.isEmpty()) {
-                List<String> uploadedImageUrls = new ArrayList<>();
-                for (MultipartFile file : hotelImages) {
-                    if (!file.isEmpty()) {
-                        String imageUrl = cloudinaryService.uploadImage(file, "hotels/" + existingHotel.getHotelId() + "/images");
-                        uploadedImageUrls.add(imageUrl);
-                    }
-                }
-                existingHotel.setHotelImages(uploadedImageUrls);
-            }
-            if (googleMapScreenshot != null && !googleMapScreenshot.isEmpty()) {
-                String mapUrl = cloudinaryService.uploadImage(googleMapScreenshot, "hotels/" + existingHotel.getHotelId() + "/map");
-                existingHotel.setGoogleMapScreenshot(mapUrl);
-            }
+            List<String> uploadedUrls = uploadHotelImages(existingHotel, hotelImages, googleMapScreenshot);
             existingHotel.setUpdatedAt(LocalDateTime.now());
-            Hotel updatedHotel = hotelRepository.save(existingHotel);
+            Hotel updatedHotel = saveOrRollback(existingHotel, uploadedUrls);
             return convertToResponseDTO(updatedHotel);
         } catch (Exception e) {
             log.error("Error updating hotel {}: {}", hotelId, e.getMessage());
@@ -137,40 +219,132 @@ public class HotelService {
         try {
             Hotel hotel = hotelRepository.findById(hotelId).orElseThrow(() -> new HotelException("Hotel not found"));
             if (!hotel.getUserId().equals(userId)) throw new HotelException("Unauthorized: You can only delete your own hotels");
-            hotelRepository.delete(hotel);
-            log.info("Hotel deleted successfully: {}", hotelId);
+            hotelDeletionSaga.begin(hotel);
+            log.info("Hotel deleted: {}, removing its rooms, availability and images in the background", hotelId);
         } catch (Exception e) {
             log.error("Error deleting hotel {}: {}", hotelId, e.getMessage());
             throw new HotelException("Failed to delete hotel: " + e.getMessage());
         }
     }
 
-    public List<HotelResponseDTO> getAllHotels() {
+    public Optional<HotelDeletionDTO> findHotelDeletion(String hotelId) {
+        try {
+            return hotelDeletionRepository.findById(hotelId).map(deletion -> HotelDeletionDTO.builder()
+                    .hotelId(deletion.getHotelId())
+                    .hotelName(deletion.getHotelName())
+                    .state(deletion.getState())
+                    .roomsDeleted(deletion.getRoomsDeleted())
+                    .imagesDeleted(deletion.getImagesDeleted())
+                    .imagesRemaining(deletion.getImageUrls().size())
+                    .attempts(deletion.getAttempts())
+                    .lastError(deletion.getLastError())
+                    .createdAt(deletion.getCreatedAt())
+                    .updatedAt(deletion.getUpdatedAt())
+                    .build());
+        } catch (Exception e) {
+            log.error("Error retrieving deletion of hotel {}: {}", hotelId, e.getMessage());
+            throw new HotelException("Failed to retrieve hotel deletion: " + e.getMessage());
+        }
+    }
+
+    public HotelPage<Object> getAllHotels(HotelPageRequest pageRequest) {
         try {
             List<Hotel> hotels = hotelRepository.findAll();
-            return hotels.stream().map(this::convertToResponseDTO).collect(Collectors.toList());
+            return toPage(hotels, pageRequest);
         } catch (Exception e) {
             log.error("Error retrieving all hotels: {}", e.getMessage());
             throw new HotelException("Failed to retrieve all hotels: " + e.getMessage());
         }
     }
 
-    public HotelResponseDTO getHotelById(String hotelId) {
+    public VersionedHotel getVersionedHotelById(String hotelId) {
         try {
             Hotel hotel = hotelRepository.findById(hotelId).orElseThrow(() -> new HotelException("Hotel not found"));
-            return convertToResponseDTO(hotel);
+            HotelVersionIndex.Version version = hotelVersionIndex.versionOf(hotel);
+            return new VersionedHotel(convertToResponseDTO(hotel), version.etag(), version.lastModified());
         } catch (Exception e) {
             log.error("Error retrieving hotel {}: {}", hotelId, e.getMessage());
             throw new HotelException("Failed to retrieve hotel: " + e.getMessage());
         }
     }
 
+    public HotelBatchResponse getHotelsByIds(HotelBatchRequest batchRequest) {
+        List<String> hotelIds = batchRequest.getHotelIds();
+        if (hotelIds == null || hotelIds.isEmpty()) throw new HotelException("At least one hotel ID is required");
+        if (hotelIds.size() > MAX_BATCH_IDS) throw new HotelException("A batch can contain at most " + MAX_BATCH_IDS + " hotel IDs");
+        boolean summary = "summary".equalsIgnoreCase(batchRequest.getView());
+        try {
+            Map<String, Hotel> found = hotelRepository.findAllByIds(hotelIds);
+            List<Object> hotels = new ArrayList<>(found.size());
+            for (Hotel hotel : found.values()) {
+                hotels.add(summary ? hotelSummaryCache.summaryOf(hotel) : convertToResponseDTO(hotel));
+            }
+            List<String> missingIds = hotelIds.stream().distinct().filter(id -> !found.containsKey(id)).collect(Collectors.toList());
+            return HotelBatchResponse.builder().hotels(hotels).missingIds(missingIds).build();
+        } catch (Exception e) {
+            log.error("Error retrieving hotel batch: {}", e.getMessage());
+            throw new HotelException("Failed to retrieve hotels: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Current version of a hotel from memory, or null when it has to be read first.
+     */
+    public HotelVersionIndex.Version findHotelVersion(String hotelId) {
+        return hotelCatalog.isReady() ? hotelVersionIndex.current(hotelId) : null;
+    }
+
+    public boolean isHotelOwner(String userId, String hotelId) {
+        return validateOwnership(HotelOwnershipRequest.builder()
+                .userId(userId)
+                .hotelIds(List.of(hotelId))
+                .build()).isAllOwned();
+    }
+
+    /**
+     * Answered from the owner index. Only hotels the catalog does not hold yet, such as
+     * one just created on another instance, are read from Firestore, in one batch.
+     */
+    public HotelOwnershipResponse validateOwnership(HotelOwnershipRequest ownershipRequest) {
+        String userId = ownershipRequest.getUserId();
+        List<String> hotelIds = ownershipRequest.getHotelIds();
+        if (userId == null || userId.isBlank()) throw new HotelException("User ID is required");
+        if (hotelIds == null || hotelIds.isEmpty()) throw new HotelException("At least one hotel ID is required");
+        if (hotelIds.size() > MAX_BATCH_IDS) throw new HotelException("A batch can contain at most " + MAX_BATCH_IDS + " hotel IDs");
+
+        Map<String, String> owners = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        boolean indexed = hotelCatalog.isReady();
+        for (String hotelId : new LinkedHashSet<>(hotelIds)) {
+            String owner = indexed ? hotelOwnerIndex.ownerOf(hotelId) : null;
+            if (owner != null) {
+                owners.put(hotelId, owner);
+            } else {
+                misses.add(hotelId);
+            }
+        }
+        if (!misses.isEmpty()) {
+            hotelRepository.findAllByIds(misses).forEach((hotelId, hotel) -> owners.put(hotelId, hotel.getUserId()));
+        }
+
+        List<String> ownedIds = new ArrayList<>();
+        List<String> notOwnedIds = new ArrayList<>();
+        for (String hotelId : new LinkedHashSet<>(hotelIds)) {
+            (userId.equals(owners.get(hotelId)) ? ownedIds : notOwnedIds).add(hotelId);
+        }
+        return HotelOwnershipResponse.builder()
+                .allOwned(notOwnedIds.isEmpty())
+                .ownedIds(ownedIds)
+                .notOwnedIds(notOwnedIds)
+                .build();
+    }
+
     // --- NEW METHOD ADDED HERE ---
-    public List<HotelResponseDTO> searchHotelsByName(String hotelName) {
+    public HotelPage<Object> searchHotelsByName(String hotelName, HotelPageRequest pageRequest) {
         try {
             // Uses existing findByNameContaining in repository
             List<Hotel> hotels = hotelRepository.findByNameContaining(hotelName);
-            return hotels.stream().map(this::convertToResponseDTO).collect(Collectors.toList());
+            return toPage(hotels, pageRequest);
         } catch (Exception e) {
             log.error("Error searching hotels by name: {}", e.getMessage());
             throw new HotelException("Failed to search hotels: " + e.getMessage());
@@ -178,16 +352,58 @@ public class HotelService {
     }
     // ----------------------------
 
-    public List<HotelResponseDTO> searchHotels(String location) {
+    public HotelPage<Object> searchHotels(String location, HotelPageRequest pageRequest) {
         try {
             List<Hotel> hotels = hotelRepository.findByLocationContaining(location);
-            return hotels.stream().map(this::convertToResponseDTO).collect(Collectors.toList());
+            return toPage(hotels, pageRequest);
         } catch (Exception e) {
             log.error("Error searching hotels by location: {}", e.getMessage());
             throw new HotelException("Failed to search hotels: " + e.getMessage());
         }
     }
 
+    /**
+     * Top rated hotels for a location, rendered and ready to write. Until the catalog
+     * has loaded, the list is computed from a scan and not cached; either way a hotel
+     * is listed by the board key rule of {@link HotelLeaderboardIndex#matches}, not by
+     * the substring match of {@link #searchHotels}.
+     */
+    public HotelLeaderboardIndex.Response getTopHotels(String location, int limit) {
+        if (location == null || location.trim().isEmpty()) throw new HotelException("Location parameter is required");
+        int boundedLimit = Math.min(Math.max(limit, 1), hotelLeaderboardIndex.getSize());
+        if (hotelCatalog.isReady()) {
+            return hotelLeaderboardIndex.top(location, boundedLimit);
+        }
+        List<Hotel> hotels = hotelRepository.findAll().stream()
+                .filter(hotel -> hotel.getRating() != null)
+                .filter(hotel -> HotelLeaderboardIndex.matches(location, hotel.getHotelLocation()))
+                .sorted(HotelLeaderboardIndex.RANKING)
+                .limit(boundedLimit)
+                .collect(Collectors.toList());
+        return hotelLeaderboardIndex.render(hotels, 0);
+    }
+
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.trim().isEmpty()) throw new HotelException("Query parameter is required for suggestions");
+        return hotelSuggestIndex.suggest(prefix, Math.min(Math.max(limit, 1), 20));
+    }
+
+    public List<HotelDistanceDTO> findNearbyHotels(double latitude, double longitude, double radiusKm, int limit) {
+        if (!GeoPoint.isValid(latitude, longitude)) throw new HotelException("Invalid coordinates");
+        if (radiusKm <= 0 || radiusKm > 500) throw new HotelException("Radius must be between 0 and 500 km");
+        return hotelGeoIndex.nearby(latitude, longitude, radiusKm, Math.min(Math.max(limit, 1), 200)).stream()
+                .map(match -> new HotelDistanceDTO(convertToResponseDTO(match.hotel()), match.distanceKm()))
+                .collect(Collectors.toList());
+    }
+
+    public List<HotelDistanceDTO> findHotelsWithinBounds(double minLat, double minLng, double maxLat, double maxLng, int limit) {
+        if (!GeoPoint.isValid(minLat, minLng) || !GeoPoint.isValid(maxLat, maxLng)) throw new HotelException("Invalid coordinates");
+        if (minLat > maxLat) throw new HotelException("minLat cannot be greater than maxLat");
+        return hotelGeoIndex.withinBounds(minLat, minLng, maxLat, maxLng, Math.min(Math.max(limit, 1), 500)).stream()
+                .map(match -> new HotelDistanceDTO(convertToResponseDTO(match.hotel()), match.distanceKm()))
+                .collect(Collectors.toList());
+    }
+
     private HotelResponseDTO convertToResponseDTO(Hotel hotel) {
         try {
             return HotelResponseDTO.builder()
@@ -197,6 +413,8 @@ public class HotelService {
                     .rating(hotel.getRating())
                     .hotelLocation(hotel.getHotelLocation())
                     .locationLink(hotel.getLocationLink())
+                    .latitude(hotel.getLatitude())
+                    .longitude(hotel.getLongitude())
                     .hotelImages(hotel.getHotelImages())
                     .googleMapScreenshot(hotel.getGoogleMapScreenshot())
                     .descriptions(hotel.getDescriptions())
@@ -214,43 +432,109 @@ public class HotelService {
         }
     }
 
-    public List<HotelResponseDTO> searchHotelsByLocationAndTime(String location, LocalTime checkInTime, LocalTime checkOutTime) {
+    public HotelPage<Object> searchHotelsByLocationAndTime(String location, LocalTime checkInTime, LocalTime checkOutTime, HotelPageRequest pageRequest) {
         try {
             if (location == null || location.trim().isEmpty()) throw new HotelException("Location parameter is required for search");
             List<Hotel> hotels = hotelRepository.findByLocationAndCheckInCheckOutTime(location.trim(), checkInTime, checkOutTime);
-            return hotels.stream().map(this::convertToResponseDTO).collect(Collectors.toList());
+            return toPage(hotels, pageRequest);
         } catch (Exception e) {
             log.error("Error searching hotels by location and time: {}", e.getMessage());
             throw new HotelException("Failed to search hotels by location and time: " + e.getMessage());
         }
     }
 
-    public List<HotelResponseDTO> searchHotelsByLocationAndTimeWithTolerance(String location, LocalTime checkInTime, LocalTime checkOutTime, int toleranceMinutes) {
+    public HotelPage<Object> searchHotelsByLocationAndTimeWithTolerance(String location, LocalTime checkInTime, LocalTime checkOutTime, int toleranceMinutes, HotelPageRequest pageRequest) {
         try {
             if (location == null || location.trim().isEmpty()) throw new HotelException("Location parameter is required for search");
             if (toleranceMinutes < 0) throw new HotelException("Tolerance minutes cannot be negative");
             List<Hotel> hotels = hotelRepository.findByLocationAndCheckInCheckOutTimeWithTolerance(location.trim(), checkInTime, checkOutTime, toleranceMinutes);
-            return hotels.stream().map(this::convertToResponseDTO).collect(Collectors.toList());
+            return toPage(hotels, pageRequest);
         } catch (Exception e) {
             log.error("Error searching hotels by location and time with tolerance: {}", e.getMessage());
             throw new HotelException("Failed to search hotels: " + e.getMessage());
         }
     }
 
-    public List<HotelResponseDTO> advancedHotelSearch(String location, LocalTime checkInTime, LocalTime checkOutTime, Double minRating, List<String> amenities) {
+    public TimeSlotResponse getAvailableTimeSlots(String location) {
+        try {
+            if (hotelCatalog.isReady()) {
+                HotelTimeIndex.TimeSlots slots = hotelTimeIndex.timeSlots(location);
+                return TimeSlotResponse.builder()
+                        .location(location)
+                        .availableCheckInTimes(slots.checkInTimes())
+                        .availableCheckOutTimes(slots.checkOutTimes())
+                        .totalHotels(slots.totalHotels())
+                        .build();
+            }
+            List<Hotel> hotels = hotelRepository.findByLocationContaining(location);
+            Set<LocalTime> availableCheckInTimes = new TreeSet<>();
+            Set<LocalTime> availableCheckOutTimes = new TreeSet<>();
+            for (Hotel hotel : hotels) {
+                if (hotel.getCheckinTime() != null) availableCheckInTimes.add(hotel.getCheckinTime());
+                if (hotel.getCheckoutTime() != null) availableCheckOutTimes.add(hotel.getCheckoutTime());
+            }
+            return TimeSlotResponse.builder()
+                    .location(location)
+                    .availableCheckInTimes(new ArrayList<>(availableCheckInTimes))
+                    .availableCheckOutTimes(new ArrayList<>(availableCheckOutTimes))
+                    .totalHotels(hotels.size())
+                    .build();
+        } catch (Exception e) {
+            log.error("Error getting available time slots: {}", e.getMessage());
+            throw new HotelException("Failed to get time slots: " + e.getMessage());
+        }
+    }
+
+    public HotelPage<Object> advancedHotelSearch(String location, LocalTime checkInTime, LocalTime checkOutTime, Double minRating, List<String> amenities, HotelPageRequest pageRequest) {
         try {
             if (location == null || location.trim().isEmpty()) throw new HotelException("Location parameter is required for search");
             List<Hotel> hotels = hotelRepository.findByLocationAndCheckInCheckOutTime(location.trim(), checkInTime, checkOutTime);
             Stream<Hotel> hotelStream = hotels.stream();
-            if (minRating != null) hotelStream = hotelStream.filter(hotel -> hotel.getRating() != null && hotel.getRating() >= minRating);
-            if (amenities != null && !amenities.isEmpty()) hotelStream = hotelStream.filter(hotel -> hasAllRequiredAmenities(hotel, amenities));
-            return hotelStream.map(this::convertToResponseDTO).collect(Collectors.toList());
+            if (hotelCatalog.isReady()) {
+                // Rating and amenities checked against the bitset index, compiled once per search
+                HotelAmenityIndex.AmenityFilter filter = hotelAmenityIndex.compile(minRating, amenities);
+                if (filter == null) return toPage(Collections.emptyList(), pageRequest);
+                hotelStream = hotelStream.filter(hotel -> hotelAmenityIndex.matches(hotel.getHotelId(), filter));
+            } else {
+                if (minRating != null) hotelStream = hotelStream.filter(hotel -> hotel.getRating() != null && hotel.getRating() >= minRating);
+                if (amenities != null && !amenities.isEmpty()) hotelStream = hotelStream.filter(hotel -> hasAllRequiredAmenities(hotel, amenities));
+            }
+            return toPage(hotelStream.collect(Collectors.toList()), pageRequest);
         } catch (Exception e) {
             log.error("Error in advanced hotel search: {}", e.getMessage());
             throw new HotelException("Failed to perform advanced search: " + e.getMessage());
         }
     }
 
+    /**
+     * Project only the hotels on the requested page; unpaged requests get the full list.
+     * The summary view is served from pre-serialized entries.
+     */
+    private HotelPage<Object> toPage(List<Hotel> hotels, HotelPageRequest pageRequest) {
+        List<Hotel> selected = hotels;
+        String nextCursor = null;
+        if (pageRequest != null && pageRequest.getView() != null && !pageRequest.isSummaryView()
+                && !"full".equalsIgnoreCase(pageRequest.getView())) {
+            throw new HotelException("Unsupported view: " + pageRequest.getView() + " (use full or summary)");
+        }
+        if (pageRequest != null && pageRequest.isPaged()) {
+            HotelRanking.Slice slice = HotelRanking.page(hotels, pageRequest);
+            selected = slice.hotels();
+            nextCursor = slice.nextCursor();
+        }
+
+        boolean summary = pageRequest != null && pageRequest.isSummaryView();
+        List<Object> items = new ArrayList<>(selected.size());
+        for (Hotel hotel : selected) {
+            items.add(summary ? hotelSummaryCache.summaryOf(hotel) : convertToResponseDTO(hotel));
+        }
+        return HotelPage.builder()
+                .hotels(items)
+                .nextCursor(nextCursor)
+                .totalMatches(hotels.size())
+                .build();
+    }
+
     private boolean hasAllRequiredAmenities(Hotel hotel, List<String> requiredAmenities) {
         if (hotel.getAmenities() == null || hotel.getAmenities().isEmpty()) return false;
         Set<String> hotelAmenityNames = hotel.getAmenities().stream()
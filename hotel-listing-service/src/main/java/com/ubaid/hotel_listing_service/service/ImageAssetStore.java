@@ -0,0 +1,29 @@
+package com.ubaid.hotel_listing_service.service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Listing and bulk deletion of stored images, kept behind an interface so the orphan
+ * image collector can run against a stub instead of the Cloudinary Admin API.
+ */
+public interface ImageAssetStore {
+
+    record Asset(String publicId, long bytes, Instant createdAt) {
+    }
+
+    /**
+     * One page of assets; {@code nextCursor} is null on the last page.
+     */
+    record AssetPage(List<Asset> assets, String nextCursor) {
+    }
+
+    AssetPage list(String prefix, String cursor, int pageSize) throws IOException;
+
+    /**
+     * Delete the given assets and return the ids that were actually removed.
+     */
+    Set<String> delete(List<String> publicIds) throws IOException;
+}
@@ -0,0 +1,257 @@
+package com.ubaid.hotel_listing_service.service;
+
+import com.ubaid.hotel_listing_service.dto.ImageJobDTO;
+import com.ubaid.hotel_listing_service.exception.HotelException;
+import com.ubaid.hotel_listing_service.repository.HotelRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Uploads hotel images in the background so an async create returns after a single
+ * Firestore write.
+ *
+ * Multipart parts only live as long as the request, so files are spooled to local disk
+ * on the request thread. A worker then uploads them through {@link ImageUploadExecutor}
+ * and patches the hotel's image fields. Jobs are tracked in memory on the instance that
+ * accepted them; finished jobs stay visible for {@code job-retention-minutes}.
+ */
+@Service
+@Slf4j
+public class ImageJobService {
+
+    private final ImageUploadExecutor imageUploadExecutor;
+    private final CloudinaryService cloudinaryService;
+    private final HotelRepository hotelRepository;
+    private final ExecutorService workers;
+    private final Semaphore capacity;
+    private final Path spoolDir;
+    private final long retentionMinutes;
+
+    private final Map<String, ImageJob> jobs = new ConcurrentHashMap<>();
+
+    public ImageJobService(ImageUploadExecutor imageUploadExecutor,
+                           CloudinaryService cloudinaryService,
+                           HotelRepository hotelRepository,
+                           @Value("${hotel-upload.spool-dir:${java.io.tmpdir}/hotel-image-jobs}") String spoolDir,
+                           @Value("${hotel-upload.job-workers:2}") int jobWorkers,
+                           @Value("${hotel-upload.max-pending-jobs:100}") int maxPendingJobs,
+                           @Value("${hotel-upload.job-retention-minutes:60}") long retentionMinutes) {
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.cloudinaryService = cloudinaryService;
+        this.hotelRepository = hotelRepository;
+        this.spoolDir = Paths.get(spoolDir);
+        this.capacity = new Semaphore(Math.max(1, maxPendingJobs));
+        this.retentionMinutes = retentionMinutes;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, jobWorkers), runnable -> {
+            Thread thread = new Thread(runnable, "image-job-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Files spooled by a previous process belong to jobs nobody is tracking any more.
+     */
+    @PostConstruct
+    public void clearStaleSpool() {
+        if (Files.isDirectory(spoolDir)) {
+            try (Stream<Path> stale = Files.list(spoolDir)) {
+                List<Path> dirs = stale.toList();
+                if (!dirs.isEmpty()) {
+                    log.warn("Discarding {} image jobs spooled before the last restart", dirs.size());
+                    dirs.forEach(this::deleteSpool);
+                }
+            } catch (IOException e) {
+                log.warn("Could not clear image spool {}: {}", spoolDir, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Validate and copy the request's files to disk. The job does not run until
+     * {@link #start} is called; call {@link #discard} instead if the hotel is not saved.
+     */
+    ImageJob spool(String userId, String hotelId, List<MultipartFile> hotelImages,
+                   MultipartFile googleMapScreenshot) throws IOException {
+        purgeExpired();
+        if (!capacity.tryAcquire()) {
+            throw new HotelException("Too many image uploads in progress, please try again later");
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        Path dir = spoolDir.resolve(jobId);
+        try {
+            Files.createDirectories(dir);
+            List<Path> images = new ArrayList<>();
+            if (hotelImages != null) {
+                for (MultipartFile file : hotelImages) {
+                    if (file.isEmpty()) continue;
+                    images.add(spoolFile(file, dir.resolve("image-" + images.size())));
+                }
+            }
+            Path map = null;
+            if (googleMapScreenshot != null && !googleMapScreenshot.isEmpty()) {
+                map = spoolFile(googleMapScreenshot, dir.resolve("map"));
+            }
+            return new ImageJob(jobId, userId, hotelId, dir, images, map);
+        } catch (IOException | RuntimeException e) {
+            deleteSpool(dir);
+            capacity.release();
+            throw e;
+        }
+    }
+
+    ImageJobDTO start(ImageJob job) {
+        jobs.put(job.jobId, job);
+        workers.execute(() -> run(job));
+        log.info("Queued image job {} for hotel {} with {} files", job.jobId, job.hotelId, job.total);
+        return job.toDTO();
+    }
+
+    void discard(ImageJob job) {
+        deleteSpool(job.dir);
+        capacity.release();
+    }
+
+    /**
+     * Current state of a job, visible only to the user who started it.
+     */
+    public Optional<ImageJobDTO> find(String userId, String jobId) {
+        ImageJob job = jobs.get(jobId);
+        if (job == null || !job.userId.equals(userId)) {
+            return Optional.empty();
+        }
+        return Optional.of(job.toDTO());
+    }
+
+    private void run(ImageJob job) {
+        job.update(ImageJobDTO.Status.RUNNING, null);
+
+        List<ImageUploadExecutor.Upload> uploads = new ArrayList<>();
+        for (Path image : job.images) {
+            uploads.add(new ImageUploadExecutor.Upload(image, "hotels/" + job.hotelId + "/images"));
+        }
+        if (job.map != null) {
+            uploads.add(new ImageUploadExecutor.Upload(job.map, "hotels/" + job.hotelId + "/map"));
+        }
+
+        List<String> urls = null;
+        try {
+            urls = imageUploadExecutor.uploadAll(uploads, job.uploaded::incrementAndGet);
+            int imageCount = job.images.size();
+            hotelRepository.updateImages(job.hotelId,
+                    imageCount > 0 ? new ArrayList<>(urls.subList(0, imageCount)) : null,
+                    job.map != null ? urls.get(imageCount) : null);
+            job.update(ImageJobDTO.Status.COMPLETED, null);
+            log.info("Image job {} completed for hotel {}", job.jobId, job.hotelId);
+        } catch (IOException | RuntimeException e) {
+            // uploadAll rolls back its own failures; only a failed patch leaves images behind
+            if (urls != null) {
+                imageUploadExecutor.rollback(urls);
+            }
+            job.update(ImageJobDTO.Status.FAILED, e.getMessage());
+            log.error("Image job {} failed for hotel {}: {}", job.jobId, job.hotelId, e.getMessage());
+        } finally {
+            deleteSpool(job.dir);
+            capacity.release();
+        }
+    }
+
+    private Path spoolFile(MultipartFile file, Path target) throws IOException {
+        cloudinaryService.validateImage(file);
+        file.transferTo(target);
+        return target;
+    }
+
+    private void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.updatedAt.isBefore(cutoff));
+    }
+
+    private void deleteSpool(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            log.warn("Could not delete spooled images in {}: {}", dir, e.getMessage());
+        }
+    }
+
+    /**
+     * Spooled files and progress of one async upload.
+     */
+    static final class ImageJob {
+        private final String jobId;
+        private final String userId;
+        private final String hotelId;
+        private final Path dir;
+        private final List<Path> images;
+        private final Path map;
+        private final int total;
+        private final AtomicInteger uploaded = new AtomicInteger();
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile ImageJobDTO.Status status = ImageJobDTO.Status.PENDING;
+        private volatile String error;
+        private volatile LocalDateTime updatedAt = createdAt;
+
+        private ImageJob(String jobId, String userId, String hotelId, Path dir, List<Path> images, Path map) {
+            this.jobId = jobId;
+            this.userId = userId;
+            this.hotelId = hotelId;
+            this.dir = dir;
+            this.images = images;
+            this.map = map;
+            this.total = images.size() + (map != null ? 1 : 0);
+        }
+
+        private void update(ImageJobDTO.Status status, String error) {
+            this.error = error;
+            this.status = status;
+            this.updatedAt = LocalDateTime.now();
+        }
+
+        private boolean isFinished() {
+            return status == ImageJobDTO.Status.COMPLETED || status == ImageJobDTO.Status.FAILED;
+        }
+
+        private ImageJobDTO toDTO() {
+            return ImageJobDTO.builder()
+                    .jobId(jobId)
+                    .hotelId(hotelId)
+                    .status(status)
+                    .totalImages(total)
+                    .uploadedImages(uploaded.get())
+                    .error(error)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.ubaid.hotel_listing_service.service;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Set of referenced public ids stored as 64-bit hashes in an open-addressing table,
+ * roughly 16 bytes per reference instead of a String and a HashMap node. A collision
+ * can only make an orphan look referenced, so it never causes a wrong delete.
+ */
+final class ImageReferenceSet {
+
+    private long[] slots;
+    private int size;
+
+    ImageReferenceSet(int expectedSize) {
+        slots = new long[tableSizeFor(expectedSize)];
+    }
+
+    void add(String publicId) {
+        if ((size + 1) * 2L > slots.length) {
+            resize();
+        }
+        if (insert(slots, hash(publicId))) {
+            size++;
+        }
+    }
+
+    boolean contains(String publicId) {
+        long hash = hash(publicId);
+        int mask = slots.length - 1;
+        for (int i = (int) hash & mask; slots[i] != 0; i = (i + 1) & mask) {
+            if (slots[i] == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static boolean insert(long[] table, long hash) {
+        int mask = table.length - 1;
+        int i = (int) hash & mask;
+        while (table[i] != 0) {
+            if (table[i] == hash) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = hash;
+        return true;
+    }
+
+    private void resize() {
+        long[] grown = new long[slots.length * 2];
+        for (long hash : slots) {
+            if (hash != 0) insert(grown, hash);
+        }
+        slots = grown;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int size = 16;
+        while (size < expectedSize * 2L) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    /**
+     * FNV-1a over the UTF-8 bytes with a final avalanche step; 0 marks an empty slot.
+     */
+    static long hash(String publicId) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : publicId.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash != 0 ? hash : 1;
+    }
+}
@@ -0,0 +1,186 @@
+package com.ubaid.hotel_listing_service.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Uploads the images of one request in parallel on a shared pool.
+ *
+ * The pool size caps concurrent uploads across all requests; each call additionally
+ * keeps at most {@code per-request-concurrency} uploads in flight. Results come back in
+ * submission order. The first failure stops uploads that have not started, waits for
+ * the ones already running and deletes everything that was stored, so a failed request
+ * leaves nothing behind in Cloudinary.
+ */
+@Service
+@Slf4j
+public class ImageUploadExecutor {
+
+    private final CloudinaryService cloudinaryService;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final int perRequestConcurrency;
+
+    /**
+     * One image to upload into a Cloudinary folder: a multipart part, a file already
+     * spooled to local disk, or a remote URL for Cloudinary to fetch.
+     */
+    public record Upload(MultipartFile file, Path path, String url, String folder) {
+        public Upload(MultipartFile file, String folder) {
+            this(file, null, null, folder);
+        }
+
+        public Upload(Path path, String folder) {
+            this(null, path, null, folder);
+        }
+
+        public static Upload fromUrl(String url, String folder) {
+            return new Upload(null, null, url, folder);
+        }
+    }
+
+    public ImageUploadExecutor(CloudinaryService cloudinaryService,
+                               MeterRegistry meterRegistry,
+                               @Value("${hotel-upload.max-concurrent:16}") int maxConcurrent,
+                               @Value("${hotel-upload.per-request-concurrency:4}") int perRequestConcurrency) {
+        this.cloudinaryService = cloudinaryService;
+        this.meterRegistry = meterRegistry;
+        this.perRequestConcurrency = Math.max(1, perRequestConcurrency);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, maxConcurrent), runnable -> {
+            Thread thread = new Thread(runnable, "image-upload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Upload all files and return their URLs in the same order.
+     */
+    public List<String> uploadAll(List<Upload> uploads) throws IOException {
+        return uploadAll(uploads, () -> { });
+    }
+
+    /**
+     * Upload all files and return their URLs in the same order, calling
+     * {@code onUploaded} after each file is stored.
+     */
+    public List<String> uploadAll(List<Upload> uploads, Runnable onUploaded) throws IOException {
+        if (uploads.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String[] urls = new String[uploads.size()];
+        AtomicBoolean aborted = new AtomicBoolean();
+        Map<Future<String>, Integer> inFlight = new HashMap<>();
+        CompletionService<String> completion = new ExecutorCompletionService<>(executor);
+        int next = 0;
+        try {
+            while (next < uploads.size() && inFlight.size() < perRequestConcurrency) {
+                inFlight.put(completion.submit(uploadTask(uploads.get(next), aborted)), next);
+                next++;
+            }
+            while (!inFlight.isEmpty()) {
+                Future<String> done = completion.take();
+                int index = inFlight.remove(done);
+                urls[index] = done.get();
+                onUploaded.run();
+                if (next < uploads.size()) {
+                    inFlight.put(completion.submit(uploadTask(uploads.get(next), aborted)), next);
+                    next++;
+                }
+            }
+            return Arrays.asList(urls);
+        } catch (ExecutionException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            aborted.set(true);
+            abort(inFlight.keySet(), urls);
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            throw new IOException("Image upload failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Best-effort delete of uploaded images, e.g. when the hotel could not be saved.
+     */
+    public void rollback(Collection<String> imageUrls) {
+        for (String imageUrl : imageUrls) {
+            if (imageUrl != null && !cloudinaryService.deleteImage(imageUrl)) {
+                log.warn("Could not roll back uploaded image {}", imageUrl);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Callable<String> uploadTask(Upload upload, AtomicBoolean aborted) {
+        return () -> {
+            if (aborted.get()) {
+                return null;
+            }
+            long start = System.nanoTime();
+            String outcome = "failure";
+            try {
+                String url;
+                if (upload.file() != null) {
+                    url = cloudinaryService.uploadImage(upload.file(), upload.folder());
+                } else if (upload.path() != null) {
+                    url = cloudinaryService.uploadImage(upload.path(), upload.folder());
+                } else {
+                    url = cloudinaryService.uploadImageFromUrl(upload.url(), upload.folder());
+                }
+                outcome = "success";
+                return url;
+            } finally {
+                Timer.builder("hotel.image.upload")
+                        .description("Latency of single image uploads to Cloudinary")
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    /**
+     * Wait for uploads still in flight (those not yet started return at once), then
+     * delete everything that made it to Cloudinary.
+     */
+    private void abort(Collection<Future<String>> inFlight, String[] urls) {
+        List<String> uploaded = new ArrayList<>();
+        for (String url : urls) {
+            if (url != null) uploaded.add(url);
+        }
+        for (Future<String> future : inFlight) {
+            try {
+                String url = future.get();
+                if (url != null) uploaded.add(url);
+            } catch (ExecutionException e) {
+                // Failed as well, nothing stored
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while waiting for in-flight uploads; some images may not be rolled back");
+                break;
+            }
+        }
+        log.warn("Rolling back {} uploaded images after a failed upload batch", uploaded.size());
+        rollback(uploaded);
+    }
+}
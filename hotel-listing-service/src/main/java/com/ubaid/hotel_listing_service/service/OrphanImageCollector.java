@@ -0,0 +1,219 @@
+package com.ubaid.hotel_listing_service.service;
+
+import com.ubaid.hotel_listing_service.repository.ImageReferenceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Deletes stored images that no hotel, room or user profile refers to any more, such
+ * as images replaced by an update or left behind by a deleted hotel.
+ *
+ * Each run hashes every referenced public id into an {@link ImageReferenceSet}, then
+ * pages through the configured folders and deletes unreferenced assets older than the
+ * grace period in batches, keeping a minimum gap between Admin API calls. The grace
+ * period covers uploads whose URLs are not saved yet. If the references cannot be read,
+ * nothing is deleted. In dry-run mode a run only reports what it would delete.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrphanImageCollector {
+
+    private static final int LIST_PAGE_SIZE = 500;
+    private static final int DELETE_BATCH_SIZE = 100; // Admin API limit per delete call
+
+    private final ImageReferenceRepository imageReferenceRepository;
+    private final ObjectProvider<ImageAssetStore> imageAssetStore;
+    private final CloudinaryService cloudinaryService;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${image-gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${image-gc.dry-run:true}")
+    private boolean dryRun;
+
+    @Value("${image-gc.prefixes:hotels/,rooms/,auth/users/profiles/}")
+    private List<String> prefixes;
+
+    @Value("${image-gc.min-age-hours:24}")
+    private long minAgeHours;
+
+    @Value("${image-gc.interval-hours:24}")
+    private long intervalHours;
+
+    @Value("${image-gc.min-call-interval-ms:1000}")
+    private long minCallIntervalMs;
+
+    private ScheduledExecutorService scheduler;
+    private long lastApiCallNanos;
+
+    /**
+     * Outcome of one run. In dry-run mode nothing is deleted and orphanedBytes is what a
+     * real run would reclaim.
+     */
+    public record Report(long referencedImages, long scannedAssets, long orphanedAssets, long orphanedBytes,
+                         long deletedAssets, long bytesReclaimed, boolean dryRun, long durationMillis) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "orphan-image-gc");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMinutes = Math.max(1, intervalHours) * 60;
+        // First run after one interval, so restarts do not trigger a full scan each time
+        scheduler.scheduleWithFixedDelay(this::collect, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Run one collection. Returns null if a run is already in progress or it failed.
+     */
+    public Report collect() {
+        ImageAssetStore store = imageAssetStore.getIfAvailable();
+        if (store == null) {
+            log.warn("Orphan image collection skipped: no image asset store configured");
+            return null;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.info("Orphan image collection already running");
+            return null;
+        }
+
+        long start = System.nanoTime();
+        try {
+            ImageReferenceSet referenced = new ImageReferenceSet(1 << 14);
+            long documents = imageReferenceRepository.forEachImageUrl(url -> {
+                String publicId = cloudinaryService.extractPublicIdFromUrl(url);
+                if (publicId != null) referenced.add(publicId);
+            });
+            if (referenced.size() == 0) {
+                // An empty set would mark every asset as orphaned
+                log.warn("Orphan image collection aborted: no image references found in {} documents", documents);
+                return null;
+            }
+
+            Instant cutoff = Instant.now().minus(Duration.ofHours(minAgeHours));
+            Tally tally = new Tally();
+            for (String prefix : prefixes) {
+                collectFolder(store, prefix.trim(), referenced, cutoff, tally);
+            }
+
+            Report report = new Report(referenced.size(), tally.scanned, tally.orphaned, tally.orphanedBytes,
+                    tally.deleted, tally.bytesReclaimed, dryRun, (System.nanoTime() - start) / 1_000_000);
+            meterRegistry.counter("hotel.image.gc.deleted").increment(report.deletedAssets());
+            meterRegistry.counter("hotel.image.gc.bytes.reclaimed").increment(report.bytesReclaimed());
+            log.info("Orphan image collection {}: {} references, {} assets scanned, {} orphaned ({} bytes), "
+                            + "{} deleted, {} bytes reclaimed in {} ms",
+                    dryRun ? "(dry run)" : "complete", report.referencedImages(), report.scannedAssets(),
+                    report.orphanedAssets(), report.orphanedBytes(), report.deletedAssets(),
+                    report.bytesReclaimed(), report.durationMillis());
+            return report;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Orphan image collection interrupted");
+            return null;
+        } catch (Exception e) {
+            log.error("Orphan image collection failed: {}", e.getMessage(), e);
+            return null;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void collectFolder(ImageAssetStore store, String prefix, ImageReferenceSet referenced,
+                               Instant cutoff, Tally tally) throws IOException, InterruptedException {
+        List<ImageAssetStore.Asset> batch = new ArrayList<>(DELETE_BATCH_SIZE);
+        String cursor = null;
+        do {
+            throttle();
+            ImageAssetStore.AssetPage page = store.list(prefix, cursor, LIST_PAGE_SIZE);
+            for (ImageAssetStore.Asset asset : page.assets()) {
+                tally.scanned++;
+                if (referenced.contains(asset.publicId())
+                        || asset.createdAt() == null || asset.createdAt().isAfter(cutoff)) {
+                    continue;
+                }
+                tally.orphaned++;
+                tally.orphanedBytes += asset.bytes();
+                batch.add(asset);
+                if (batch.size() == DELETE_BATCH_SIZE) {
+                    deleteBatch(store, batch, tally);
+                    batch.clear();
+                }
+            }
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        if (!batch.isEmpty()) {
+            deleteBatch(store, batch, tally);
+        }
+    }
+
+    private void deleteBatch(ImageAssetStore store, List<ImageAssetStore.Asset> batch, Tally tally)
+            throws IOException, InterruptedException {
+        if (dryRun) {
+            log.debug("Dry run: would delete {} orphaned images", batch.size());
+            return;
+        }
+        throttle();
+        Set<String> deleted = store.delete(batch.stream().map(ImageAssetStore.Asset::publicId).toList());
+        for (ImageAssetStore.Asset asset : batch) {
+            if (deleted.contains(asset.publicId())) {
+                tally.deleted++;
+                tally.bytesReclaimed += asset.bytes();
+            }
+        }
+    }
+
+    /**
+     * Keep at least min-call-interval-ms between Admin API calls; runs never overlap,
+     * so no locking is needed.
+     */
+    private void throttle() throws InterruptedException {
+        long wait = lastApiCallNanos + TimeUnit.MILLISECONDS.toNanos(minCallIntervalMs) - System.nanoTime();
+        if (lastApiCallNanos != 0 && wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+        lastApiCallNanos = System.nanoTime();
+    }
+
+    private static final class Tally {
+        private long scanned;
+        private long orphaned;
+        private long orphanedBytes;
+        private long deleted;
+        private long bytesReclaimed;
+    }
+}
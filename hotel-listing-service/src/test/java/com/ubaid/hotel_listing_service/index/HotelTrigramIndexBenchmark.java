@@ -0,0 +1,117 @@
+package com.ubaid.hotel_listing_service.index;
+
+import com.google.cloud.Timestamp;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.repository.HotelCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Substring search over 100k catalog hotels: the trigram index against the
+ * {@code toLowerCase().contains()} scan of the catalog it replaced, for a selective
+ * query, a common word, a multi-word query and a two-character query.
+ * <p>
+ * Not part of the unit test run. Compile the test sources and start {@link #main} from the
+ * IDE, or run it with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class HotelTrigramIndexBenchmark {
+
+    private static final int HOTELS = 100_000;
+
+    private static final String[] NAME_PREFIXES = {
+            "Grand", "Royal", "Ocean", "Palm", "Sunset", "Harbor", "Golden", "Green", "Silver", "Blue",
+            "Lake", "Hill", "River", "Coral", "Amber", "Cinnamon", "Jetwing", "Heritance", "Misty", "Tea"
+    };
+    private static final String[] NAME_SUFFIXES = {
+            "Hotel", "Inn", "Resort", "Suites", "Lodge", "Villa", "Retreat", "Residence", "Bungalow", "Guest House"
+    };
+    private static final String[] CITIES = {
+            "Colombo", "Galle", "Kandy", "Negombo", "Ella", "Nuwara Eliya", "Trincomalee", "Jaffna",
+            "Bentota", "Mirissa", "Sigiriya", "Anuradhapura", "Hikkaduwa", "Arugam Bay", "Matara"
+    };
+
+    @Param({"cinnamon", "hotel", "grand harbor", "ga"})
+    public String query;
+
+    private HotelCatalog hotelCatalog;
+    private HotelTrigramIndex hotelTrigramIndex;
+
+    @Setup
+    public void setUp() {
+        hotelCatalog = new HotelCatalog();
+        hotelTrigramIndex = new HotelTrigramIndex(hotelCatalog);
+        hotelTrigramIndex.register();
+
+        Random random = new Random(42);
+        for (int i = 0; i < HOTELS; i++) {
+            String name = NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)] + " "
+                    + NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)] + " "
+                    + NAME_SUFFIXES[random.nextInt(NAME_SUFFIXES.length)] + " " + i;
+            String location = (1 + random.nextInt(400)) + " Beach Road, "
+                    + CITIES[random.nextInt(CITIES.length)] + ", Sri Lanka";
+            Hotel hotel = Hotel.builder()
+                    .hotelId("hotel-" + i)
+                    .hotelName(name)
+                    .hotelLocation(location)
+                    .build();
+            hotelCatalog.upsert(hotel, Timestamp.ofTimeSecondsAndNanos(1_700_000_000L + i, 0));
+        }
+    }
+
+    @Benchmark
+    public List<Hotel> indexedNameContains() {
+        return hotelTrigramIndex.contains(HotelTrigramIndex.Field.NAME, query);
+    }
+
+    @Benchmark
+    public List<Hotel> scannedNameContains() {
+        String searchTerm = query.toLowerCase();
+        return hotelCatalog.all().stream()
+                .filter(hotel -> hotel.getHotelName() != null
+                        && hotel.getHotelName().toLowerCase().contains(searchTerm))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Hotel> indexedLocationContains() {
+        return hotelTrigramIndex.contains(HotelTrigramIndex.Field.LOCATION, query);
+    }
+
+    @Benchmark
+    public List<Hotel> scannedLocationContains() {
+        String searchTerm = query.toLowerCase();
+        return hotelCatalog.all().stream()
+                .filter(hotel -> hotel.getHotelLocation() != null
+                        && hotel.getHotelLocation().toLowerCase().contains(searchTerm))
+                .collect(Collectors.toList());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HotelTrigramIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
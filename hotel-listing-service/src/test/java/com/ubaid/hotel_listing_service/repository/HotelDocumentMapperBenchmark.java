@@ -0,0 +1,166 @@
+package com.ubaid.hotel_listing_service.repository;
+
+import com.ubaid.hotel_listing_service.entity.Amenity;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.entity.HotelDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and writes a full-collection page of hotel documents with
+ * {@link HotelDocumentMapper} and with {@link LegacyHotelConverters}. The documents are
+ * shaped like Firestore's: whole numbers come back as Long, and every document carries
+ * its own String instances, so amenity interning has real work to do.
+ * <p>
+ * Not part of the unit test run. Compile the test sources and start {@link #main} from the
+ * IDE, or run it with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HotelDocumentMapperBenchmark {
+
+    private static final int DOCUMENTS = 1_000;
+
+    private static final String[][] AMENITIES = {
+            {"Free WiFi", "wifi"}, {"Pool", "pool"}, {"Gym", "gym"}, {"Spa", "spa"},
+            {"Restaurant", "restaurant"}, {"Bar", "bar"}, {"Parking", "parking"},
+            {"Air Conditioning", "ac"}, {"Room Service", "room-service"}, {"Airport Shuttle", "shuttle"},
+            {"Beach Access", "beach"}, {"Laundry", "laundry"}, {"Kids Club", "kids"},
+            {"Pet Friendly", "pets"}, {"Business Centre", "business"}, {"Garden", "garden"}
+    };
+    private static final String[] CITIES = {"Colombo", "Galle", "Kandy", "Negombo", "Ella", "Bentota", "Mirissa"};
+
+    private final HotelDocumentMapper mapper = new HotelDocumentMapper();
+    private List<Hotel> hotels;
+    private List<Map<String, Object>> documents;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        hotels = new ArrayList<>(DOCUMENTS);
+        documents = new ArrayList<>(DOCUMENTS);
+        for (int i = 0; i < DOCUMENTS; i++) {
+            Hotel hotel = hotel("hotel-" + i, random);
+            hotels.add(hotel);
+            documents.add(asFirestoreReturnsIt(LegacyHotelConverters.toMap(hotel)));
+        }
+    }
+
+    @Benchmark
+    public void mapperRead(Blackhole blackhole) {
+        for (int i = 0; i < DOCUMENTS; i++) {
+            blackhole.consume(mapper.toHotel(documents.get(i), "hotel-" + i));
+        }
+    }
+
+    @Benchmark
+    public void legacyRead(Blackhole blackhole) {
+        for (int i = 0; i < DOCUMENTS; i++) {
+            blackhole.consume(LegacyHotelConverters.toEntity(documents.get(i), "hotel-" + i));
+        }
+    }
+
+    @Benchmark
+    public void mapperWrite(Blackhole blackhole) {
+        for (Hotel hotel : hotels) {
+            blackhole.consume(mapper.toDocument(hotel));
+        }
+    }
+
+    @Benchmark
+    public void legacyWrite(Blackhole blackhole) {
+        for (Hotel hotel : hotels) {
+            blackhole.consume(LegacyHotelConverters.toMap(hotel));
+        }
+    }
+
+    private static Hotel hotel(String id, Random random) {
+        List<String> images = new ArrayList<>();
+        for (int i = 0, count = 3 + random.nextInt(10); i < count; i++) {
+            images.add("https://res.cloudinary.com/demo/image/upload/v1700000000/hotels/" + id + "/images/" + i + ".jpg");
+        }
+        List<HotelDescription> descriptions = new ArrayList<>();
+        for (int i = 0, count = 2 + random.nextInt(4); i < count; i++) {
+            descriptions.add(new HotelDescription("Section " + i,
+                    "A short paragraph about the hotel, its rooms and what is nearby. ".repeat(1 + random.nextInt(4))));
+        }
+        List<Amenity> amenities = new ArrayList<>();
+        for (int i = 0, count = 5 + random.nextInt(AMENITIES.length - 5); i < count; i++) {
+            String[] amenity = AMENITIES[i];
+            amenities.add(new Amenity(amenity[0], amenity[1], random.nextInt(10) > 0));
+        }
+        double latitude = 5.9 + random.nextDouble() * 3.9;
+        double longitude = 79.7 + random.nextDouble() * 2.1;
+        return Hotel.builder()
+                .hotelId(id)
+                .userId("owner-" + random.nextInt(200))
+                .hotelName("Hotel " + id)
+                .rating(1 + random.nextInt(9) / 2.0)
+                .hotelLocation(CITIES[random.nextInt(CITIES.length)] + ", Sri Lanka")
+                .locationLink("https://maps.google.com/?q=" + latitude + "," + longitude)
+                .latitude(latitude)
+                .longitude(longitude)
+                .hotelImages(images)
+                .googleMapScreenshot("https://res.cloudinary.com/demo/image/upload/v1700000000/hotels/" + id + "/map/m.png")
+                .descriptions(descriptions)
+                .amenities(amenities)
+                .extraBeds(random.nextInt(4))
+                .perExtraBedPrice(1500 + 500 * random.nextInt(5))
+                .checkinTime(LocalTime.of(12 + random.nextInt(4), 0))
+                .checkoutTime(LocalTime.of(10 + random.nextInt(3), 30 * random.nextInt(2)))
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(random.nextInt(500_000)))
+                .updatedAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(random.nextInt(500_000)))
+                .build();
+    }
+
+    /**
+     * Copy of the document data with fresh Strings and Long in place of Integer.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T asFirestoreReturnsIt(T value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new HashMap<>();
+            map.forEach((key, field) -> copy.put((String) key, asFirestoreReturnsIt(field)));
+            return (T) copy;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(element -> copy.add(asFirestoreReturnsIt(element)));
+            return (T) copy;
+        }
+        if (value instanceof String text) {
+            return (T) new String(text);
+        }
+        if (value instanceof Integer number) {
+            return (T) Long.valueOf(number);
+        }
+        return value;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HotelDocumentMapperBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
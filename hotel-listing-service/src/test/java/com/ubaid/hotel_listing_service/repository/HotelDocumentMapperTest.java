@@ -0,0 +1,139 @@
+package com.ubaid.hotel_listing_service.repository;
+
+import com.ubaid.hotel_listing_service.entity.Amenity;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.entity.HotelDescription;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the mapper to the document format written by the original converters, which
+ * are kept in {@link LegacyHotelConverters} as the reference.
+ */
+class HotelDocumentMapperTest {
+
+    private final HotelDocumentMapper mapper = new HotelDocumentMapper();
+
+    @Test
+    void writesTheSameDocumentAsTheOriginalConverter() {
+        Hotel hotel = sampleHotel("h1");
+
+        assertThat(mapper.toDocument(hotel)).isEqualTo(LegacyHotelConverters.toMap(hotel));
+    }
+
+    @Test
+    void omitsMissingListsButKeepsNullScalars() {
+        Hotel hotel = sampleHotel("h1");
+        hotel.setDescriptions(null);
+        hotel.setAmenities(null);
+        hotel.setLocationLink(null);
+
+        Map<String, Object> document = mapper.toDocument(hotel);
+
+        assertThat(document).isEqualTo(LegacyHotelConverters.toMap(hotel));
+        assertThat(document).doesNotContainKeys("descriptions", "amenities");
+        assertThat(document).containsEntry("locationLink", null);
+    }
+
+    @Test
+    void readsTheSameHotelAsTheOriginalConverter() {
+        Map<String, Object> document = LegacyHotelConverters.toMap(sampleHotel("h1"));
+
+        assertThat(mapper.toHotel(document, "h1")).isEqualTo(LegacyHotelConverters.toEntity(document, "h1"));
+    }
+
+    @Test
+    void roundTripsAHotelAtMillisecondPrecision() {
+        Hotel hotel = sampleHotel("h1");
+        hotel.setCreatedAt(LocalDateTime.of(2024, 5, 1, 10, 15, 30, 123_456_789));
+
+        Hotel read = mapper.toHotel(mapper.toDocument(hotel), "h1");
+
+        assertThat(read.getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 5, 1, 10, 15, 30, 123_000_000));
+        read.setCreatedAt(hotel.getCreatedAt());
+        assertThat(read).isEqualTo(hotel);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sharesAmenityStringsAndTimesAcrossDocuments() {
+        Hotel first = mapper.toHotel(LegacyHotelConverters.toMap(sampleHotel("h1")), "h1");
+        Map<String, Object> second = LegacyHotelConverters.toMap(sampleHotel("h2"));
+        // Firestore hands out a fresh String per document
+        ((List<Map<String, Object>>) second.get("amenities")).get(0).put("name", new String("Free WiFi"));
+
+        Hotel read = mapper.toHotel(second, "h2");
+
+        assertThat(read.getAmenities().get(0).getName()).isSameAs(first.getAmenities().get(0).getName());
+        assertThat(read.getCheckinTime()).isSameAs(first.getCheckinTime());
+    }
+
+    @Test
+    void toleratesSparseAndLooselyTypedDocuments() {
+        Map<String, Object> document = new HashMap<>();
+        document.put("hotelName", "Sparse");
+        document.put("rating", 4L);
+        document.put("latitude", 6.9);
+        document.put("extraBeds", 2);
+        Map<String, Object> amenity = new HashMap<>();
+        amenity.put("name", "Pool");
+        amenity.put("available", null);
+        document.put("amenities", List.of(amenity));
+
+        LocalDateTime before = LocalDateTime.now();
+        Hotel hotel = mapper.toHotel(document, "h3");
+
+        assertThat(hotel.getHotelId()).isEqualTo("h3");
+        assertThat(hotel.getRating()).isEqualTo(4.0);
+        assertThat(hotel.getExtraBeds()).isEqualTo(2);
+        assertThat(hotel.getLatitude()).isNull(); // No longitude
+        assertThat(hotel.getAmenities()).containsExactly(new Amenity("Pool", null, false));
+        assertThat(hotel.getDescriptions()).isNull();
+        assertThat(hotel.getCheckinTime()).isNull();
+        assertThat(hotel.getCreatedAt()).isAfterOrEqualTo(before);
+        assertThat(hotel.getUpdatedAt()).isAfterOrEqualTo(before);
+    }
+
+    @Test
+    void readsLegacyDateTimestamps() {
+        Map<String, Object> document = LegacyHotelConverters.toMap(sampleHotel("h1"));
+        LocalDateTime createdAt = LocalDateTime.of(2023, 1, 2, 3, 4, 5);
+        document.put("createdAt", Date.from(createdAt.toInstant(ZoneOffset.UTC)));
+
+        assertThat(mapper.toHotel(document, "h1").getCreatedAt()).isEqualTo(createdAt);
+    }
+
+    private static Hotel sampleHotel(String id) {
+        return Hotel.builder()
+                .hotelId(id)
+                .userId("owner-1")
+                .hotelName("Ocean Breeze")
+                .rating(4.5)
+                .hotelLocation("Galle, Sri Lanka")
+                .locationLink("https://maps.google.com/?q=6.0329,80.2168")
+                .latitude(6.0329)
+                .longitude(80.2168)
+                .hotelImages(new ArrayList<>(List.of("https://res.cloudinary.com/demo/image/upload/v1/hotels/" + id + "/images/a.jpg")))
+                .googleMapScreenshot("https://res.cloudinary.com/demo/image/upload/v1/hotels/" + id + "/map/m.png")
+                .descriptions(new ArrayList<>(List.of(
+                        new HotelDescription("About", "Beachfront hotel"),
+                        new HotelDescription("Dining", "Two restaurants"))))
+                .amenities(new ArrayList<>(List.of(
+                        new Amenity("Free WiFi", "wifi", true),
+                        new Amenity("Pool", "pool", true),
+                        new Amenity("Gym", null, false))))
+                .extraBeds(3)
+                .perExtraBedPrice(2500)
+                .checkinTime(LocalTime.of(14, 0))
+                .checkoutTime(LocalTime.of(11, 30))
+                .createdAt(LocalDateTime.of(2024, 5, 1, 10, 15, 30, 123_000_000))
+                .updatedAt(LocalDateTime.of(2024, 6, 2, 8, 0))
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.ubaid.hotel_listing_service.repository;
+
+import com.google.cloud.Timestamp;
+import com.ubaid.hotel_listing_service.entity.Amenity;
+import com.ubaid.hotel_listing_service.entity.Hotel;
+import com.ubaid.hotel_listing_service.entity.HotelDescription;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * The converters HotelRepository used before {@link HotelDocumentMapper}, kept as the
+ * reference for its tests and benchmark.
+ */
+final class LegacyHotelConverters {
+
+    private LegacyHotelConverters() {
+    }
+
+    static Map<String, Object> toMap(Hotel hotel) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("hotelId", hotel.getHotelId());
+        map.put("userId", hotel.getUserId());
+        map.put("hotelName", hotel.getHotelName());
+        map.put("rating", hotel.getRating());
+        map.put("hotelLocation", hotel.getHotelLocation());
+        map.put("locationLink", hotel.getLocationLink());
+        map.put("latitude", hotel.getLatitude());
+        map.put("longitude", hotel.getLongitude());
+        map.put("hotelImages", hotel.getHotelImages());
+        map.put("googleMapScreenshot", hotel.getGoogleMapScreenshot());
+        if (hotel.getDescriptions() != null) {
+            List<Map<String, Object>> descriptions = new ArrayList<>();
+            for (HotelDescription desc : hotel.getDescriptions()) {
+                Map<String, Object> descMap = new HashMap<>();
+                descMap.put("title", desc.getTitle());
+                descMap.put("description", desc.getDescription());
+                descriptions.add(descMap);
+            }
+            map.put("descriptions", descriptions);
+        }
+        if (hotel.getAmenities() != null) {
+            List<Map<String, Object>> amenities = new ArrayList<>();
+            for (Amenity amenity : hotel.getAmenities()) {
+                Map<String, Object> amenityMap = new HashMap<>();
+                amenityMap.put("name", amenity.getName());
+                amenityMap.put("icon", amenity.getIcon());
+                amenityMap.put("available", amenity.isAvailable());
+                amenities.add(amenityMap);
+            }
+            map.put("amenities", amenities);
+        }
+        map.put("extraBeds", hotel.getExtraBeds());
+        map.put("perExtraBedPrice", hotel.getPerExtraBedPrice());
+        map.put("checkinTime", hotel.getCheckinTime() != null ? hotel.getCheckinTime().toString() : null);
+        map.put("checkoutTime", hotel.getCheckoutTime() != null ? hotel.getCheckoutTime().toString() : null);
+        map.put("createdAt", Timestamp.of(Date.from(hotel.getCreatedAt().toInstant(ZoneOffset.UTC))));
+        map.put("updatedAt", Timestamp.of(Date.from(hotel.getUpdatedAt().toInstant(ZoneOffset.UTC))));
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Hotel toEntity(Map<String, Object> data, String id) {
+        Hotel hotel = new Hotel();
+        hotel.setHotelId(id);
+        hotel.setUserId((String) data.get("userId"));
+        hotel.setHotelName((String) data.get("hotelName"));
+        hotel.setRating((Double) data.get("rating"));
+        hotel.setHotelLocation((String) data.get("hotelLocation"));
+        hotel.setLocationLink((String) data.get("locationLink"));
+        if (data.get("latitude") != null && data.get("longitude") != null) {
+            hotel.setLatitude(((Number) data.get("latitude")).doubleValue());
+            hotel.setLongitude(((Number) data.get("longitude")).doubleValue());
+        }
+        hotel.setHotelImages((List<String>) data.get("hotelImages"));
+        hotel.setGoogleMapScreenshot((String) data.get("googleMapScreenshot"));
+        if (data.get("descriptions") != null) {
+            List<HotelDescription> descriptions = new ArrayList<>();
+            for (Map<String, Object> descMap : (List<Map<String, Object>>) data.get("descriptions")) {
+                descriptions.add(new HotelDescription((String) descMap.get("title"), (String) descMap.get("description")));
+            }
+            hotel.setDescriptions(descriptions);
+        }
+        if (data.get("amenities") != null) {
+            List<Amenity> amenities = new ArrayList<>();
+            for (Map<String, Object> amenityMap : (List<Map<String, Object>>) data.get("amenities")) {
+                amenities.add(new Amenity((String) amenityMap.get("name"), (String) amenityMap.get("icon"),
+                        (Boolean) amenityMap.getOrDefault("available", false)));
+            }
+            hotel.setAmenities(amenities);
+        }
+        if (data.get("extraBeds") != null) {
+            hotel.setExtraBeds(((Number) data.get("extraBeds")).intValue());
+        }
+        if (data.get("perExtraBedPrice") != null) {
+            hotel.setPerExtraBedPrice(((Number) data.get("perExtraBedPrice")).intValue());
+        }
+        if (data.get("checkinTime") != null) {
+            hotel.setCheckinTime(LocalTime.parse((String) data.get("checkinTime")));
+        }
+        if (data.get("checkoutTime") != null) {
+            hotel.setCheckoutTime(LocalTime.parse((String) data.get("checkoutTime")));
+        }
+        hotel.setCreatedAt(LocalDateTime.ofInstant(((Timestamp) data.get("createdAt")).toDate().toInstant(), ZoneOffset.UTC));
+        hotel.setUpdatedAt(LocalDateTime.ofInstant(((Timestamp) data.get("updatedAt")).toDate().toInstant(), ZoneOffset.UTC));
+        return hotel;
+    }
+}
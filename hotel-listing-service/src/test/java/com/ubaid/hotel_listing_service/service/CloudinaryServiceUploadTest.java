@@ -0,0 +1,179 @@
+package com.ubaid.hotel_listing_service.service;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test for the multipart upload path: a full hotel's worth of 5MB parts is uploaded
+ * concurrently to a local stand-in for the Cloudinary upload API, and no upload thread may
+ * allocate anywhere near the size of the part it sends.
+ */
+class CloudinaryServiceUploadTest {
+
+    private static final int UPLOADS = 12;
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicLong bytesReceived = new AtomicLong();
+    private ExecutorService serverThreads;
+    private HttpServer server;
+    private CloudinaryService cloudinaryService;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        serverThreads = Executors.newFixedThreadPool(UPLOADS);
+        server.setExecutor(serverThreads);
+        server.createContext("/", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                bytesReceived.addAndGet(body.transferTo(OutputStream.nullOutputStream()));
+            }
+            byte[] response = "{\"secure_url\":\"https://res.cloudinary.com/demo/image/upload/v1/hotels/h1/a.jpg\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+
+        Cloudinary cloudinary = new Cloudinary(ObjectUtils.asMap(
+                "cloud_name", "demo",
+                "api_key", "key",
+                "api_secret", "secret",
+                "upload_prefix", "http://localhost:" + server.getAddress().getPort()
+        ));
+        cloudinaryService = new CloudinaryService(cloudinary, new ObjectMapper());
+    }
+
+    @AfterEach
+    void stopServer() throws IOException {
+        server.stop(0);
+        serverThreads.shutdownNow();
+        cloudinaryService.closeHttpClient();
+    }
+
+    @Test
+    void concurrentUploadsStreamPartsWithoutCopyingThemOntoTheHeap() throws Exception {
+        List<MultipartFile> parts = new ArrayList<>();
+        for (int i = 0; i < UPLOADS; i++) {
+            parts.add(new DiskPart(writePart("image-" + i + ".jpg")));
+        }
+        // Load classes and open the first connection outside the measured uploads
+        cloudinaryService.uploadImage(parts.get(0), "hotels/h1");
+        bytesReceived.set(0);
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ExecutorService uploaders = Executors.newFixedThreadPool(UPLOADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Long>> allocated = new ArrayList<>();
+            for (MultipartFile part : parts) {
+                allocated.add(uploaders.submit(() -> {
+                    start.await();
+                    long before = threads.getCurrentThreadAllocatedBytes();
+                    assertThat(cloudinaryService.uploadImage(part, "hotels/h1")).startsWith("https://");
+                    return threads.getCurrentThreadAllocatedBytes() - before;
+                }));
+            }
+            start.countDown();
+
+            for (Future<Long> bytes : allocated) {
+                assertThat(bytes.get()).isLessThan(PART_SIZE / 5);
+            }
+        } finally {
+            uploaders.shutdownNow();
+        }
+        assertThat(bytesReceived.get()).isGreaterThanOrEqualTo((long) UPLOADS * PART_SIZE);
+    }
+
+    private Path writePart(String name) throws IOException {
+        byte[] chunk = new byte[64 * 1024];
+        new Random(name.hashCode()).nextBytes(chunk);
+        Path path = tempDir.resolve(name);
+        try (OutputStream out = Files.newOutputStream(path)) {
+            for (int written = 0; written < PART_SIZE; written += chunk.length) {
+                out.write(chunk);
+            }
+        }
+        return path;
+    }
+
+    /**
+     * A part the servlet container has already buffered to disk, as it is with
+     * {@code file-size-threshold: 0B}. Reading it whole fails the test.
+     */
+    private record DiskPart(Path path) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "hotelImages";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return path.getFileName().toString();
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/jpeg";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return PART_SIZE;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException("upload must stream the part");
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) {
+            throw new UnsupportedOperationException("upload must not copy the part");
+        }
+    }
+}
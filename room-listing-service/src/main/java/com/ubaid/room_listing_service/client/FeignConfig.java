@@ -1,18 +1,32 @@
 package com.ubaid.room_listing_service.client;
 
+import feign.Client;
 import feign.Logger;
 import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class FeignConfig {
 
+    @Value("${feign-transport.revalidation-max-entries:2000}")
+    private int revalidationMaxEntries;
+
     @Bean
     Logger.Level feignLoggerLevel() {
         return Logger.Level.FULL;
     }
 
+    /**
+     * Hotel lookups are revalidated with If-None-Match instead of refetched.
+     */
+    @Bean
+    public Client feignClient(MeterRegistry meterRegistry) {
+        return new RevalidatingFeignClient(new Client.Default(null, null), revalidationMaxEntries, meterRegistry);
+    }
+
     @Bean
     public ErrorDecoder errorDecoder() {
         return new CustomErrorDecoder();
@@ -18,6 +18,10 @@ public interface HotelServiceClient {
     @GetMapping("/api/hotels/public/{hotelId}")
     Map<String, Object> getHotelById(@PathVariable String hotelId);
 
+    // 200 only for hotels that were deleted and are being cleaned up
+    @GetMapping("/api/hotels/public/deletions/{hotelId}")
+    ApiResponse<Object> getHotelDeletion(@PathVariable String hotelId);
+
     @GetMapping("/api/hotels/validate-ownership")
     ApiResponse<Boolean> validateHotelOwnership(@RequestParam String userId,
                                                 @RequestParam String hotelId,
@@ -78,6 +78,7 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
 
     private boolean isPublicEndpoint(String uri) {
         return uri.startsWith("/api/rooms/public/") ||
+                uri.startsWith("/api/rooms/internal/") ||
                 uri.startsWith("/actuator/") ||
                 uri.startsWith("/v3/api-docs") ||
                 uri.startsWith("/swagger-ui") ||
@@ -10,13 +10,18 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final AuthenticationInterceptor authenticationInterceptor;
+    private final InternalAuthInterceptor internalAuthInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(internalAuthInterceptor)
+                .addPathPatterns("/api/rooms/internal/**");
+
         registry.addInterceptor(authenticationInterceptor)
                 .addPathPatterns("/api/rooms/**")
                 .excludePathPatterns(
                         "/api/rooms/public/**",
+                        "/api/rooms/internal/**",
                         "/actuator/**",
                         "/v3/api-docs/**",
                         "/swagger-ui/**",
@@ -11,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -26,6 +27,7 @@ public class RoomController {
     public ResponseEntity<ApiResponse<RoomResponseDTO>> createRoom(
             @RequestParam("room") String roomJson,
             @RequestParam(value = "roomImages", required = false) List<MultipartFile> roomImages,
+            @RequestParam(value = "async", defaultValue = "false") boolean async,
             HttpServletRequest request) {
 
         String userId = (String) request.getAttribute("userId");
@@ -44,7 +46,13 @@ public class RoomController {
         try {
             RoomRequestDTO roomRequest = objectMapper.readValue(roomJson, RoomRequestDTO.class);
 
-            RoomResponseDTO room = roomService.createRoom(userId, roomRequest, roomImages, authHeader);
+            RoomResponseDTO room = roomService.createRoom(userId, roomRequest, roomImages, authHeader, async);
+            if (room.getImageJob() != null) {
+                // Saved; images are still uploading and can be tracked at the job URL
+                return ResponseEntity.accepted()
+                        .location(URI.create("/api/rooms/image-jobs/" + room.getImageJob().getJobId()))
+                        .body(ApiResponse.success("Room created, images are being processed", room));
+            }
             return ResponseEntity.ok(ApiResponse.success("Room created successfully", room));
         } catch (Exception e) {
             log.error("Error creating room: {}", e.getMessage());
@@ -53,6 +61,70 @@ public class RoomController {
         }
     }
 
+    @GetMapping("/image-jobs/{jobId}")
+    public ResponseEntity<ApiResponse<ImageJobDTO>> getImageJob(@PathVariable String jobId,
+                                                                HttpServletRequest request) {
+        String userId = (String) request.getAttribute("userId");
+        if (userId == null) {
+            return ResponseEntity.status(401)
+                    .body(ApiResponse.error("User authentication required"));
+        }
+
+        return roomService.findImageJob(userId, jobId)
+                .map(job -> ResponseEntity.ok(ApiResponse.success("Image job retrieved successfully", job)))
+                .orElseGet(() -> ResponseEntity.status(404).body(ApiResponse.error("Image job not found")));
+    }
+
+    /**
+     * Used by hotel-listing-service to clean up after a hotel is deleted; only answers
+     * for hotels that hotel-listing-service reports as deleted.
+     */
+    @GetMapping("/internal/hotels/{hotelId}/room-ids")
+    public ResponseEntity<ApiResponse<List<String>>> getRoomIdsOfDeletedHotel(
+            @PathVariable String hotelId,
+            @RequestParam(defaultValue = "100") int limit) {
+        try {
+            List<String> roomIds = roomService.getRoomIdsOfDeletedHotel(hotelId, limit);
+            return ResponseEntity.ok(ApiResponse.success("Room ids retrieved successfully", roomIds));
+        } catch (Exception e) {
+            log.error("Error retrieving room ids of deleted hotel: {}", e.getMessage());
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("Failed to retrieve room ids: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * The given room ids that belong to the hotel; lets booking-service check ids it
+     * is asked to purge.
+     */
+    @PostMapping("/internal/hotels/{hotelId}/room-ids/filter")
+    public ResponseEntity<ApiResponse<List<String>>> filterRoomIdsOfHotel(
+            @PathVariable String hotelId,
+            @RequestBody List<String> roomIds) {
+        try {
+            List<String> hotelRoomIds = roomService.filterRoomIdsOfHotel(hotelId, roomIds);
+            return ResponseEntity.ok(ApiResponse.success("Room ids filtered successfully", hotelRoomIds));
+        } catch (Exception e) {
+            log.error("Error filtering room ids of hotel: {}", e.getMessage());
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("Failed to filter room ids: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/internal/hotels/{hotelId}/purge")
+    public ResponseEntity<ApiResponse<Integer>> purgeRoomsOfDeletedHotel(
+            @PathVariable String hotelId,
+            @RequestBody List<String> roomIds) {
+        try {
+            int deleted = roomService.purgeRoomsOfDeletedHotel(hotelId, roomIds);
+            return ResponseEntity.ok(ApiResponse.success("Rooms purged successfully", deleted));
+        } catch (Exception e) {
+            log.error("Error purging rooms of deleted hotel: {}", e.getMessage());
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("Failed to purge rooms: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/my-rooms")
     public ResponseEntity<ApiResponse<List<RoomResponseDTO>>> getMyRooms(HttpServletRequest request) {
         String userId = (String) request.getAttribute("userId");
@@ -1,5 +1,6 @@
 package com.ubaid.room_listing_service.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.ubaid.room_listing_service.entity.InvoiceDetails;
 import com.ubaid.room_listing_service.enums.*;
 import lombok.AllArgsConstructor;
@@ -47,4 +48,6 @@ public class RoomResponseDTO {
 //    private String createdAt;
 //    private String updatedAt;
     private Boolean isActive;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ImageJobDTO imageJob; // Only on async creates, while images are still uploading
 }
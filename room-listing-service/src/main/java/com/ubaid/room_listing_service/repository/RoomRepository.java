@@ -122,6 +122,55 @@ public class RoomRepository {
         }
     }
 
+    /**
+     * Set the image URLs of an existing room without rewriting the rest of the document.
+     * Used by background image jobs; fails if the room was deleted in the meantime.
+     */
+    public void updateImages(String roomId, List<String> roomImages) {
+        try {
+            firestore.collection(COLLECTION_NAME).document(roomId).update("roomImages", roomImages).get();
+            log.info("Updated images for room {}", roomId);
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error updating images for room {}: {}", roomId, e.getMessage());
+            throw new RoomException("Failed to update room images: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Ids of up to {@code limit} rooms of a hotel, active or not.
+     */
+    public List<String> findIdsByHotelId(String hotelId, int limit) {
+        try {
+            Query query = firestore.collection(COLLECTION_NAME)
+                    .whereEqualTo("hotelId", hotelId)
+                    .select("hotelId")
+                    .limit(limit);
+
+            List<String> roomIds = new ArrayList<>();
+            for (DocumentSnapshot document : query.get().get().getDocuments()) {
+                roomIds.add(document.getId());
+            }
+            return roomIds;
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error finding room ids by hotelId {}: {}", hotelId, e.getMessage());
+            throw new RoomException("Failed to find rooms: " + e.getMessage());
+        }
+    }
+
+    public void deleteAll(List<Room> rooms) {
+        try {
+            WriteBatch batch = firestore.batch();
+            for (Room room : rooms) {
+                batch.delete(firestore.collection(COLLECTION_NAME).document(room.getRoomId()));
+            }
+            batch.commit().get();
+            log.info("Deleted {} rooms", rooms.size());
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Error deleting rooms: {}", e.getMessage());
+            throw new RoomException("Failed to delete rooms: " + e.getMessage());
+        }
+    }
+
     public void delete(Room room) {
         try {
             DocumentReference docRef = firestore.collection(COLLECTION_NAME).document(room.getRoomId());
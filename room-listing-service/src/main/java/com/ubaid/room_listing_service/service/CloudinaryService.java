@@ -1,13 +1,27 @@
 package com.ubaid.room_listing_service.service;
 
 import com.cloudinary.Cloudinary;
+import com.cloudinary.Util;
 import com.cloudinary.utils.ObjectUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.HttpMultipartMode;
+import org.apache.http.entity.mime.MultipartEntityBuilder;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Map;
 
 @Service
@@ -15,19 +29,70 @@ import java.util.Map;
 @Slf4j
 public class CloudinaryService {
 
-    private final Cloudinary cloudinary;
+    private static final TypeReference<Map<String, Object>> UPLOAD_RESULT = new TypeReference<>() {};
+
+    // Enough connections for every upload worker to stream at once; the client default is 2 per host
+    private static final int MAX_UPLOAD_CONNECTIONS = 32;
 
+    private final Cloudinary cloudinary;
+    private final ObjectMapper objectMapper;
+    private final CloseableHttpClient httpClient = HttpClients.custom()
+            .setMaxConnPerRoute(MAX_UPLOAD_CONNECTIONS)
+            .setMaxConnTotal(MAX_UPLOAD_CONNECTIONS)
+            .build();
+
+    /**
+     * Upload a multipart part straight from its own input stream. The SDK only streams
+     * {@code File} sources, so the signed request is sent here and the part is never
+     * read onto the heap or copied to a second file.
+     */
     public String uploadImage(MultipartFile file, String folder) {
+        Map<String, Object> uploadOptions = uploadOptions(folder);
+        Map<String, Object> params = Util.buildUploadParams(uploadOptions);
+        cloudinary.signRequest(params, uploadOptions);
+
+        MultipartEntityBuilder multipart = MultipartEntityBuilder.create()
+                .setMode(HttpMultipartMode.BROWSER_COMPATIBLE);
+        ContentType text = ContentType.TEXT_PLAIN.withCharset(StandardCharsets.UTF_8);
+        params.forEach((name, value) -> {
+            if (value != null) {
+                multipart.addTextBody(name, value.toString(), text);
+            }
+        });
+
+        HttpPost post = new HttpPost(cloudinary.cloudinaryApiUrl("upload", uploadOptions));
+        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename() : "file";
+        try (InputStream content = file.getInputStream()) {
+            multipart.addBinaryBody("file", content, ContentType.APPLICATION_OCTET_STREAM, filename);
+            post.setEntity(multipart.build());
+            try (CloseableHttpResponse response = httpClient.execute(post)) {
+                Map<String, Object> uploadResult = objectMapper.readValue(response.getEntity().getContent(), UPLOAD_RESULT);
+                if (response.getStatusLine().getStatusCode() != 200 || uploadResult.get("secure_url") == null) {
+                    throw new IOException("Cloudinary responded " + response.getStatusLine().getStatusCode()
+                            + ": " + uploadResult.get("error"));
+                }
+                String imageUrl = (String) uploadResult.get("secure_url");
+                log.info("Image uploaded successfully: {}", imageUrl);
+                return imageUrl;
+            }
+        } catch (IOException e) {
+            log.error("Error uploading image to Cloudinary: {}", e.getMessage());
+            throw new RuntimeException("Failed to upload image: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void closeHttpClient() throws IOException {
+        httpClient.close();
+    }
+
+    /**
+     * Upload a file that is already on local disk, e.g. one spooled for a background
+     * image job. The caller owns the file and deletes it afterwards.
+     */
+    public String uploadImage(Path file, String folder) {
         try {
-            Map<String, Object> uploadResult = cloudinary.uploader().upload(
-                    file.getBytes(),
-                    ObjectUtils.asMap(
-                            "folder", folder,
-                            "resource_type", "auto",
-                            "quality", "auto:good",
-                            "fetch_format", "auto"
-                    )
-            );
+            Map<String, Object> uploadResult = cloudinary.uploader().upload(file.toFile(), uploadOptions(folder));
 
             String imageUrl = (String) uploadResult.get("secure_url");
             log.info("Image uploaded successfully: {}", imageUrl);
@@ -39,6 +104,15 @@ public class CloudinaryService {
         }
     }
 
+    private Map<String, Object> uploadOptions(String folder) {
+        return ObjectUtils.asMap(
+                "folder", folder,
+                "resource_type", "auto",
+                "quality", "auto:good",
+                "fetch_format", "auto"
+        );
+    }
+
     public boolean deleteImage(String imageUrl) {
         try {
             if (imageUrl == null || imageUrl.isEmpty()) {
@@ -0,0 +1,228 @@
+package com.ubaid.room_listing_service.service;
+
+import com.ubaid.room_listing_service.dto.ImageJobDTO;
+import com.ubaid.room_listing_service.exception.RoomException;
+import com.ubaid.room_listing_service.repository.RoomRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Uploads room images in the background so an async create returns after a single
+ * Firestore write.
+ *
+ * Multipart parts only live as long as the request, so files are spooled to local disk
+ * on the request thread. A worker then uploads them and patches the room's roomImages.
+ * Jobs are tracked in memory on the instance that accepted them; finished jobs stay
+ * visible for {@code job-retention-minutes}.
+ */
+@Service
+@Slf4j
+public class ImageJobService {
+
+    private final CloudinaryService cloudinaryService;
+    private final RoomRepository roomRepository;
+    private final ExecutorService workers;
+    private final Semaphore capacity;
+    private final Path spoolDir;
+    private final long retentionMinutes;
+
+    private final Map<String, ImageJob> jobs = new ConcurrentHashMap<>();
+
+    public ImageJobService(CloudinaryService cloudinaryService,
+                           RoomRepository roomRepository,
+                           @Value("${room-upload.spool-dir:${java.io.tmpdir}/room-image-jobs}") String spoolDir,
+                           @Value("${room-upload.job-workers:2}") int jobWorkers,
+                           @Value("${room-upload.max-pending-jobs:100}") int maxPendingJobs,
+                           @Value("${room-upload.job-retention-minutes:60}") long retentionMinutes) {
+        this.cloudinaryService = cloudinaryService;
+        this.roomRepository = roomRepository;
+        this.spoolDir = Paths.get(spoolDir);
+        this.capacity = new Semaphore(Math.max(1, maxPendingJobs));
+        this.retentionMinutes = retentionMinutes;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, jobWorkers), runnable -> {
+            Thread thread = new Thread(runnable, "image-job-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Files spooled by a previous process belong to jobs nobody is tracking any more.
+     */
+    @PostConstruct
+    public void clearStaleSpool() {
+        if (Files.isDirectory(spoolDir)) {
+            try (Stream<Path> stale = Files.list(spoolDir)) {
+                List<Path> dirs = stale.toList();
+                if (!dirs.isEmpty()) {
+                    log.warn("Discarding {} image jobs spooled before the last restart", dirs.size());
+                    dirs.forEach(this::deleteSpool);
+                }
+            } catch (IOException e) {
+                log.warn("Could not clear image spool {}: {}", spoolDir, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Copy the request's files to disk. The job does not run until {@link #start} is
+     * called; call {@link #discard} instead if the room is not saved.
+     */
+    ImageJob spool(String userId, String roomId, List<MultipartFile> roomImages) throws IOException {
+        purgeExpired();
+        if (!capacity.tryAcquire()) {
+            throw new RoomException("Too many image uploads in progress, please try again later");
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        Path dir = spoolDir.resolve(jobId);
+        try {
+            Files.createDirectories(dir);
+            List<Path> images = new ArrayList<>();
+            for (MultipartFile file : roomImages) {
+                if (file.isEmpty()) continue;
+                Path target = dir.resolve("image-" + images.size());
+                file.transferTo(target);
+                images.add(target);
+            }
+            return new ImageJob(jobId, userId, roomId, dir, images);
+        } catch (IOException | RuntimeException e) {
+            deleteSpool(dir);
+            capacity.release();
+            throw e;
+        }
+    }
+
+    ImageJobDTO start(ImageJob job) {
+        jobs.put(job.jobId, job);
+        workers.execute(() -> run(job));
+        log.info("Queued image job {} for room {} with {} files", job.jobId, job.roomId, job.images.size());
+        return job.toDTO();
+    }
+
+    void discard(ImageJob job) {
+        deleteSpool(job.dir);
+        capacity.release();
+    }
+
+    /**
+     * Current state of a job, visible only to the user who started it.
+     */
+    public Optional<ImageJobDTO> find(String userId, String jobId) {
+        ImageJob job = jobs.get(jobId);
+        if (job == null || !job.userId.equals(userId)) {
+            return Optional.empty();
+        }
+        return Optional.of(job.toDTO());
+    }
+
+    private void run(ImageJob job) {
+        job.update(ImageJobDTO.Status.RUNNING, null);
+        List<String> uploadedImages = new ArrayList<>();
+        try {
+            for (Path image : job.images) {
+                uploadedImages.add(cloudinaryService.uploadImage(image, "rooms/" + job.roomId));
+                job.uploaded.incrementAndGet();
+            }
+            roomRepository.updateImages(job.roomId, uploadedImages);
+            job.update(ImageJobDTO.Status.COMPLETED, null);
+            log.info("Image job {} completed for room {}", job.jobId, job.roomId);
+        } catch (RuntimeException e) {
+            // Leave nothing behind in Cloudinary for a room that never got its images
+            uploadedImages.forEach(cloudinaryService::deleteImage);
+            job.update(ImageJobDTO.Status.FAILED, e.getMessage());
+            log.error("Image job {} failed for room {}: {}", job.jobId, job.roomId, e.getMessage());
+        } finally {
+            deleteSpool(job.dir);
+            capacity.release();
+        }
+    }
+
+    private void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.updatedAt.isBefore(cutoff));
+    }
+
+    private void deleteSpool(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            log.warn("Could not delete spooled images in {}: {}", dir, e.getMessage());
+        }
+    }
+
+    /**
+     * Spooled files and progress of one async upload.
+     */
+    static final class ImageJob {
+        private final String jobId;
+        private final String userId;
+        private final String roomId;
+        private final Path dir;
+        private final List<Path> images;
+        private final AtomicInteger uploaded = new AtomicInteger();
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile ImageJobDTO.Status status = ImageJobDTO.Status.PENDING;
+        private volatile String error;
+        private volatile LocalDateTime updatedAt = createdAt;
+
+        private ImageJob(String jobId, String userId, String roomId, Path dir, List<Path> images) {
+            this.jobId = jobId;
+            this.userId = userId;
+            this.roomId = roomId;
+            this.dir = dir;
+            this.images = images;
+        }
+
+        private void update(ImageJobDTO.Status status, String error) {
+            this.error = error;
+            this.status = status;
+            this.updatedAt = LocalDateTime.now();
+        }
+
+        private boolean isFinished() {
+            return status == ImageJobDTO.Status.COMPLETED || status == ImageJobDTO.Status.FAILED;
+        }
+
+        private ImageJobDTO toDTO() {
+            return ImageJobDTO.builder()
+                    .jobId(jobId)
+                    .roomId(roomId)
+                    .status(status)
+                    .totalImages(images.size())
+                    .uploadedImages(uploaded.get())
+                    .error(error)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+}
@@ -14,10 +14,12 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,6 +32,7 @@ public class RoomService {
 
     private final RoomRepository roomRepository;
     private final CloudinaryService cloudinaryService;
+    private final ImageJobService imageJobService;
     private final AuthServiceClient authServiceClient;
     private final HotelServiceClient hotelServiceClient;
 
@@ -38,7 +41,8 @@ public class RoomService {
 
 
     public RoomResponseDTO createRoom(String userId, RoomRequestDTO roomRequest,
-                                      List<MultipartFile> roomImages, String authToken) {
+                                      List<MultipartFile> roomImages, String authToken,
+                                      boolean asyncImages) {
         try {
             validateUser(userId, authToken);
             validateHotelOwnership(userId, roomRequest.getHotelId(), authToken);
@@ -79,6 +83,10 @@ public class RoomService {
                     .isActive(true)
                     .build();
 
+            if (asyncImages && roomImages != null && roomImages.stream().anyMatch(file -> !file.isEmpty())) {
+                return createWithImageJob(userId, room, roomImages);
+            }
+
             // Upload images if provided
             if (roomImages != null && !roomImages.isEmpty()) {
                 List<String> uploadedImages = new ArrayList<>();
@@ -97,6 +105,29 @@ public class RoomService {
         }
     }
 
+    /**
+     * Save the room without images and hand the spooled files to a background job,
+     * which fills in roomImages once the uploads finish.
+     */
+    private RoomResponseDTO createWithImageJob(String userId, Room room, List<MultipartFile> roomImages)
+            throws IOException {
+        ImageJobService.ImageJob job = imageJobService.spool(userId, room.getRoomId(), roomImages);
+        Room savedRoom;
+        try {
+            savedRoom = roomRepository.save(room);
+        } catch (RuntimeException e) {
+            imageJobService.discard(job);
+            throw e;
+        }
+        RoomResponseDTO response = convertToResponseDTO(savedRoom);
+        response.setImageJob(imageJobService.start(job));
+        return response;
+    }
+
+    public Optional<ImageJobDTO> findImageJob(String userId, String jobId) {
+        return imageJobService.find(userId, jobId);
+    }
+
     // Helper method to convert InvoiceDetailsRequest to InvoiceDetails
     private InvoiceDetails convertToInvoiceDetails(InvoiceDetailsRequest request) {
         if (request == null) {
@@ -312,6 +343,71 @@ public class RoomService {
         }
     }
 
+    /**
+     * Ids of rooms still left for a deleted hotel, for hotel-listing-service's cleanup.
+     */
+    public List<String> getRoomIdsOfDeletedHotel(String hotelId, int limit) {
+        validateHotelDeleted(hotelId);
+        return roomRepository.findIdsByHotelId(hotelId, Math.min(Math.max(limit, 1), 500));
+    }
+
+    /**
+     * Delete the given rooms of a deleted hotel together with their images. Ids that
+     * are already gone or belong to another hotel are skipped.
+     */
+    public int purgeRoomsOfDeletedHotel(String hotelId, List<String> roomIds) {
+        validateHotelDeleted(hotelId);
+        if (roomIds.size() > 500) {
+            throw new RoomException("At most 500 rooms can be purged at once");
+        }
+
+        List<Room> rooms = findRoomsOfHotel(hotelId, roomIds);
+        for (Room room : rooms) {
+            if (room.getRoomImages() != null) {
+                room.getRoomImages().forEach(cloudinaryService::deleteImage);
+            }
+        }
+        if (!rooms.isEmpty()) {
+            roomRepository.deleteAll(rooms);
+        }
+        log.info("Purged {} rooms of deleted hotel {}", rooms.size(), hotelId);
+        return rooms.size();
+    }
+
+    /**
+     * The given room ids that exist and belong to the hotel, in request order.
+     */
+    public List<String> filterRoomIdsOfHotel(String hotelId, List<String> roomIds) {
+        if (roomIds.size() > 500) {
+            throw new RoomException("At most 500 room ids can be checked at once");
+        }
+        return findRoomsOfHotel(hotelId, roomIds).stream().map(Room::getRoomId).toList();
+    }
+
+    private List<Room> findRoomsOfHotel(String hotelId, List<String> roomIds) {
+        List<Room> rooms = new ArrayList<>();
+        for (String roomId : new LinkedHashSet<>(roomIds)) {
+            roomRepository.findById(roomId)
+                    .filter(room -> hotelId.equals(room.getHotelId()))
+                    .ifPresent(rooms::add);
+        }
+        return rooms;
+    }
+
+    private void validateHotelDeleted(String hotelId) {
+        try {
+            ApiResponse<Object> response = hotelServiceClient.getHotelDeletion(hotelId);
+            if (response == null || !response.isSuccess()) {
+                throw new RoomException("Hotel " + hotelId + " is not deleted");
+            }
+        } catch (RoomException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Hotel deletion check failed for hotelId {}: {}", hotelId, e.getMessage());
+            throw new RoomException("Hotel deletion check failed: " + e.getMessage());
+        }
+    }
+
     private void validateHotelOwnership(String userId, String hotelId, String authToken) {
         try {
             ApiResponse<Boolean> response = hotelServiceClient.validateHotelOwnership(userId, hotelId, authToken);